@@ -0,0 +1,100 @@
+package com.edwn.unihack.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Thin wrapper around the backend's REST API.
+ */
+public class BackendClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public BackendClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.replaceAll("/$", "");
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getWebSocketUrl() {
+        return baseUrl.replaceFirst("^http", "ws") + "/ws-poker";
+    }
+
+    public String createRoom() throws IOException, InterruptedException {
+        return post("/api/game/dealer/create", "{}").get("id").asText();
+    }
+
+    public JsonNode addFakePlayer(String gameCode, String name) throws IOException, InterruptedException {
+        return post("/api/game/dealer/add-fake-player",
+                objectMapper.createObjectNode().put("gameCode", gameCode).put("name", name).toString());
+    }
+
+    // A fake player the backend's bots play with the named strategy
+    public JsonNode addBotPlayer(String gameCode, String name, String botStrategy) throws IOException, InterruptedException {
+        return post("/api/game/dealer/add-fake-player", objectMapper.createObjectNode()
+                .put("gameCode", gameCode).put("name", name).put("botStrategy", botStrategy).toString());
+    }
+
+    public void startGame(String gameCode) throws IOException, InterruptedException {
+        post("/api/game/" + gameCode + "/start", "{}");
+    }
+
+    public CompletableFuture<HttpResponse<String>> scanAsync(String gameCode, String suit, String rank) {
+        String body = objectMapper.createObjectNode().put("suit", suit).put("rank", rank).toString();
+        return httpClient.sendAsync(jsonPost("/api/scanner/" + gameCode + "/scan", body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // A numbered read, as a scanner that retries sends it
+    public CompletableFuture<HttpResponse<String>> scanAsync(String gameCode, String suit, String rank,
+                                                             String scannerId, long seq) {
+        String body = objectMapper.createObjectNode().put("suit", suit).put("rank", rank).toString();
+        return httpClient.sendAsync(numbered(jsonPostBuilder("/api/scanner/" + gameCode + "/scan", body), scannerId, seq),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    // A raw NFC tag UID, resolved by the backend's deck registry
+    public CompletableFuture<HttpResponse<String>> scanTagAsync(String gameCode, String uid, String venue,
+                                                                String scannerId, long seq) {
+        String body = objectMapper.createObjectNode().put("uid", uid).put("venue", venue).toString();
+        return httpClient.sendAsync(numbered(jsonPostBuilder("/api/scanner/" + gameCode + "/scan-tag", body), scannerId, seq),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode post(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(jsonPost(path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest jsonPost(String path, String body) {
+        return jsonPostBuilder(path, body).build();
+    }
+
+    private HttpRequest.Builder jsonPostBuilder(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest numbered(HttpRequest.Builder request, String scannerId, long seq) {
+        return request.header("X-Scanner-Id", scannerId)
+                .header("X-Scan-Seq", Long.toString(seq))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.edwn.unihack.loadgen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blocking client for the backend's binary ingest port (see the backend's IngestProtocol).
+ * Writes are buffered so many frames can be pipelined before a {@link #flush()}; reading is
+ * meant for a single thread.
+ */
+public class IngestClient implements Closeable {
+    public static final byte ROLE_SCANNER = 0;
+    public static final byte ROLE_PLAYER = 1;
+    public static final int ACK = 0x81;
+    public static final int STATE = 0x82;
+    public static final int DEALT = 0; // ScanStatus.DEALT
+    public static final int ACCEPTED = 0x40;
+
+    private static final byte AUTH = 0x01;
+    private static final byte SCAN = 0x02;
+    private static final byte ACTION = 0x03;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    public IngestClient(String host, int port) throws IOException {
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port), 10_000);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+    }
+
+    public synchronized void auth(byte role, String gameCode, String id) throws IOException {
+        byte[] code = gameCode.getBytes(StandardCharsets.UTF_8);
+        byte[] name = id.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(1 + 1 + 1 + code.length + 1 + name.length);
+        out.writeByte(AUTH);
+        out.writeByte(role);
+        out.writeByte(code.length);
+        out.write(code);
+        out.writeByte(name.length);
+        out.write(name);
+    }
+
+    public synchronized void scan(long seq, int cardId) throws IOException {
+        out.writeShort(6);
+        out.writeByte(SCAN);
+        out.writeInt((int) seq);
+        out.writeByte(cardId);
+    }
+
+    // type is a GameAction.ActionType ordinal
+    public synchronized void action(long seq, int type, int amount) throws IOException {
+        out.writeShort(10);
+        out.writeByte(ACTION);
+        out.writeInt((int) seq);
+        out.writeByte(type);
+        out.writeInt(amount);
+    }
+
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Reads the next frame's payload into a heap buffer of at least 64 KiB, ready to be read.
+     *
+     * @return the frame type
+     */
+    public int read(ByteBuffer payload) throws IOException {
+        int frameLength = in.readUnsignedShort();
+        int type = in.readUnsignedByte();
+        payload.clear();
+        in.readFully(payload.array(), 0, frameLength - 1);
+        payload.limit(frameLength - 1);
+        return type;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
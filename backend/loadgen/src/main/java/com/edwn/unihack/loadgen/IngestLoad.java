@@ -0,0 +1,125 @@
+package com.edwn.unihack.loadgen;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput run against the binary ingest port ({@code --ingest host:port}). Each connection
+ * authenticates as a scanner to a room of its own and keeps {@code --window} numbered SCAN
+ * frames in flight, writing them in batches. The rooms are never started, so almost every scan
+ * is acked as not dealt: the acks/s column is the cost of a rejected message through the ingest
+ * path, not of dealing, and dealt/s counts the scans that did deal a card.
+ */
+public class IngestLoad {
+    private final AtomicLong acks = new AtomicLong();
+    private final AtomicLong dealt = new AtomicLong();
+    private final AtomicLong stateFrames = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private volatile boolean running = true;
+
+    public static void run(BackendClient backend, String target, int connections, int duration, int window)
+            throws Exception {
+        int colon = target.lastIndexOf(':');
+        String host = target.substring(0, colon);
+        int port = Integer.parseInt(target.substring(colon + 1));
+        new IngestLoad().measure(backend, host, port, connections, duration, window);
+    }
+
+    private void measure(BackendClient backend, String host, int port, int connections, int duration, int window)
+            throws Exception {
+        List<IngestClient> clients = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            IngestClient client = new IngestClient(host, port);
+            client.auth(IngestClient.ROLE_SCANNER, backend.createRoom(), "loadgen-" + i);
+            client.flush();
+            clients.add(client);
+
+            Semaphore inFlight = new Semaphore(window);
+            threads.add(new Thread(() -> readLoop(client, inFlight), "Ingest-Reader-" + i));
+            threads.add(new Thread(() -> writeLoop(client, inFlight, Math.max(1, window / 4)), "Ingest-Writer-" + i));
+        }
+        threads.forEach(thread -> {
+            thread.setDaemon(true);
+            thread.start();
+        });
+
+        System.out.printf("Ingest %s:%d, %d connections, %d scans in flight each%n", host, port, connections, window);
+        System.out.println("  seconds      acks/s   dealt/s   state/s  errors");
+        long totalAcks = 0;
+        long totalDealt = 0;
+        for (int second = 1; second <= duration; second++) {
+            long before = acks.get();
+            long dealtBefore = dealt.get();
+            long statesBefore = stateFrames.get();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+            long interval = acks.get() - before;
+            long dealtInterval = dealt.get() - dealtBefore;
+            totalAcks += interval;
+            totalDealt += dealtInterval;
+            System.out.printf("%9d %11d %9d %9d %7d%n", second, interval, dealtInterval,
+                    stateFrames.get() - statesBefore, errors.get());
+        }
+        System.out.printf("Acknowledged %d scans in %ds: %.0f per second, %d of them dealt%n",
+                totalAcks, duration, (double) totalAcks / duration, totalDealt);
+
+        running = false;
+        for (IngestClient client : clients) {
+            client.close();
+        }
+    }
+
+    private void writeLoop(IngestClient client, Semaphore inFlight, int batch) {
+        long seq = 1;
+        try {
+            while (running) {
+                inFlight.acquire(batch);
+                for (int i = 0; i < batch; i++, seq++) {
+                    client.scan(seq, (int) (seq % 52));
+                }
+                client.flush();
+            }
+        } catch (IOException e) {
+            if (running) {
+                errors.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void readLoop(IngestClient client, Semaphore inFlight) {
+        ByteBuffer payload = ByteBuffer.allocate(64 * 1024);
+        try {
+            boolean authenticated = false;
+            while (running) {
+                int type = client.read(payload);
+                if (type == IngestClient.STATE) {
+                    stateFrames.incrementAndGet();
+                } else if (type == IngestClient.ACK && !authenticated) {
+                    authenticated = true; // The AUTH ack
+                    if ((payload.get(4) & 0xFF) != IngestClient.ACCEPTED) {
+                        System.err.println("Ingest AUTH refused with status " + (payload.get(4) & 0xFF));
+                        errors.incrementAndGet();
+                        return;
+                    }
+                } else if (type == IngestClient.ACK) {
+                    acks.incrementAndGet();
+                    if ((payload.get(4) & 0xFF) == IngestClient.DEALT) {
+                        dealt.incrementAndGet();
+                    }
+                    inFlight.release();
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.edwn.unihack.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless load generator for the poker backend.
+ * <p>
+ * Fixed mode ({@code --rooms N --duration S}) runs N tables for S seconds and prints latency
+ * percentiles. Ramp mode ({@code --ramp-step K}) adds K tables every {@code --ramp-interval}
+ * seconds until the interval's p99 action-to-broadcast latency exceeds {@code --slo-p99-ms}
+ * or operations start timing out, then reports the last passing room count, also divided by
+ * {@code --server-cores}. With {@code --ingest host:port} it instead floods the binary ingest
+ * port with scans from {@code --connections} scanners; see {@link IngestLoad}.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int rooms = Integer.parseInt(options.getOrDefault("rooms", "10"));
+        int players = Integer.parseInt(options.getOrDefault("players", "4"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        long thinkMs = Long.parseLong(options.getOrDefault("think-ms", "0"));
+        long timeoutMs = Long.parseLong(options.getOrDefault("timeout-ms", "5000"));
+        int rampStep = Integer.parseInt(options.getOrDefault("ramp-step", "0"));
+        int rampInterval = Integer.parseInt(options.getOrDefault("ramp-interval", "15"));
+        int maxRooms = Integer.parseInt(options.getOrDefault("max-rooms", "100000"));
+        double sloP99Ms = Double.parseDouble(options.getOrDefault("slo-p99-ms", "100"));
+        int serverCores = Integer.parseInt(options.getOrDefault("server-cores", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL) // cluster nodes answer with 307 to the room owner
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        BackendClient backend = new BackendClient(httpClient, objectMapper, url);
+        if (options.containsKey("ingest")) {
+            IngestLoad.run(backend, options.get("ingest"),
+                    Integer.parseInt(options.getOrDefault("connections", "4")), duration,
+                    Integer.parseInt(options.getOrDefault("window", "256")));
+            System.exit(0);
+        }
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(threads);
+
+        Recorder actionLatency = new Recorder(3);
+        Recorder scanLatency = new Recorder(3);
+        SimulatedTable.Counters counters = new SimulatedTable.Counters();
+        List<SimulatedTable> tables = new ArrayList<>();
+        Histogram totalActions = new Histogram(3);
+        Histogram totalScans = new Histogram(3);
+
+        scheduler.scheduleAtFixedRate(() -> {
+            synchronized (tables) {
+                tables.forEach(SimulatedTable::checkTimeout);
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        System.out.printf("Target %s, %d players per room, think time %dms%n", url, players, thinkMs);
+        System.out.println("  rooms   actions/s   scans/s    p50 ms    p99 ms    max ms   timeouts  errors");
+
+        int sustainable = 0;
+        if (rampStep > 0) {
+            while (tables.size() < maxRooms) {
+                addTables(tables, rampStep, players, backend, objectMapper, httpClient, scheduler,
+                        actionLatency, scanLatency, counters, thinkMs, timeoutMs);
+                actionLatency.getIntervalHistogram();
+                scanLatency.getIntervalHistogram();
+                long timeoutsBefore = counters.timeouts.get();
+
+                Histogram interval = measure(tables.size(), rampInterval, actionLatency, scanLatency,
+                        counters, totalActions, totalScans);
+                boolean healthy = interval.getTotalCount() > 0
+                        && interval.getValueAtPercentile(99) / 1000.0 <= sloP99Ms
+                        && counters.timeouts.get() == timeoutsBefore;
+                if (!healthy) {
+                    break;
+                }
+                sustainable = tables.size();
+            }
+        } else {
+            addTables(tables, rooms, players, backend, objectMapper, httpClient, scheduler,
+                    actionLatency, scanLatency, counters, thinkMs, timeoutMs);
+            for (int elapsed = 0; elapsed < duration; elapsed += 5) {
+                measure(tables.size(), Math.min(5, duration - elapsed), actionLatency, scanLatency,
+                        counters, totalActions, totalScans);
+            }
+        }
+
+        System.out.println();
+        printSummary("Action -> broadcast", totalActions);
+        printSummary("Scan -> broadcast", totalScans);
+        System.out.printf("Hands played: %d, timeouts: %d, errors: %d%n",
+                counters.hands.get(), counters.timeouts.get(), counters.errors.get());
+        if (rampStep > 0) {
+            System.out.printf("Max sustainable rooms at p99 <= %.0fms: %d (%.1f per server core over %d cores)%n",
+                    sloP99Ms, sustainable, (double) sustainable / serverCores, serverCores);
+        }
+
+        synchronized (tables) {
+            tables.forEach(SimulatedTable::stop);
+        }
+        scheduler.shutdownNow();
+        System.exit(0);
+    }
+
+    private static void addTables(List<SimulatedTable> tables, int count, int players, BackendClient backend,
+                                  ObjectMapper objectMapper, HttpClient httpClient, ScheduledExecutorService scheduler,
+                                  Recorder actionLatency, Recorder scanLatency, SimulatedTable.Counters counters,
+                                  long thinkMs, long timeoutMs) throws Exception {
+        for (int i = 0; i < count; i++) {
+            String gameCode = backend.createRoom();
+            SimulatedTable table = new SimulatedTable(gameCode, backend, objectMapper, scheduler,
+                    actionLatency, scanLatency, counters, thinkMs, timeoutMs, gameCode.hashCode());
+            table.start(StompClient.connect(httpClient, backend.getWebSocketUrl()), players);
+            synchronized (tables) {
+                tables.add(table);
+            }
+        }
+    }
+
+    private static Histogram measure(int rooms, int seconds, Recorder actionLatency, Recorder scanLatency,
+                                     SimulatedTable.Counters counters, Histogram totalActions,
+                                     Histogram totalScans) throws InterruptedException {
+        long timeoutsBefore = counters.timeouts.get();
+        long errorsBefore = counters.errors.get();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+
+        Histogram actions = actionLatency.getIntervalHistogram();
+        Histogram scans = scanLatency.getIntervalHistogram();
+        totalActions.add(actions);
+        totalScans.add(scans);
+
+        System.out.printf("%7d %11.0f %9.0f %9.2f %9.2f %9.2f %10d %7d%n",
+                rooms,
+                actions.getTotalCount() / (double) seconds,
+                scans.getTotalCount() / (double) seconds,
+                actions.getValueAtPercentile(50) / 1000.0,
+                actions.getValueAtPercentile(99) / 1000.0,
+                actions.getMaxValue() / 1000.0,
+                counters.timeouts.get() - timeoutsBefore,
+                counters.errors.get() - errorsBefore);
+        return actions;
+    }
+
+    private static void printSummary(String label, Histogram histogram) {
+        System.out.printf("%-20s count=%d p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    public static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String key = args[i].substring(2);
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                options.put(key.substring(0, eq), key.substring(eq + 1));
+            } else if (i + 1 < args.length) {
+                options.put(key, args[++i]);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,224 @@
+package com.edwn.unihack.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One room driven end to end: cards go in through the scanner REST endpoint, player actions
+ * through STOMP, and every operation waits for the broadcast it causes before the next one is
+ * issued (closed loop). An operation counts as done on the first broadcast whose action history
+ * has moved past the one it was issued from, however many broadcasts the server sends. The time from submitting an operation to receiving its broadcast is
+ * recorded in microseconds.
+ */
+public class SimulatedTable {
+    private static final String[] SUITS = {"HEARTS", "DIAMONDS", "CLUBS", "SPADES"};
+    private static final String[] RANKS = {"TWO", "THREE", "FOUR", "FIVE", "SIX", "SEVEN", "EIGHT",
+            "NINE", "TEN", "JACK", "QUEEN", "KING", "ACE"};
+
+    private final String gameCode;
+    private final List<String> playerIds = new ArrayList<>();
+    private final BackendClient backend;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final Recorder actionLatency;
+    private final Recorder scanLatency;
+    private final Counters counters;
+    private final long thinkMs;
+    private final long timeoutNanos;
+    private final SplittableRandom random;
+    private final int[] deck = new int[52];
+    private StompClient stomp;
+    private int deckPosition = 52;
+
+    // Guarded by this
+    private JsonNode lastState;
+    private long pendingSince;
+    private boolean pendingIsScan;
+    private long pendingAfterSeq; // Seq of the last action when the pending operation was issued
+
+    public SimulatedTable(String gameCode, BackendClient backend, ObjectMapper objectMapper,
+                          ScheduledExecutorService scheduler, Recorder actionLatency, Recorder scanLatency,
+                          Counters counters, long thinkMs, long timeoutMs, long seed) {
+        this.gameCode = gameCode;
+        this.backend = backend;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.actionLatency = actionLatency;
+        this.scanLatency = scanLatency;
+        this.counters = counters;
+        this.thinkMs = thinkMs;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Seats the fake players, opens the table's WebSocket and deals the first hand.
+     */
+    public void start(StompClient stompClient, int players) throws Exception {
+        this.stomp = stompClient;
+        for (int i = 0; i < players; i++) {
+            playerIds.add(backend.addFakePlayer(gameCode, "Bot " + (i + 1)).get("id").asText());
+        }
+
+        stomp.subscribe("/topic/game/" + gameCode, this::onBroadcast);
+
+        synchronized (this) {
+            shuffle();
+            expect(false, -1);
+        }
+        backend.startGame(gameCode);
+    }
+
+    public void stop() {
+        stomp.close();
+    }
+
+    /**
+     * Re-drives the table if its last operation never produced a broadcast.
+     */
+    public void checkTimeout() {
+        JsonNode state;
+        synchronized (this) {
+            if (pendingSince == 0 || System.nanoTime() - pendingSince < timeoutNanos) {
+                return;
+            }
+            pendingSince = 0;
+            state = lastState;
+        }
+
+        counters.timeouts.incrementAndGet();
+        if (state != null) {
+            drive(state);
+        }
+    }
+
+    private void onBroadcast(String body) {
+        JsonNode state;
+        try {
+            state = objectMapper.readTree(body);
+        } catch (Exception e) {
+            counters.errors.incrementAndGet();
+            return;
+        }
+
+        synchronized (this) {
+            lastState = state;
+            if (pendingSince == 0 || lastActionSeq(state) <= pendingAfterSeq) {
+                return;
+            }
+
+            long micros = (System.nanoTime() - pendingSince) / 1000;
+            (pendingIsScan ? scanLatency : actionLatency).recordValue(micros);
+            (pendingIsScan ? counters.scans : counters.actions).incrementAndGet();
+            pendingSince = 0;
+        }
+
+        if (thinkMs > 0) {
+            scheduler.schedule(() -> drive(state), thinkMs, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler.execute(() -> drive(state));
+        }
+    }
+
+    private void drive(JsonNode state) {
+        try {
+            String gameState = state.path("gameState").asText();
+            long seq = lastActionSeq(state);
+
+            if ("SHOWDOWN".equals(gameState) || "ENDED".equals(gameState)) {
+                counters.hands.incrementAndGet();
+                synchronized (this) {
+                    shuffle();
+                    expect(false, seq);
+                }
+                stomp.send("/app/game/" + gameCode + "/action", "{\"type\":\"START_HAND\"}");
+            } else if (state.path("waitingForCards").asBoolean()) {
+                int card;
+                synchronized (this) {
+                    if (deckPosition == deck.length) shuffle();
+                    card = deck[deckPosition++];
+                    expect(true, seq);
+                }
+                backend.scanAsync(gameCode, SUITS[card / 13], RANKS[card % 13])
+                        .whenComplete((response, error) -> {
+                            if (error != null || response.statusCode() >= 400) {
+                                counters.errors.incrementAndGet();
+                            }
+                        });
+            } else {
+                sendPlayerAction(state, seq);
+            }
+        } catch (RuntimeException e) {
+            counters.errors.incrementAndGet();
+        }
+    }
+
+    private void sendPlayerAction(JsonNode state, long seq) {
+        int index = state.path("currentPlayerIndex").asInt();
+        JsonNode player = state.path("players").path(index);
+        String playerId = player.path("id").asText(playerIds.get(0));
+
+        int currentBet = state.path("currentBet").asInt();
+        int myBet = state.path("bets").path(playerId).asInt(0);
+        int roll = random.nextInt(100);
+
+        String type;
+        if (roll < 8) {
+            type = "FOLD";
+        } else if (roll < 20 && player.path("chips").asInt() > 40) {
+            type = "RAISE";
+        } else {
+            type = myBet < currentBet ? "CALL" : "CHECK";
+        }
+
+        synchronized (this) {
+            expect(false, seq);
+        }
+        stomp.send("/app/game/" + gameCode + "/action",
+                "{\"type\":\"" + type + "\",\"playerId\":\"" + playerId + "\",\"amount\":20}");
+    }
+
+    private void expect(boolean scan, long afterSeq) {
+        pendingIsScan = scan;
+        pendingAfterSeq = afterSeq;
+        pendingSince = System.nanoTime();
+    }
+
+    // Every accepted action is recorded with the next seq of its room, so this only grows
+    private static long lastActionSeq(JsonNode state) {
+        JsonNode actions = state.path("actions");
+        return actions.size() > 0 ? actions.get(actions.size() - 1).path("seq").asLong() : 0;
+    }
+
+    private void shuffle() {
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+        for (int i = deck.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = tmp;
+        }
+        deckPosition = 0;
+    }
+
+    /**
+     * Totals shared by every table.
+     */
+    public static class Counters {
+        final AtomicLong actions = new AtomicLong();
+        final AtomicLong scans = new AtomicLong();
+        final AtomicLong hands = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+    }
+}
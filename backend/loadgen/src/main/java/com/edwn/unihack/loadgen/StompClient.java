@@ -0,0 +1,120 @@
+package com.edwn.unihack.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Minimal STOMP 1.2 client over the JDK WebSocket, enough to talk to the backend's simple broker.
+ * Message callbacks run on the WebSocket's listener thread and should hand off real work.
+ */
+public class StompClient implements WebSocket.Listener {
+    private final Map<String, Consumer<String>> subscriptions = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final StringBuilder partial = new StringBuilder();
+    private WebSocket webSocket;
+    private int nextSubscriptionId;
+    private CompletableFuture<WebSocket> sendChain = CompletableFuture.completedFuture(null);
+
+    /**
+     * Opens the WebSocket and completes the STOMP handshake.
+     */
+    public static StompClient connect(HttpClient httpClient, String wsUrl) throws Exception {
+        StompClient client = new StompClient();
+        client.webSocket = httpClient.newWebSocketBuilder()
+                .buildAsync(URI.create(wsUrl), client)
+                .get(10, TimeUnit.SECONDS);
+        client.sendFrame("CONNECT\naccept-version:1.2\nhost:" + URI.create(wsUrl).getHost() + "\nheart-beat:0,0\n\n");
+        client.connected.get(10, TimeUnit.SECONDS);
+        return client;
+    }
+
+    public synchronized void subscribe(String destination, Consumer<String> onMessage) {
+        String id = "sub-" + nextSubscriptionId++;
+        subscriptions.put(destination, onMessage);
+        sendFrame("SUBSCRIBE\nid:" + id + "\ndestination:" + destination + "\n\n");
+    }
+
+    public void send(String destination, String jsonBody) {
+        sendFrame("SEND\ndestination:" + destination + "\ncontent-type:application/json\n\n" + jsonBody);
+    }
+
+    public void close() {
+        if (webSocket != null) {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+        }
+    }
+
+    private synchronized void sendFrame(String frame) {
+        // The JDK WebSocket allows one outstanding send at a time, so chain them
+        sendChain = sendChain.thenCompose(ignored -> webSocket.sendText(frame + "\0", true));
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        int end;
+        while ((end = partial.indexOf("\0")) >= 0) {
+            String frame = partial.substring(0, end);
+            partial.delete(0, end + 1);
+            handleFrame(frame);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        connected.completeExceptionally(new IllegalStateException("Closed: " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        connected.completeExceptionally(error);
+    }
+
+    private void handleFrame(String frame) {
+        // Heart-beats arrive as bare newlines
+        int start = 0;
+        while (start < frame.length() && (frame.charAt(start) == '\n' || frame.charAt(start) == '\r')) {
+            start++;
+        }
+        if (start == frame.length()) {
+            return;
+        }
+
+        int headerEnd = frame.indexOf("\n\n", start);
+        String head = headerEnd < 0 ? frame.substring(start) : frame.substring(start, headerEnd);
+        String body = headerEnd < 0 ? "" : frame.substring(headerEnd + 2);
+        String[] lines = head.split("\n");
+        String command = lines[0];
+
+        if ("CONNECTED".equals(command)) {
+            connected.complete(null);
+        } else if ("MESSAGE".equals(command)) {
+            String destination = header(lines, "destination");
+            Consumer<String> callback = destination != null ? subscriptions.get(destination) : null;
+            if (callback != null) {
+                callback.accept(body);
+            }
+        } else if ("ERROR".equals(command)) {
+            System.err.println("STOMP error: " + header(lines, "message") + " " + body);
+        }
+    }
+
+    private static String header(String[] lines, String name) {
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].startsWith(name + ":")) {
+                return lines[i].substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+}
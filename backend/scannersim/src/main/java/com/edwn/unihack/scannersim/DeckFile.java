@@ -0,0 +1,44 @@
+package com.edwn.unihack.scannersim;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The tag UIDs of one physical deck, read from the same {@code <uid> <card>} files the
+ * backend's deck registry loads, so simulated scanners can send raw UIDs like real ones.
+ */
+public class DeckFile {
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "HDCS";
+
+    private final String[] uids = new String[52]; // By card id
+
+    public static DeckFile load(Path path) throws IOException {
+        DeckFile deck = new DeckFile();
+        List<String> lines = Files.readAllLines(path);
+        for (String line : lines) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length != 2 || fields[0].startsWith("#")) {
+                continue;
+            }
+            String card = fields[1].toUpperCase().replace("10", "T");
+            int rank = card.length() == 2 ? RANKS.indexOf(card.charAt(0)) : -1;
+            int suit = card.length() == 2 ? SUITS.indexOf(card.charAt(1)) : -1;
+            if (rank >= 0 && suit >= 0) {
+                deck.uids[suit * 13 + rank] = fields[0];
+            }
+        }
+        for (int card = 0; card < 52; card++) {
+            if (deck.uids[card] == null) {
+                throw new IOException(path + " has no tag for card " + RANKS.charAt(card % 13) + SUITS.charAt(card / 13));
+            }
+        }
+        return deck;
+    }
+
+    public String uidOf(int cardId) {
+        return uids[cardId];
+    }
+}
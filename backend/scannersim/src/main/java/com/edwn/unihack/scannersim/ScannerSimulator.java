@@ -0,0 +1,113 @@
+package com.edwn.unihack.scannersim;
+
+import com.edwn.unihack.loadgen.BackendClient;
+import com.edwn.unihack.loadgen.LoadGenerator;
+import com.edwn.unihack.loadgen.StompClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emulates the card scanners of many rooms so the ingest path can be load-tested without NFC
+ * hardware. Each of {@code --rooms} rooms gets {@code --players} bots and one scanner that
+ * deals from a shuffled virtual deck at {@code --scan-rate} cards per second, adding double
+ * reads and retries at {@code --double-read} and {@code --retry} rates. With
+ * {@code --deck <file>} scanners send that deck's raw tag UIDs instead of cards. Prints
+ * scan-to-broadcast latency every five seconds and in total.
+ * <p>
+ * The bots are seated with {@code --bot-strategy} (default tight-aggressive), so the backend's
+ * bots must be enabled, and a low {@code unihack.bots.think-ms} keeps hands moving.
+ */
+public class ScannerSimulator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadGenerator.parseArgs(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int rooms = Integer.parseInt(options.getOrDefault("rooms", "10"));
+        int players = Integer.parseInt(options.getOrDefault("players", "4"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        double scanRate = Double.parseDouble(options.getOrDefault("scan-rate", "4"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        SimulatedScanner.Settings settings = new SimulatedScanner.Settings();
+        settings.scanIntervalNanos = scanRate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / scanRate) : 0;
+        settings.doubleReadRate = Double.parseDouble(options.getOrDefault("double-read", "0.02"));
+        settings.retryRate = Double.parseDouble(options.getOrDefault("retry", "0.02"));
+        settings.handDelayMs = Long.parseLong(options.getOrDefault("hand-delay-ms", "500"));
+        settings.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(options.getOrDefault("timeout-ms", "10000")));
+        settings.deck = options.containsKey("deck") ? DeckFile.load(Path.of(options.get("deck"))) : null;
+        settings.venue = options.get("venue");
+        settings.botStrategy = options.getOrDefault("bot-strategy", "tight-aggressive");
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL) // cluster nodes answer with 307 to the room owner
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        BackendClient backend = new BackendClient(httpClient, objectMapper, url);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(threads);
+
+        Recorder scanLatency = new Recorder(3);
+        SimulatedScanner.Counters counters = new SimulatedScanner.Counters();
+        List<SimulatedScanner> scanners = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            String gameCode = backend.createRoom();
+            SimulatedScanner scanner = new SimulatedScanner(gameCode, backend, objectMapper, scheduler,
+                    scanLatency, counters, settings, gameCode.hashCode());
+            scanner.start(StompClient.connect(httpClient, backend.getWebSocketUrl()), players);
+            scanners.add(scanner);
+        }
+        scheduler.scheduleAtFixedRate(() -> scanners.forEach(SimulatedScanner::checkTimeout), 1, 1, TimeUnit.SECONDS);
+
+        System.out.printf("Target %s, %d rooms of %d bots, %.1f scans/s per scanner, %s%n", url, rooms, players, scanRate,
+                settings.deck != null ? "sending tag UIDs" : "sending cards");
+        System.out.println("  seconds    scans/s    p50 ms    p99 ms    max ms   double-reads  retries  unexpected  timeouts  errors");
+        Histogram total = new Histogram(3);
+        scanLatency.getIntervalHistogram();
+        for (int elapsed = 0; elapsed < duration; ) {
+            int seconds = Math.min(5, duration - elapsed);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            elapsed += seconds;
+
+            Histogram interval = scanLatency.getIntervalHistogram();
+            total.add(interval);
+            System.out.printf("%9d %10.0f %9.2f %9.2f %9.2f %14d %8d %11d %9d %7d%n",
+                    elapsed,
+                    interval.getTotalCount() / (double) seconds,
+                    interval.getValueAtPercentile(50) / 1000.0,
+                    interval.getValueAtPercentile(99) / 1000.0,
+                    interval.getMaxValue() / 1000.0,
+                    counters.doubleReads.get(),
+                    counters.retries.get(),
+                    counters.unexpected.get(),
+                    counters.timeouts.get(),
+                    counters.errors.get());
+        }
+
+        System.out.println();
+        System.out.printf("Scan -> broadcast count=%d p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                total.getTotalCount(),
+                total.getValueAtPercentile(50) / 1000.0,
+                total.getValueAtPercentile(90) / 1000.0,
+                total.getValueAtPercentile(99) / 1000.0,
+                total.getValueAtPercentile(99.9) / 1000.0,
+                total.getMaxValue() / 1000.0);
+        System.out.printf("Hands dealt: %d, double reads: %d, retries: %d, answered unexpectedly: %d, timeouts: %d, errors: %d%n",
+                counters.hands.get(), counters.doubleReads.get(), counters.retries.get(),
+                counters.unexpected.get(), counters.timeouts.get(), counters.errors.get());
+
+        scanners.forEach(SimulatedScanner::stop);
+        scheduler.shutdownNow();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,339 @@
+package com.edwn.unihack.scannersim;
+
+import com.edwn.unihack.loadgen.BackendClient;
+import com.edwn.unihack.loadgen.StompClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The scanner and dealer of one room. Bots play the hands server-side; this shuffles a virtual
+ * deck each hand and, whenever a broadcast says the room is waiting for cards, deals the
+ * street's cards at the configured rate without waiting for each one's broadcast. The street
+ * needs as many cards as {@code PokerUtilService.getRequiredCardCount} reports, less those
+ * already dealt. A scan's latency runs from its submission to the first broadcast that shows
+ * its card.
+ * <p>
+ * Scans are numbered the way the hardware scanner numbers them. Some are followed by a double
+ * read (the same card under a new number, which the backend should refuse with 409) or a retry
+ * (the same number again, which it should acknowledge without dealing twice).
+ */
+public class SimulatedScanner {
+    private static final String[] SUITS = {"HEARTS", "DIAMONDS", "CLUBS", "SPADES"};
+    private static final String[] RANKS = {"TWO", "THREE", "FOUR", "FIVE", "SIX", "SEVEN", "EIGHT",
+            "NINE", "TEN", "JACK", "QUEEN", "KING", "ACE"};
+
+    private final String gameCode;
+    private final String scannerId;
+    private final BackendClient backend;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final Recorder scanLatency;
+    private final Counters counters;
+    private final Settings settings;
+    private final SplittableRandom random;
+    private final int[] deck = new int[52];
+    private StompClient stomp;
+
+    // Guarded by this
+    private JsonNode lastState;
+    private int handNumber = -1;
+    private int deckPosition = 52;
+    private int scansQueued; // Still to send for the current street
+    private int scansInFlight; // Sent, and their card not yet seen in a broadcast
+    private final long[] submittedAt = new long[52]; // By card id, 0 once its broadcast arrived
+    private long nextScanAt;
+    private long lastProgressAt;
+    private boolean startingHand;
+    private long seq;
+
+    public SimulatedScanner(String gameCode, BackendClient backend, ObjectMapper objectMapper,
+                            ScheduledExecutorService scheduler, Recorder scanLatency, Counters counters,
+                            Settings settings, long seed) {
+        this.gameCode = gameCode;
+        this.scannerId = "sim-" + gameCode;
+        this.backend = backend;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.scanLatency = scanLatency;
+        this.counters = counters;
+        this.settings = settings;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Seats the fake players, who act on their own, opens the room's WebSocket and deals the
+     * first hand.
+     */
+    public void start(StompClient stompClient, int players) throws Exception {
+        this.stomp = stompClient;
+        for (int i = 0; i < players; i++) {
+            backend.addBotPlayer(gameCode, "Bot " + (i + 1), settings.botStrategy);
+        }
+        stomp.subscribe("/topic/game/" + gameCode, this::onBroadcast);
+        synchronized (this) {
+            lastProgressAt = System.nanoTime();
+        }
+        backend.startGame(gameCode);
+    }
+
+    public void stop() {
+        stomp.close();
+    }
+
+    /**
+     * Deals again if the room stopped answering: scans whose broadcast never came are written
+     * off and the street is planned afresh from the last broadcast.
+     */
+    public void checkTimeout() {
+        JsonNode state;
+        synchronized (this) {
+            boolean waiting = scansInFlight > 0 || scansQueued > 0 || startingHand
+                    || (lastState != null && lastState.path("waitingForCards").asBoolean());
+            if (!waiting || System.nanoTime() - lastProgressAt < settings.timeoutNanos) {
+                return;
+            }
+            Arrays.fill(submittedAt, 0);
+            scansInFlight = 0;
+            scansQueued = 0;
+            startingHand = false;
+            lastProgressAt = System.nanoTime();
+            state = lastState;
+        }
+
+        counters.timeouts.incrementAndGet();
+        if (state != null) {
+            drive(state);
+        }
+    }
+
+    private void onBroadcast(String body) {
+        JsonNode state;
+        try {
+            state = objectMapper.readTree(body);
+        } catch (Exception e) {
+            counters.errors.incrementAndGet();
+            return;
+        }
+        drive(state); // Only schedules work, and keeps broadcasts in order
+    }
+
+    private void drive(JsonNode state) {
+        boolean startHand = false;
+        synchronized (this) {
+            long now = System.nanoTime();
+            lastState = state;
+            lastProgressAt = now;
+
+            int hand = state.path("handNumber").asInt();
+            if (hand != handNumber) {
+                handNumber = hand;
+                shuffle();
+                Arrays.fill(submittedAt, 0);
+                scansInFlight = 0;
+                scansQueued = 0;
+                startingHand = false;
+            }
+            recordDealtCards(state, now);
+
+            String gameState = state.path("gameState").asText();
+            if ("SHOWDOWN".equals(gameState) || "ENDED".equals(gameState)) {
+                scansQueued = 0;
+                if (!startingHand) {
+                    startingHand = true;
+                    startHand = true;
+                    counters.hands.incrementAndGet();
+                }
+            } else if (!state.path("waitingForCards").asBoolean()) {
+                scansQueued = 0; // Fewer seats were dealt in than the table has
+            } else if (scansQueued == 0 && scansInFlight == 0) {
+                scansQueued = Math.max(0, requiredCardCount(state) - dealtThisStreet(state));
+                if (scansQueued > 0) {
+                    scheduleScan(now);
+                }
+            }
+        }
+
+        if (startHand) {
+            scheduler.schedule(() -> stomp.send("/app/game/" + gameCode + "/action", "{\"type\":\"START_HAND\"}"),
+                    settings.handDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Caller holds the lock
+    private void recordDealtCards(JsonNode state, long now) {
+        for (JsonNode player : state.path("players")) {
+            for (JsonNode card : player.path("hand").path("cards")) {
+                recordDealt(card, now);
+            }
+        }
+        for (JsonNode card : state.path("communityCards")) {
+            recordDealt(card, now);
+        }
+    }
+
+    private void recordDealt(JsonNode card, long now) {
+        int id = cardId(card);
+        if (id >= 0 && submittedAt[id] != 0) {
+            scanLatency.recordValue((now - submittedAt[id]) / 1000);
+            counters.scans.incrementAndGet();
+            submittedAt[id] = 0;
+            scansInFlight--;
+        }
+    }
+
+    // Caller holds the lock
+    private void scheduleScan(long now) {
+        scheduler.schedule(this::scan, Math.max(0, nextScanAt - now), TimeUnit.NANOSECONDS);
+    }
+
+    private void scan() {
+        int card;
+        long scanSeq;
+        boolean doubleRead;
+        boolean retry;
+        synchronized (this) {
+            if (scansQueued == 0 || deckPosition == deck.length) {
+                return;
+            }
+            long now = System.nanoTime();
+            scansQueued--;
+            card = deck[deckPosition++];
+            submittedAt[card] = now;
+            scansInFlight++;
+            scanSeq = ++seq;
+            doubleRead = random.nextDouble() < settings.doubleReadRate;
+            if (doubleRead) {
+                ++seq;
+            }
+            retry = random.nextDouble() < settings.retryRate;
+            nextScanAt = now + settings.scanIntervalNanos;
+            if (scansQueued > 0) {
+                scheduleScan(now);
+            }
+        }
+
+        send(card, scanSeq).whenComplete((response, error) -> {
+            if (error != null || response.statusCode() >= 300) {
+                counters.errors.incrementAndGet();
+                return;
+            }
+            // The reader saw the tag twice, so the second read carries the next number
+            if (doubleRead) {
+                counters.doubleReads.incrementAndGet();
+                expect(send(card, scanSeq + 1), 409);
+            }
+            // The response was lost, so the scanner sends the same read again
+            if (retry) {
+                counters.retries.incrementAndGet();
+                expect(send(card, scanSeq), 200);
+            }
+        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(int card, long scanSeq) {
+        if (settings.deck != null) {
+            return backend.scanTagAsync(gameCode, settings.deck.uidOf(card), settings.venue, scannerId, scanSeq);
+        }
+        return backend.scanAsync(gameCode, SUITS[card / 13], RANKS[card % 13], scannerId, scanSeq);
+    }
+
+    private void expect(CompletableFuture<HttpResponse<String>> request, int status) {
+        request.whenComplete((response, error) -> {
+            if (error != null) {
+                counters.errors.incrementAndGet();
+            } else if (response.statusCode() != status) {
+                counters.unexpected.incrementAndGet();
+            }
+        });
+    }
+
+    // Same as PokerUtilService.getRequiredCardCount
+    private static int requiredCardCount(JsonNode state) {
+        switch (state.path("gameState").asText()) {
+            case "PREFLOP":
+                return state.path("players").size() * 2;
+            case "FLOP":
+                return 3;
+            case "TURN":
+            case "RIVER":
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static int dealtThisStreet(JsonNode state) {
+        int board = state.path("communityCards").size();
+        switch (state.path("gameState").asText()) {
+            case "PREFLOP":
+                int holeCards = 0;
+                for (JsonNode player : state.path("players")) {
+                    holeCards += player.path("hand").path("cards").size();
+                }
+                return holeCards;
+            case "FLOP":
+                return board;
+            case "TURN":
+                return board - 3;
+            case "RIVER":
+                return board - 4;
+            default:
+                return 0;
+        }
+    }
+
+    private static int cardId(JsonNode card) {
+        int suit = Arrays.asList(SUITS).indexOf(card.path("suit").asText());
+        int rank = Arrays.asList(RANKS).indexOf(card.path("rank").asText());
+        return suit < 0 || rank < 0 ? -1 : suit * 13 + rank;
+    }
+
+    private void shuffle() {
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+        for (int i = deck.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = tmp;
+        }
+        deckPosition = 0;
+    }
+
+    /**
+     * How every scanner behaves.
+     */
+    public static class Settings {
+        long scanIntervalNanos; // Between a street's scans
+        double doubleReadRate;
+        double retryRate;
+        long handDelayMs; // Before the dealer starts the next hand
+        long timeoutNanos;
+        DeckFile deck; // Send raw tag UIDs from this deck, or cards if null
+        String venue;
+        String botStrategy; // Plays the seated bots on the backend
+    }
+
+    /**
+     * Totals shared by every scanner.
+     */
+    public static class Counters {
+        final AtomicLong scans = new AtomicLong();
+        final AtomicLong hands = new AtomicLong();
+        final AtomicLong doubleReads = new AtomicLong();
+        final AtomicLong retries = new AtomicLong();
+        final AtomicLong unexpected = new AtomicLong(); // Double reads or retries not answered as they should be
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+    }
+}
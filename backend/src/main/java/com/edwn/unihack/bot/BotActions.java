@@ -0,0 +1,41 @@
+// backend/src/main/java/com/edwn/unihack/bot/BotActions.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameAction;
+
+/**
+ * Action builders shared by the strategies.
+ */
+final class BotActions {
+
+    private BotActions() {
+    }
+
+    // Never fold when checking is free, or when all-in with nothing left to put in
+    static GameAction foldOrCheck(BotView view) {
+        if (view.getChips() == 0) {
+            return checkOrCall(view);
+        }
+        return action(view.getToCall() > 0 ? GameAction.ActionType.FOLD : GameAction.ActionType.CHECK, 0);
+    }
+
+    static GameAction checkOrCall(BotView view) {
+        return action(view.getToCall() > 0 ? GameAction.ActionType.CALL : GameAction.ActionType.CHECK, 0);
+    }
+
+    // Raises by roughly the given amount, falling back to a call when short-stacked
+    static GameAction raise(BotView view, int amount) {
+        int size = Math.max(view.getBigBlind(), amount);
+        if (view.getChips() <= view.getToCall()) {
+            return checkOrCall(view);
+        }
+        return action(GameAction.ActionType.RAISE, Math.min(size, view.getChips() - view.getToCall()));
+    }
+
+    private static GameAction action(GameAction.ActionType type, int amount) {
+        return GameAction.builder()
+                .type(type)
+                .amount(amount)
+                .build();
+    }
+}
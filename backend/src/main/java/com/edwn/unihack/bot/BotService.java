@@ -0,0 +1,254 @@
+// backend/src/main/java/com/edwn/unihack/bot/BotService.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.metrics.LatencyHistogram;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import com.edwn.unihack.util.timer.Timeout;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Plays for fake players that were given a bot strategy, and for every fake player at a
+ * tournament table, which has no dealer to act for them. Other fake players are left to
+ * whoever seated them, such as a dealer or a load generator.
+ * <p>
+ * Whenever a room changes and a bot is to act, one timeout is armed for that room on the
+ * shared timing wheel, so waiting bot seats cost no threads of their own. When it fires, the
+ * decision runs on the bot executor rather than the wheel's dispatcher. The dispatcher also
+ * runs action clocks and lobby flushes, and equity simulation would hold them up. The bot
+ * decides on a copy of the room and submits its action through the same path as a human
+ * player.
+ */
+@Service
+public class BotService {
+    private final HashedTimingWheel timingWheel;
+    private final ExecutorService decisionExecutor;
+    private final Map<String, BotStrategy> strategies = new ConcurrentHashMap<>();
+    private final Map<String, PendingTurn> pendingTurns = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long thinkMillis;
+    private final String defaultStrategy;
+    private final Map<String, LatencyHistogram> decisionTimers = new ConcurrentHashMap<>();
+
+    public BotService(HashedTimingWheel timingWheel,
+                      List<BotStrategy> strategies,
+                      @Value("${unihack.bots.enabled:true}") boolean enabled,
+                      @Value("${unihack.bots.think-ms:800}") long thinkMillis,
+                      @Value("${unihack.bots.default-strategy:tight-aggressive}") String defaultStrategy,
+                      @Value("${unihack.bots.threads:2}") int threads,
+                      MetricsRegistry metricsRegistry) {
+        this.timingWheel = timingWheel;
+        this.enabled = enabled;
+        this.thinkMillis = thinkMillis;
+        this.defaultStrategy = defaultStrategy;
+        strategies.forEach(strategy -> {
+            this.strategies.put(strategy.getName(), strategy);
+            decisionTimers.put(strategy.getName(), metricsRegistry.timer("unihack_bot_decision_seconds",
+                    "Time for a bot strategy to choose an action", "strategy", strategy.getName()));
+        });
+
+        if (!this.strategies.containsKey(defaultStrategy)) {
+            throw new IllegalStateException("Unknown default bot strategy '" + defaultStrategy + "', expected one of " + this.strategies.keySet());
+        }
+        metricsRegistry.gauge("unihack_bot_pending_turns", "Bot turns waiting on the timing wheel", this::pendingTurns);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.decisionExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "Bot-Decision-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        decisionExecutor.shutdownNow();
+    }
+
+    public Collection<String> getStrategyNames() {
+        return strategies.keySet();
+    }
+
+    public boolean hasStrategy(String name) {
+        return strategies.containsKey(name);
+    }
+
+    public int pendingTurns() {
+        return pendingTurns.size();
+    }
+
+    /**
+     * Called with the room lock held after every change to the room. Schedules the current
+     * player's move if it is a bot, submitting it through {@code submitter} (room code, action).
+     */
+    public void onRoomUpdated(GameRoom room, BiConsumer<String, GameAction> submitter) {
+        if (!enabled) {
+            return;
+        }
+
+        Player player = room.getCurrentPlayer();
+        if (player == null || !isBot(room, player) || player.isFolded() || !isBettingRound(room)) {
+            return;
+        }
+
+        long token = turnToken(room);
+        PendingTurn existing = pendingTurns.get(room.getId());
+        if (existing != null && existing.token == token && existing.playerId.equals(player.getId())) {
+            return; // Already scheduled, e.g. a second broadcast for the same change
+        }
+
+        PendingTurn turn = new PendingTurn(player.getId(), token);
+        PendingTurn previous = pendingTurns.put(room.getId(), turn);
+        if (previous != null) {
+            previous.cancel();
+        }
+        turn.timeout = timingWheel.schedule(() -> dispatch(room, turn, submitter), thinkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void forget(GameRoom room) {
+        PendingTurn turn = pendingTurns.remove(room.getId());
+        if (turn != null) {
+            turn.cancel();
+        }
+    }
+
+    private void dispatch(GameRoom room, PendingTurn turn, BiConsumer<String, GameAction> submitter) {
+        try {
+            decisionExecutor.execute(() -> takeTurn(room, turn, submitter));
+        } catch (RejectedExecutionException e) {
+            pendingTurns.remove(room.getId(), turn); // Shutting down
+        }
+    }
+
+    private void takeTurn(GameRoom room, PendingTurn turn, BiConsumer<String, GameAction> submitter) {
+        if (!pendingTurns.remove(room.getId(), turn)) {
+            return; // Superseded or forgotten
+        }
+
+        try {
+            Player player;
+            BotView view;
+            synchronized (room) {
+                if (!isStillTurn(room, turn)) {
+                    return;
+                }
+                player = room.getCurrentPlayer();
+                view = viewOf(room, player);
+            }
+
+            // Decide without holding the room; equity simulation can take a few milliseconds
+            GameAction action;
+            if (view.getHoleCards().length == 2) {
+                BotStrategy strategy = strategyFor(player);
+                long start = System.nanoTime();
+                action = strategy.decide(view, ThreadLocalRandom.current());
+                decisionTimers.get(strategy.getName()).record(System.nanoTime() - start);
+            } else {
+                action = BotActions.checkOrCall(view);
+            }
+            // An all-in seat has nothing left to decide, whatever the strategy returned
+            if (view.getChips() == 0 && action.getType() == GameAction.ActionType.FOLD) {
+                action = BotActions.checkOrCall(view);
+            }
+            action.setPlayerId(player.getId());
+            action.setPlayerName(player.getName());
+
+            synchronized (room) {
+                // Nothing else may have acted meanwhile, otherwise this decision is stale
+                if (isStillTurn(room, turn)) {
+                    submitter.accept(room.getId(), action);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Bot failed to act in room " + room.getId() + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isBot(GameRoom room, Player player) {
+        return player.isFake() && (player.getBotStrategy() != null || room.getTournamentId() != null);
+    }
+
+    private BotStrategy strategyFor(Player player) {
+        BotStrategy strategy = player.getBotStrategy() != null ? strategies.get(player.getBotStrategy()) : null;
+        return strategy != null ? strategy : strategies.get(defaultStrategy);
+    }
+
+    private boolean isStillTurn(GameRoom room, PendingTurn turn) {
+        Player current = room.getCurrentPlayer();
+        return current != null
+                && current.getId().equals(turn.playerId)
+                && turnToken(room) == turn.token
+                && isBettingRound(room);
+    }
+
+    private static boolean isBettingRound(GameRoom room) {
+        return room.isHandInProgress() && !room.isWaitingForCards();
+    }
+
+    // Changes whenever anything is recorded in the hand
+    private static long turnToken(GameRoom room) {
+        return ((long) room.getHandNumber() << 32) | room.getActions().size();
+    }
+
+    private static BotView viewOf(GameRoom room, Player player) {
+        List<Card> hand = player.getHand() != null ? player.getHand().getCards() : List.of();
+        int[] holeCards = hand.stream().mapToInt(Card::toId).toArray();
+        int[] board = room.getCommunityCards().stream().mapToInt(Card::toId).toArray();
+
+        int seat = room.seatOf(player.getId());
+        int opponents = 0;
+        for (int other = 0; other < room.getPlayers().size(); other++) {
+            if (other != seat && room.isLive(other)) {
+                opponents++;
+            }
+        }
+
+        return BotView.builder()
+                .gameState(room.getGameState())
+                .holeCards(holeCards)
+                .board(board)
+                .chips(player.getChips())
+                .toCall(Math.max(0, room.getCurrentBet() - room.getStreetBet(seat)))
+                .pot(room.getPot() + room.getTotalStreetBets())
+                .opponents(opponents)
+                .preflopRaises(room.getPreflopRaiseCount())
+                .bigBlind(room.getBigBlind())
+                .build();
+    }
+
+    private static class PendingTurn {
+        final String playerId;
+        final long token;
+        volatile Timeout timeout;
+
+        PendingTurn(String playerId, long token) {
+            this.playerId = playerId;
+            this.token = token;
+        }
+
+        void cancel() {
+            Timeout scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+    }
+}
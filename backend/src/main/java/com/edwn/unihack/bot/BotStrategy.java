@@ -0,0 +1,22 @@
+// backend/src/main/java/com/edwn/unihack/bot/BotStrategy.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameAction;
+
+import java.util.Random;
+
+/**
+ * Decides what a bot does on its turn. Implementations are Spring beans and are picked by
+ * {@link #getName()}, either per player or, for tournament seats without one, through
+ * {@code unihack.bots.default-strategy}.
+ */
+public interface BotStrategy {
+
+    String getName();
+
+    /**
+     * Returns a CHECK, CALL, RAISE or FOLD action; the caller fills in the player.
+     * RAISE amounts are on top of the current bet, as in {@code BettingService.handleRaise}.
+     */
+    GameAction decide(BotView view, Random random);
+}
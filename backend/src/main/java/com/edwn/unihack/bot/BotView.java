@@ -0,0 +1,30 @@
+// backend/src/main/java/com/edwn/unihack/bot/BotView.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameRoom;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * What a bot can see when it is its turn, copied out of the room so strategies can run
+ * without holding the room lock. Cards are {@link com.edwn.unihack.model.Card#toId()} ids.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class BotView {
+    private GameRoom.GameState gameState;
+    private int[] holeCards;
+    private int[] board;
+    private int chips;
+    private int toCall; // Chips needed to match the current bet
+    private int pot; // Including this round's bets
+    private int opponents; // Players still in the hand besides the bot
+    private int preflopRaises;
+    private int bigBlind;
+
+    public boolean isPreflop() {
+        return gameState == GameRoom.GameState.PREFLOP;
+    }
+}
@@ -0,0 +1,45 @@
+// backend/src/main/java/com/edwn/unihack/bot/EquityStrategy.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameAction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+/**
+ * Estimates its chance of winning against the remaining players by simulation and compares
+ * it with the pot odds: call when the price is right, raise when well ahead.
+ */
+@Component
+public class EquityStrategy implements BotStrategy {
+    private final int samples;
+
+    public EquityStrategy(@Value("${unihack.bots.equity-samples:200}") int samples) {
+        this.samples = samples;
+    }
+
+    @Override
+    public String getName() {
+        return "equity";
+    }
+
+    @Override
+    public GameAction decide(BotView view, Random random) {
+        double equity = HandStrength.equity(view.getHoleCards(), view.getBoard(), view.getOpponents(), samples, random);
+
+        // Share of the final pot this player would be paying for
+        double potOdds = view.getToCall() == 0 ? 0 : (double) view.getToCall() / (view.getPot() + view.getToCall());
+
+        // The fair share of the pot with this many players, e.g. 0.25 four-handed
+        double fairShare = 1.0 / (view.getOpponents() + 1);
+
+        if (equity > Math.max(0.5, fairShare * 1.8)) {
+            return BotActions.raise(view, Math.max(view.getBigBlind() * 2, (int) (view.getPot() * equity)));
+        }
+        if (equity >= potOdds) {
+            return BotActions.checkOrCall(view);
+        }
+        return BotActions.foldOrCheck(view);
+    }
+}
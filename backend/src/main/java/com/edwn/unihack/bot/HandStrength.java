@@ -0,0 +1,157 @@
+// backend/src/main/java/com/edwn/unihack/bot/HandStrength.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.util.eval.Card;
+import com.edwn.unihack.util.eval.Hand;
+
+import java.util.Random;
+
+/**
+ * Hand strength helpers for the bots, on top of the {@code util/eval} 5-card evaluator.
+ * Ranks follow the evaluator: 1 is a royal flush, 7462 the worst high card.
+ */
+public final class HandStrength {
+    public static final int WORST_RANK = 7462;
+    public static final int WORST_TWO_PAIR = 3325;
+    public static final int WORST_PAIR = 6185;
+
+    // Indexed by model Card id (suit-major: hearts, diamonds, clubs, spades)
+    private static final Card[] CARDS = new Card[52];
+    private static final int[] SUITS = {Card.HEARTS, Card.DIAMONDS, Card.CLUBS, Card.SPADES};
+
+    static {
+        for (int id = 0; id < CARDS.length; id++) {
+            CARDS[id] = new Card(id % 13, SUITS[id / 13]);
+        }
+    }
+
+    private HandStrength() {
+    }
+
+    public static int rankOf(int cardId) {
+        return cardId % 13;
+    }
+
+    public static int suitOf(int cardId) {
+        return cardId / 13;
+    }
+
+    /**
+     * Best 5-card rank from the first {@code count} ids of {@code cards} (5 to 7 cards).
+     */
+    public static int bestRank(int[] cards, int count) {
+        Card[] five = new Card[5];
+        int best = Integer.MAX_VALUE;
+
+        for (int a = 0; a < count - 4; a++) {
+            for (int b = a + 1; b < count - 3; b++) {
+                for (int c = b + 1; c < count - 2; c++) {
+                    for (int d = c + 1; d < count - 1; d++) {
+                        for (int e = d + 1; e < count; e++) {
+                            five[0] = CARDS[cards[a]];
+                            five[1] = CARDS[cards[b]];
+                            five[2] = CARDS[cards[c]];
+                            five[3] = CARDS[cards[d]];
+                            five[4] = CARDS[cards[e]];
+                            best = Math.min(best, Hand.evaluate(five));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Monte Carlo estimate of the chance to win (ties split) against {@code opponents}
+     * random hands, completing the board at random.
+     */
+    public static double equity(int[] hole, int[] board, int opponents, int samples, Random random) {
+        if (opponents <= 0) {
+            return 1.0;
+        }
+
+        // Deck of unseen cards, partially reshuffled for each sample
+        int[] deck = new int[52];
+        int deckSize = 0;
+        long seen = 0;
+        for (int id : hole) seen |= 1L << id;
+        for (int id : board) seen |= 1L << id;
+        for (int id = 0; id < 52; id++) {
+            if ((seen & (1L << id)) == 0) {
+                deck[deckSize++] = id;
+            }
+        }
+
+        int missingBoard = 5 - board.length;
+        int needed = missingBoard + 2 * opponents;
+        if (needed > deckSize) {
+            return 0.0;
+        }
+
+        int[] mine = new int[7];
+        int[] theirs = new int[7];
+        System.arraycopy(hole, 0, mine, 0, 2);
+        System.arraycopy(board, 0, mine, 2, board.length);
+        System.arraycopy(board, 0, theirs, 2, board.length);
+
+        double wins = 0;
+        for (int sample = 0; sample < samples; sample++) {
+            for (int i = 0; i < needed; i++) {
+                int j = i + random.nextInt(deckSize - i);
+                int tmp = deck[i];
+                deck[i] = deck[j];
+                deck[j] = tmp;
+            }
+
+            for (int i = 0; i < missingBoard; i++) {
+                mine[2 + board.length + i] = deck[i];
+                theirs[2 + board.length + i] = deck[i];
+            }
+            int myRank = bestRank(mine, 7);
+
+            int bestOpponent = Integer.MAX_VALUE;
+            int tiedOpponents = 0;
+            for (int o = 0; o < opponents; o++) {
+                theirs[0] = deck[missingBoard + 2 * o];
+                theirs[1] = deck[missingBoard + 2 * o + 1];
+                int rank = bestRank(theirs, 7);
+                if (rank < bestOpponent) {
+                    bestOpponent = rank;
+                    tiedOpponents = 1;
+                } else if (rank == bestOpponent) {
+                    tiedOpponents++;
+                }
+            }
+
+            if (myRank < bestOpponent) {
+                wins += 1;
+            } else if (myRank == bestOpponent) {
+                wins += 1.0 / (tiedOpponents + 1);
+            }
+        }
+        return wins / samples;
+    }
+
+    /**
+     * Rough pre-flop score of two hole cards between 0 (72 offsuit) and 1 (aces), based on
+     * pairs, high cards, suitedness and connectedness.
+     */
+    public static double preflopScore(int first, int second) {
+        int high = Math.max(rankOf(first), rankOf(second));
+        int low = Math.min(rankOf(first), rankOf(second));
+
+        double score;
+        if (high == low) {
+            score = 0.5 + 0.5 * high / 12.0;
+        } else {
+            score = (high + low) / 24.0 * 0.6;
+            if (suitOf(first) == suitOf(second)) score += 0.06;
+            int gap = high - low;
+            if (gap == 1) score += 0.05;
+            else if (gap == 2) score += 0.03;
+            if (high >= 10) score += 0.05; // Queen or better
+        }
+        return Math.min(1.0, score);
+    }
+}
@@ -0,0 +1,31 @@
+// backend/src/main/java/com/edwn/unihack/bot/RandomStrategy.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameAction;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+/**
+ * Ignores its cards entirely. Useful for soak testing since it reaches every betting path.
+ */
+@Component
+public class RandomStrategy implements BotStrategy {
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public GameAction decide(BotView view, Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 15) {
+            return BotActions.foldOrCheck(view);
+        }
+        if (roll < 30) {
+            return BotActions.raise(view, view.getBigBlind() * (1 + random.nextInt(4)));
+        }
+        return BotActions.checkOrCall(view);
+    }
+}
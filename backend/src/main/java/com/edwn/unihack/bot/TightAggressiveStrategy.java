@@ -0,0 +1,65 @@
+// backend/src/main/java/com/edwn/unihack/bot/TightAggressiveStrategy.java
+package com.edwn.unihack.bot;
+
+import com.edwn.unihack.model.GameAction;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+/**
+ * Plays few hands and bets them hard: a pre-flop score decides whether to enter the pot,
+ * and after the flop the made hand decides between raising, calling and folding.
+ */
+@Component
+public class TightAggressiveStrategy implements BotStrategy {
+
+    @Override
+    public String getName() {
+        return "tight-aggressive";
+    }
+
+    @Override
+    public GameAction decide(BotView view, Random random) {
+        return view.isPreflop() ? decidePreflop(view) : decidePostflop(view, random);
+    }
+
+    private GameAction decidePreflop(BotView view) {
+        double score = HandStrength.preflopScore(view.getHoleCards()[0], view.getHoleCards()[1]);
+
+        if (score >= 0.75) {
+            // Premium hands re-raise once, then just call
+            if (view.getPreflopRaises() < 2) {
+                return BotActions.raise(view, view.getBigBlind() * 3);
+            }
+            return BotActions.checkOrCall(view);
+        }
+        if (score >= 0.5 && view.getToCall() <= view.getBigBlind() * 3) {
+            return view.getPreflopRaises() == 0
+                    ? BotActions.raise(view, view.getBigBlind() * 2)
+                    : BotActions.checkOrCall(view);
+        }
+        return BotActions.foldOrCheck(view);
+    }
+
+    private GameAction decidePostflop(BotView view, Random random) {
+        int[] cards = new int[2 + view.getBoard().length];
+        cards[0] = view.getHoleCards()[0];
+        cards[1] = view.getHoleCards()[1];
+        System.arraycopy(view.getBoard(), 0, cards, 2, view.getBoard().length);
+        int rank = HandStrength.bestRank(cards, cards.length);
+
+        if (rank <= HandStrength.WORST_TWO_PAIR) {
+            return BotActions.raise(view, Math.max(view.getBigBlind(), view.getPot() / 2));
+        }
+        if (rank <= HandStrength.WORST_PAIR) {
+            // One pair calls up to half the pot and occasionally bets when checked to
+            if (view.getToCall() == 0 && random.nextInt(3) == 0) {
+                return BotActions.raise(view, Math.max(view.getBigBlind(), view.getPot() / 3));
+            }
+            return view.getToCall() * 2 <= view.getPot()
+                    ? BotActions.checkOrCall(view)
+                    : BotActions.foldOrCheck(view);
+        }
+        return BotActions.foldOrCheck(view);
+    }
+}
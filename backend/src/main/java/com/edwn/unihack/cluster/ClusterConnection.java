@@ -0,0 +1,75 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterConnection.java
+package com.edwn.unihack.cluster;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Persistent connection to a peer's cluster listener. The protocol is strictly one
+ * request line followed by one response line, so requests are serialised per connection.
+ */
+class ClusterConnection {
+    private final String host;
+    private final int port;
+    private final int timeoutMs;
+    private Socket socket;
+    private BufferedReader reader;
+    private BufferedWriter writer;
+
+    ClusterConnection(String tcpAddress, int timeoutMs) {
+        int colon = tcpAddress.lastIndexOf(':');
+        this.host = tcpAddress.substring(0, colon);
+        this.port = Integer.parseInt(tcpAddress.substring(colon + 1));
+        this.timeoutMs = timeoutMs;
+    }
+
+    synchronized String request(String line) throws IOException {
+        try {
+            ensureOpen();
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+
+            String response = reader.readLine();
+            if (response == null) {
+                throw new IOException("Connection closed by " + host + ":" + port);
+            }
+            return response;
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    synchronized void close() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Already broken
+            }
+        }
+        socket = null;
+        reader = null;
+        writer = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (socket != null && !socket.isClosed()) {
+            return;
+        }
+
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout(timeoutMs);
+        socket.connect(new InetSocketAddress(host, port), timeoutMs);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+}
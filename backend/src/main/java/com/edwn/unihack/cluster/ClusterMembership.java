@@ -0,0 +1,382 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterMembership.java
+package com.edwn.unihack.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks which backend nodes are alive and which node owns each room.
+ * <p>
+ * Rooms are placed on a consistent-hash ring over the game code. Membership is gossiped by
+ * heartbeating every seed and known member with {@code HELLO}; each reply carries the peer's
+ * full member list and its room pins. A pin records that a room lives somewhere other than its
+ * ring owner, which happens when the ring changes after the room was created, since rooms are
+ * never migrated between nodes.
+ * <p>
+ * A removed room leaves a tombstone that is gossiped until it expires, so peers drop the pin
+ * instead of passing it back. A member that was declared lost is only taken back on hearing
+ * from it directly, or through gossip once it has restarted with a newer incarnation.
+ * <p>
+ * With {@code unihack.cluster.enabled=false} every room is local and no threads are started.
+ */
+@Component
+public class ClusterMembership implements RoomPlacement {
+    private final boolean enabled;
+    private final ClusterNode self;
+    private final List<String> seeds;
+    private final long heartbeatMs;
+    private final long failureTimeoutMs;
+    private final int virtualNodes;
+    private final int requestTimeoutMs;
+    private final int connectionsPerPeer;
+
+    private final Map<String, ClusterNode> members = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Map<String, Long> lostIncarnations = new ConcurrentHashMap<>(); // node id -> incarnation when lost
+    private final Map<String, String> pins = new ConcurrentHashMap<>(); // game code -> node id
+    private final Map<String, Long> tombstones = new ConcurrentHashMap<>(); // game code -> epoch millis it expires
+    private final Map<String, ClusterPeer> peers = new ConcurrentHashMap<>(); // by tcp address
+    private volatile ConsistentHashRing ring;
+    private volatile Supplier<Collection<String>> localRooms = Collections::emptyList;
+    private ScheduledExecutorService heartbeat;
+
+    public ClusterMembership(@Value("${unihack.cluster.enabled:false}") boolean enabled,
+                             @Value("${unihack.cluster.node-id:node-${server.port:8080}}") String nodeId,
+                             @Value("${unihack.cluster.advertise-host:localhost}") String advertiseHost,
+                             @Value("${unihack.cluster.port:9300}") int port,
+                             @Value("${unihack.cluster.http-url:http://localhost:${server.port:8080}}") String httpUrl,
+                             @Value("${unihack.cluster.seeds:}") String seeds,
+                             @Value("${unihack.cluster.heartbeat-ms:1000}") long heartbeatMs,
+                             @Value("${unihack.cluster.failure-timeout-ms:5000}") long failureTimeoutMs,
+                             @Value("${unihack.cluster.virtual-nodes:128}") int virtualNodes,
+                             @Value("${unihack.cluster.request-timeout-ms:2000}") int requestTimeoutMs,
+                             @Value("${unihack.cluster.connections-per-peer:4}") int connectionsPerPeer) {
+        this.enabled = enabled;
+        this.self = new ClusterNode(nodeId, advertiseHost + ":" + port, httpUrl, System.currentTimeMillis());
+        this.seeds = Arrays.stream(seeds.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+        this.heartbeatMs = heartbeatMs;
+        this.failureTimeoutMs = failureTimeoutMs;
+        this.virtualNodes = virtualNodes;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.connectionsPerPeer = connectionsPerPeer;
+    }
+
+    @PostConstruct
+    public void start() {
+        members.put(self.getId(), self);
+        rebuildRing();
+
+        if (!enabled) {
+            return;
+        }
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Cluster-Heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        peers.values().forEach(ClusterPeer::close);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ClusterNode getSelf() {
+        return self;
+    }
+
+    public Collection<ClusterNode> getMembers() {
+        return new ArrayList<>(members.values());
+    }
+
+    public void setLocalRooms(Supplier<Collection<String>> localRooms) {
+        this.localRooms = localRooms;
+    }
+
+    public ClusterNode ownerOf(String gameCode) {
+        if (!enabled) {
+            return self;
+        }
+
+        String pinned = pins.get(gameCode);
+        if (pinned != null) {
+            ClusterNode node = members.get(pinned);
+            if (node != null) {
+                return node;
+            }
+        }
+        return ring.ownerOf(gameCode);
+    }
+
+    @Override
+    public boolean isLocal(String gameCode) {
+        return !enabled || self.getId().equals(ownerOf(gameCode).getId());
+    }
+
+    @Override
+    public String ownerUrl(String gameCode) {
+        if (isLocal(gameCode)) {
+            return null;
+        }
+        return ownerOf(gameCode).getHttpUrl();
+    }
+
+    @Override
+    public void roomCreated(String gameCode) {
+        if (!enabled) {
+            return;
+        }
+
+        tombstones.remove(gameCode);
+        if (isLocal(gameCode)) {
+            return;
+        }
+
+        // Tell every peer now rather than on their next heartbeat, so actions for the new
+        // room are never forwarded to its ring owner
+        pins.put(gameCode, self.getId());
+        for (ClusterNode member : members.values()) {
+            if (member.getId().equals(self.getId())) continue;
+            try {
+                request(member, "PIN " + gameCode + " " + self.getId());
+            } catch (IOException e) {
+                System.err.println("Failed to pin room " + gameCode + " on " + member.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void roomRemoved(String gameCode) {
+        if (enabled && pins.remove(gameCode) != null) {
+            tombstones.put(gameCode, System.currentTimeMillis() + tombstoneMillis());
+        }
+    }
+
+    /**
+     * Sends one request line to a peer and returns its response line.
+     */
+    public String request(ClusterNode node, String line) throws IOException {
+        return peer(node.getTcpAddress()).request(line);
+    }
+
+    /**
+     * Handles a {@code HELLO} from a peer and returns the {@code MEMBERS} reply.
+     */
+    String onHello(ClusterNode node) {
+        markAlive(node);
+        return membersLine();
+    }
+
+    void pin(String gameCode, String nodeId) {
+        tombstones.remove(gameCode);
+        pins.put(gameCode, nodeId);
+    }
+
+    private ClusterPeer peer(String tcpAddress) {
+        return peers.computeIfAbsent(tcpAddress, address -> new ClusterPeer(address, connectionsPerPeer, requestTimeoutMs));
+    }
+
+    // Long enough for every live member to heartbeat us and see the tombstone
+    private long tombstoneMillis() {
+        return 2 * failureTimeoutMs;
+    }
+
+    private void heartbeat() {
+        try {
+            List<String> targets = new ArrayList<>(seeds);
+            for (ClusterNode member : members.values()) {
+                if (!member.getId().equals(self.getId()) && !targets.contains(member.getTcpAddress())) {
+                    targets.add(member.getTcpAddress());
+                }
+            }
+            targets.remove(self.getTcpAddress());
+
+            for (String target : targets) {
+                try {
+                    String reply = peer(target).request("HELLO " + self.encode());
+                    mergeMembers(reply);
+                } catch (IOException | RuntimeException e) {
+                    // Peer unreachable, expiry below takes care of it
+                }
+            }
+
+            expireMembers();
+            long now = System.currentTimeMillis();
+            tombstones.values().removeIf(expiresAt -> expiresAt < now);
+        } catch (RuntimeException e) {
+            System.err.println("Cluster heartbeat failed: " + e.getMessage());
+        }
+    }
+
+    private void mergeMembers(String reply) {
+        if (!reply.startsWith("MEMBERS ")) {
+            return;
+        }
+
+        String[] sections = reply.substring("MEMBERS ".length()).split("\\|", -1);
+        String[] nodes = sections[0].split(";");
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i].isBlank()) continue;
+            ClusterNode node = ClusterNode.decode(nodes[i]);
+            // The first entry is the responder itself, which we just heard from
+            if (i == 0) {
+                markAlive(node);
+            } else if (isNewer(node)) {
+                markAlive(node);
+            }
+        }
+
+        // Tombstones first, so a pin for a room that has just gone isn't taken back
+        if (sections.length > 2 && !sections[2].isEmpty()) {
+            for (String tombstone : sections[2].split(",")) {
+                int eq = tombstone.indexOf('=');
+                if (eq > 0) {
+                    String gameCode = tombstone.substring(0, eq);
+                    pins.remove(gameCode);
+                    tombstones.merge(gameCode, Long.parseLong(tombstone.substring(eq + 1)), Math::max);
+                }
+            }
+        }
+
+        if (sections.length > 1 && !sections[1].isEmpty()) {
+            for (String pin : sections[1].split(",")) {
+                int eq = pin.indexOf('=');
+                if (eq > 0 && !tombstones.containsKey(pin.substring(0, eq))) {
+                    pins.putIfAbsent(pin.substring(0, eq), pin.substring(eq + 1));
+                }
+            }
+        }
+    }
+
+    // Whether gossip about a node tells us something we don't know yet
+    private boolean isNewer(ClusterNode node) {
+        if (node.getId().equals(self.getId())) {
+            return false;
+        }
+
+        ClusterNode known = members.get(node.getId());
+        if (known != null) {
+            return node.getIncarnation() > known.getIncarnation();
+        }
+        Long lost = lostIncarnations.get(node.getId());
+        return lost == null || node.getIncarnation() > lost;
+    }
+
+    private void markAlive(ClusterNode node) {
+        lastSeen.put(node.getId(), System.currentTimeMillis());
+        lostIncarnations.remove(node.getId());
+        ClusterNode previous = members.put(node.getId(), node);
+        if (previous == null) {
+            System.out.println("Cluster member joined: " + node.encode());
+            rebuildRing();
+        } else if (previous.getIncarnation() < node.getIncarnation()) {
+            // Restarted, so the rooms it had pinned are gone
+            System.out.println("Cluster member restarted: " + node.encode());
+            pins.values().removeIf(node.getId()::equals);
+            if (!previous.getTcpAddress().equals(node.getTcpAddress())) {
+                closePeer(previous.getTcpAddress());
+            }
+        }
+    }
+
+    private void closePeer(String tcpAddress) {
+        ClusterPeer peer = peers.remove(tcpAddress);
+        if (peer != null) {
+            peer.close();
+        }
+    }
+
+    private void expireMembers() {
+        long now = System.currentTimeMillis();
+        boolean changed = false;
+
+        for (ClusterNode member : members.values()) {
+            if (member.getId().equals(self.getId())) continue;
+
+            Long seen = lastSeen.get(member.getId());
+            if (seen == null || now - seen > failureTimeoutMs) {
+                members.remove(member.getId());
+                lastSeen.remove(member.getId());
+                lostIncarnations.put(member.getId(), member.getIncarnation());
+                pins.values().removeIf(member.getId()::equals);
+                closePeer(member.getTcpAddress());
+                System.out.println("Cluster member lost: " + member.encode());
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            rebuildRing();
+        }
+    }
+
+    private synchronized void rebuildRing() {
+        ring = new ConsistentHashRing(members.values(), virtualNodes);
+
+        // Rooms stay where they were created; pin the ones the new ring would send elsewhere
+        for (String gameCode : localRooms.get()) {
+            if (tombstones.containsKey(gameCode)) {
+                continue; // Removed while we were listing
+            }
+            if (!self.getId().equals(ring.ownerOf(gameCode).getId())) {
+                pins.put(gameCode, self.getId());
+            } else {
+                pins.remove(gameCode, self.getId());
+            }
+        }
+    }
+
+    private String membersLine() {
+        StringBuilder line = new StringBuilder("MEMBERS ").append(self.encode());
+        for (ClusterNode member : members.values()) {
+            if (!member.getId().equals(self.getId())) {
+                line.append(';').append(member.encode());
+            }
+        }
+
+        line.append('|');
+        boolean first = true;
+        for (Map.Entry<String, String> pin : pins.entrySet()) {
+            if (!first) line.append(',');
+            line.append(pin.getKey()).append('=').append(pin.getValue());
+            first = false;
+        }
+
+        line.append('|');
+        first = true;
+        for (Map.Entry<String, Long> tombstone : tombstones.entrySet()) {
+            if (!first) line.append(',');
+            line.append(tombstone.getKey()).append('=').append(tombstone.getValue());
+            first = false;
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,33 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterNode.java
+package com.edwn.unihack.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterNode {
+    private String id;
+    private String tcpAddress; // host:port of the cluster protocol listener
+    private String httpUrl; // Base URL clients should be redirected to
+    private long incarnation; // Start time of the node process; a restarted node has a newer one
+
+    /**
+     * Wire form used by the cluster protocol: {@code id tcpAddress httpUrl incarnation}.
+     */
+    public String encode() {
+        return id + " " + tcpAddress + " " + httpUrl + " " + incarnation;
+    }
+
+    public static ClusterNode decode(String encoded) {
+        String[] parts = encoded.trim().split(" ");
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException("Malformed node: " + encoded);
+        }
+        // Nodes from before incarnations were gossiped send three parts
+        long incarnation = parts.length == 4 ? Long.parseLong(parts[3]) : 0;
+        return new ClusterNode(parts[0], parts[1], parts[2], incarnation);
+    }
+}
@@ -0,0 +1,57 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterPeer.java
+package com.edwn.unihack.cluster;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of connections to one peer. Each connection still carries one request at a
+ * time, so the pool lets a few forwarded actions and heartbeats be in flight at once instead
+ * of queueing behind the slowest.
+ */
+class ClusterPeer {
+    private final String tcpAddress;
+    private final int timeoutMs;
+    private final List<ClusterConnection> connections;
+    private final BlockingQueue<ClusterConnection> idle;
+
+    ClusterPeer(String tcpAddress, int size, int timeoutMs) {
+        this.tcpAddress = tcpAddress;
+        this.timeoutMs = timeoutMs;
+        this.connections = new ArrayList<>(size);
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            ClusterConnection connection = new ClusterConnection(tcpAddress, timeoutMs); // Connects on first use
+            connections.add(connection);
+            idle.add(connection);
+        }
+    }
+
+    String request(String line) throws IOException {
+        ClusterConnection connection;
+        try {
+            connection = idle.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a connection to " + tcpAddress);
+        }
+        if (connection == null) {
+            throw new IOException("All " + connections.size() + " connections to " + tcpAddress + " are busy");
+        }
+
+        try {
+            return connection.request(line);
+        } finally {
+            idle.add(connection);
+        }
+    }
+
+    void close() {
+        connections.forEach(ClusterConnection::close);
+    }
+}
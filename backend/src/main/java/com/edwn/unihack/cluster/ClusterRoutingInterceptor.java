@@ -0,0 +1,63 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterRoutingInterceptor.java
+package com.edwn.unihack.cluster;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Redirects REST calls for a room to the node that owns it. Only paths that carry the game
+ * code in the URL are handled here; joins, which carry it in the body, redirect themselves.
+ */
+@Component
+public class ClusterRoutingInterceptor implements HandlerInterceptor {
+    // First path segments under /api/game that are not game codes
+    private static final Set<String> NON_ROOM_SEGMENTS = Set.of("dealer", "player", "scanner", "stats");
+
+    private final RoomPlacement roomPlacement;
+
+    public ClusterRoutingInterceptor(RoomPlacement roomPlacement) {
+        this.roomPlacement = roomPlacement;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String gameCode = extractGameCode(path);
+        if (gameCode == null) {
+            return true;
+        }
+
+        String ownerUrl = roomPlacement.ownerUrl(gameCode);
+        if (ownerUrl == null) {
+            return true;
+        }
+
+        // 307 keeps the method and body, so POSTs are replayed against the owner
+        String query = request.getQueryString();
+        response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+        response.setHeader("Location", ownerUrl + path + (query != null ? "?" + query : ""));
+        return false;
+    }
+
+    static String extractGameCode(String path) {
+        String rest;
+        if (path.startsWith("/api/game/")) {
+            rest = path.substring("/api/game/".length());
+        } else if (path.startsWith("/api/scanner/")) {
+            rest = path.substring("/api/scanner/".length());
+        } else {
+            return null;
+        }
+
+        int slash = rest.indexOf('/');
+        String segment = slash < 0 ? rest : rest.substring(0, slash);
+        if (segment.isEmpty() || NON_ROOM_SEGMENTS.contains(segment)) {
+            return null;
+        }
+        return segment;
+    }
+}
@@ -0,0 +1,250 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ClusterServer.java
+package com.edwn.unihack.cluster;
+
+import com.edwn.unihack.dto.GameRoomResponse;
+import com.edwn.unihack.dto.RoomSnapshot;
+import com.edwn.unihack.dto.ScanBatchResponse;
+import com.edwn.unihack.dto.ScanStatus;
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.service.GameRoomService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Listener for the line-based cluster protocol:
+ * <pre>
+ * HELLO &lt;id&gt; &lt;tcpAddress&gt; &lt;httpUrl&gt; &lt;incarnation&gt;
+ *     -&gt; MEMBERS &lt;node&gt;;&lt;node&gt;...|&lt;code&gt;=&lt;nodeId&gt;,...|&lt;code&gt;=&lt;tombstone expiry&gt;,...
+ * PIN &lt;gameCode&gt; &lt;nodeId&gt;               -&gt; OK
+ * FORWARD &lt;gameCode&gt; &lt;action json&gt;      -&gt; OK | ERR &lt;reason&gt;
+ * SCANS &lt;gameCode&gt; &lt;cards json&gt;         -&gt; OK &lt;statuses json&gt; | ERR &lt;reason&gt;
+ * ROOM &lt;gameCode&gt;                       -&gt; OK &lt;room json&gt; | ERR &lt;reason&gt;
+ * PING                                     -&gt; PONG
+ * </pre>
+ * It also forwards STOMP actions for rooms owned by other nodes.
+ */
+@Component
+public class ClusterServer {
+    private final ClusterMembership membership;
+    private final GameRoomService gameRoomService;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private ExecutorService connectionPool;
+
+    public ClusterServer(ClusterMembership membership,
+                         GameRoomService gameRoomService,
+                         ObjectMapper objectMapper,
+                         @Value("${unihack.cluster.port:9300}") int port) {
+        this.membership = membership;
+        this.gameRoomService = gameRoomService;
+        this.objectMapper = objectMapper;
+        this.port = port;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        membership.setLocalRooms(gameRoomService::getRoomCodes);
+        if (!membership.isEnabled()) {
+            return;
+        }
+
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+
+        connectionPool = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "Cluster-Connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Thread acceptThread = new Thread(this::acceptLoop, "Cluster-Accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        System.out.println("Cluster node " + membership.getSelf().encode() + " listening on port " + port);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+        for (Socket socket : openSockets) {
+            socket.close();
+        }
+        if (connectionPool != null) {
+            connectionPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends an action for a room owned by another node to that node.
+     *
+     * @return true if the owner accepted it
+     */
+    public boolean forwardAction(String gameCode, GameAction action) {
+        ClusterNode owner = membership.ownerOf(gameCode);
+        try {
+            String reply = membership.request(owner, "FORWARD " + gameCode + " " + objectMapper.writeValueAsString(action));
+            return "OK".equals(reply);
+        } catch (IOException e) {
+            System.err.println("Failed to forward action for room " + gameCode + " to " + owner.getId() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Sends a scan batch for a room owned by another node to that node, which applies it as
+     * one batch.
+     *
+     * @return the owner's statuses, or null if it couldn't be reached or has no such room
+     */
+    public ScanBatchResponse forwardScans(String gameCode, List<Card> cards) {
+        ClusterNode owner = membership.ownerOf(gameCode);
+        try {
+            String reply = membership.request(owner, "SCANS " + gameCode + " " + objectMapper.writeValueAsString(cards));
+            if (reply == null || !reply.startsWith("OK ")) {
+                return null;
+            }
+            ScanStatus[] statuses = objectMapper.readValue(reply.substring(3), ScanStatus[].class);
+            return ScanBatchResponse.builder()
+                    .gameCode(gameCode)
+                    .statuses(Arrays.asList(statuses))
+                    .build();
+        } catch (IOException e) {
+            System.err.println("Failed to forward scans for room " + gameCode + " to " + owner.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Fetches the latest broadcast state of a room owned by another node, for a client that
+     * joined through this one.
+     *
+     * @return the owner's room, or null if it couldn't be reached or has no such room
+     */
+    public GameRoomResponse fetchRoom(String gameCode) {
+        ClusterNode owner = membership.ownerOf(gameCode);
+        try {
+            String reply = membership.request(owner, "ROOM " + gameCode);
+            if (reply == null || !reply.startsWith("OK ")) {
+                return null;
+            }
+            return objectMapper.readValue(reply.substring(3), GameRoomResponse.class);
+        } catch (IOException e) {
+            System.err.println("Failed to fetch room " + gameCode + " from " + owner.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                openSockets.add(socket);
+                connectionPool.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Cluster accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(handle(line));
+                writer.write('\n');
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // Peer went away
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    String handle(String line) {
+        int space = line.indexOf(' ');
+        String command = space < 0 ? line : line.substring(0, space);
+        String args = space < 0 ? "" : line.substring(space + 1);
+
+        try {
+            switch (command) {
+                case "HELLO":
+                    return membership.onHello(ClusterNode.decode(args));
+                case "PIN": {
+                    String[] parts = args.split(" ");
+                    membership.pin(parts[0], parts[1]);
+                    return "OK";
+                }
+                case "FORWARD": {
+                    int split = args.indexOf(' ');
+                    String gameCode = args.substring(0, split);
+                    GameAction action = objectMapper.readValue(args.substring(split + 1), GameAction.class);
+                    if (gameRoomService.findRoomByCode(gameCode).isEmpty()) {
+                        return "ERR room not found";
+                    }
+                    gameRoomService.processAction(gameCode, action);
+                    return "OK";
+                }
+                case "SCANS": {
+                    int split = args.indexOf(' ');
+                    String gameCode = args.substring(0, split);
+                    Card[] cards = objectMapper.readValue(args.substring(split + 1), Card[].class);
+                    Optional<List<ScanStatus>> statuses = gameRoomService.scanCards(gameCode, Arrays.asList(cards));
+                    if (statuses.isEmpty()) {
+                        return "ERR room not found";
+                    }
+                    return "OK " + objectMapper.writeValueAsString(statuses.get());
+                }
+                case "ROOM": {
+                    Optional<RoomSnapshot> snapshot = gameRoomService.findSnapshot(args);
+                    if (snapshot.isEmpty()) {
+                        return "ERR room not found";
+                    }
+                    return "OK " + objectMapper.writeValueAsString(snapshot.get().getRoom());
+                }
+                case "PING":
+                    return "PONG";
+                default:
+                    return "ERR unknown command";
+            }
+        } catch (JsonProcessingException e) {
+            return "ERR malformed action";
+        } catch (RuntimeException e) {
+            // The reply is a single line, so a multi-line message would desync the peer
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return "ERR " + message.replaceAll("[\\r\\n]+", " ");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+// backend/src/main/java/com/edwn/unihack/cluster/ConsistentHashRing.java
+package com.edwn.unihack.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable consistent-hash ring with virtual nodes. Lookups are a binary search over a
+ * primitive array, so rebuilding the ring on membership changes and swapping the reference
+ * is cheaper than synchronising readers.
+ */
+public final class ConsistentHashRing {
+    private final long[] points;
+    private final ClusterNode[] owners;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        List<ClusterNode> sorted = nodes.stream()
+                .sorted(Comparator.comparing(ClusterNode::getId))
+                .collect(Collectors.toList());
+
+        int size = sorted.size() * virtualNodes;
+        long[][] entries = new long[size][2];
+        int index = 0;
+        for (int n = 0; n < sorted.size(); n++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                entries[index][0] = hash(sorted.get(n).getId() + "#" + v);
+                entries[index][1] = n;
+                index++;
+            }
+        }
+        Arrays.sort(entries, Comparator.comparingLong(e -> e[0]));
+
+        points = new long[size];
+        owners = new ClusterNode[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = sorted.get((int) entries[i][1]);
+        }
+    }
+
+    public ClusterNode ownerOf(String key) {
+        if (points.length == 0) {
+            return null;
+        }
+
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    /**
+     * FNV-1a followed by the MurmurHash3 finaliser, so short similar keys such as game codes
+     * still spread evenly around the ring.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
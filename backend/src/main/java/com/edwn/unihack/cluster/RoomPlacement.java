@@ -0,0 +1,26 @@
+// backend/src/main/java/com/edwn/unihack/cluster/RoomPlacement.java
+package com.edwn.unihack.cluster;
+
+/**
+ * Decides which backend node owns a room.
+ */
+public interface RoomPlacement {
+
+    boolean isLocal(String gameCode);
+
+    /**
+     * Base HTTP URL of the owning node, or null when the room is owned locally.
+     */
+    String ownerUrl(String gameCode);
+
+    /**
+     * Called when this node creates a room, before it is reachable. The room stays on this
+     * node even if its code hashes elsewhere.
+     */
+    default void roomCreated(String gameCode) {
+    }
+
+    // Called once a room created on this node has been disbanded or evicted
+    default void roomRemoved(String gameCode) {
+    }
+}
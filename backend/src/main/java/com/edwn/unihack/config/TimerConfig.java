@@ -0,0 +1,31 @@
+// backend/src/main/java/com/edwn/unihack/config/TimerConfig.java
+package com.edwn.unihack.config;
+
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class TimerConfig {
+
+    // Shared by every room, so timers never need a thread (or scheduled task) of their own
+    @Bean(destroyMethod = "stop")
+    public HashedTimingWheel timingWheel(@Value("${unihack.timer.tick-ms:100}") long tickMs,
+                                         @Value("${unihack.timer.wheel-size:512}") int wheelSize,
+                                         @Value("${unihack.timer.dispatch-threads:2}") int dispatchThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService dispatcher = Executors.newFixedThreadPool(dispatchThreads, r -> {
+            Thread thread = new Thread(r, "Timer-Dispatch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return new HashedTimingWheel(tickMs, TimeUnit.MILLISECONDS, wheelSize, dispatcher, "Timing-Wheel");
+    }
+}
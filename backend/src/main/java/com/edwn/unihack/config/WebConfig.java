@@ -1,16 +1,18 @@
 // backend/src/main/java/com/edwn/unihack/config/WebConfig.java
 package com.edwn.unihack.config;
 
+import com.edwn.unihack.cluster.ClusterRoutingInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig {
 
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
+    public WebMvcConfigurer corsConfigurer(ClusterRoutingInterceptor clusterRoutingInterceptor) {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(CorsRegistry registry) {
@@ -20,6 +22,13 @@ public class WebConfig {
                         .allowedHeaders("*") // Allow all headers
                         .allowCredentials(false); // Must be false when allowedOrigins contains "*"
             }
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // Send room requests to the cluster node that owns the room
+                registry.addInterceptor(clusterRoutingInterceptor)
+                        .addPathPatterns("/api/game/**", "/api/scanner/**");
+            }
         };
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 // backend/src/main/java/com/edwn/unihack/config/WebSocketConfig.java
 package com.edwn.unihack.config;
 
+import com.edwn.unihack.metrics.BroadcastPayloadInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -9,12 +11,16 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final BroadcastPayloadInterceptor broadcastPayloadInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
+        config.configureBrokerChannel().interceptors(broadcastPayloadInterceptor);
     }
 
     @Override
@@ -0,0 +1,36 @@
+// backend/src/main/java/com/edwn/unihack/controller/ClusterController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.cluster.ClusterMembership;
+import com.edwn.unihack.cluster.ClusterNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collection;
+
+@RestController
+@RequestMapping("/api/cluster")
+@RequiredArgsConstructor
+public class ClusterController {
+
+    private final ClusterMembership clusterMembership;
+
+    @GetMapping("/members")
+    public Collection<ClusterNode> getMembers() {
+        return clusterMembership.getMembers();
+    }
+
+    // Clients use this to open their WebSocket on the node that broadcasts the room's updates.
+    // A single node has no useful URL of its own, so clients keep the one they already use.
+    @GetMapping("/owner/{gameCode}")
+    public ResponseEntity<ClusterNode> getOwner(@PathVariable String gameCode) {
+        if (!clusterMembership.isEnabled()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(clusterMembership.ownerOf(gameCode));
+    }
+}
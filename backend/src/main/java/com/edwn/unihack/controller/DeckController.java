@@ -0,0 +1,30 @@
+// backend/src/main/java/com/edwn/unihack/controller/DeckController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.deck.DeckRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/decks")
+@RequiredArgsConstructor
+public class DeckController {
+
+    private final DeckRegistry deckRegistry;
+
+    // Tag counts per deck per venue
+    @GetMapping
+    public ResponseEntity<?> listDecks() {
+        return ResponseEntity.ok(deckRegistry.describe());
+    }
+
+    // Picks up edited deck files now instead of at the next poll
+    @PostMapping("/reload")
+    public ResponseEntity<?> reloadDecks() {
+        return ResponseEntity.ok(deckRegistry.reload());
+    }
+}
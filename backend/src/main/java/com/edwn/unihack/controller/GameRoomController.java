@@ -1,12 +1,21 @@
 package com.edwn.unihack.controller;
 
+import com.edwn.unihack.bot.BotService;
+import com.edwn.unihack.cluster.RoomPlacement;
 import com.edwn.unihack.dto.CreatePlayerRequest;
 import com.edwn.unihack.dto.GameRoomResponse;
 import com.edwn.unihack.dto.JoinRoomRequest;
+import com.edwn.unihack.dto.RewindStatus;
 import com.edwn.unihack.model.GameRoom;
 import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.PlayerStats;
 import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.service.PlayerStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,6 +27,10 @@ import java.util.UUID;
 public class GameRoomController {
 
     private final GameRoomService gameRoomService;
+    private final PlayerStatsService playerStatsService;
+    private final RoomPlacement roomPlacement;
+    private final BotService botService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/dealer/create")
     public ResponseEntity<GameRoomResponse> createRoom() {
@@ -39,6 +52,11 @@ public class GameRoomController {
             return ResponseEntity.badRequest().body("Game code and name are required");
         }
 
+        String ownerUrl = roomPlacement.ownerUrl(request.getGameCode());
+        if (ownerUrl != null) {
+            return redirectToOwner(ownerUrl + "/api/game/player/join");
+        }
+
         GameRoom room = gameRoomService.findRoomByCode(request.getGameCode()).orElse(null);
         if (room == null) {
             return ResponseEntity.badRequest().body("Room not found");
@@ -81,6 +99,11 @@ public class GameRoomController {
             return ResponseEntity.badRequest().body("Game code is required");
         }
 
+        String ownerUrl = roomPlacement.ownerUrl(request.getGameCode());
+        if (ownerUrl != null) {
+            return redirectToOwner(ownerUrl + "/api/game/scanner/join");
+        }
+
         String scannerId = UUID.randomUUID().toString();
         boolean success = gameRoomService.addScannerToRoom(request.getGameCode(), scannerId);
 
@@ -93,25 +116,38 @@ public class GameRoomController {
 
     @GetMapping("/{gameCode}")
     public ResponseEntity<?> getRoomStatus(@PathVariable String gameCode) {
-        return gameRoomService.findRoomByCode(gameCode)
-                .map(room -> ResponseEntity.ok(GameRoomResponse.builder()
-                        .id(room.getId())
-                        .players(room.getPlayers())
-                        .gameState(room.getGameState())
-                        .waitingForCards(room.isWaitingForCards())
-                        .communityCards(room.getCommunityCards())
-                        .currentPlayerIndex(room.getCurrentPlayerIndex())
-                        .pot(room.getPot())
-                        .actions(room.getActions())
-                        .bets(room.getBets())
-                        .currentBet(room.getCurrentBet())
-                        .smallBlindPosition(room.getSmallBlindPosition())
-                        .dealerId(room.getDealerId())
-                        .winnerIds(room.getWinnerIds())
-                        .build()))
+        // Pollers share the snapshot's serialized bytes instead of each serializing the room
+        return gameRoomService.findSnapshot(gameCode)
+                .map(snapshot -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(snapshot.toJson(objectMapper)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // The game log as text; broadcasts only carry the compact events
+    @GetMapping("/{gameCode}/log")
+    public ResponseEntity<?> getRoomLog(@PathVariable String gameCode) {
+        return gameRoomService.renderLog(gameCode)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{gameCode}/stats")
+    public ResponseEntity<?> getRoomStats(@PathVariable String gameCode) {
+        return gameRoomService.statsForRoom(gameCode)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/stats/{playerId}")
+    public ResponseEntity<?> getPlayerStats(@PathVariable String playerId) {
+        PlayerStats stats = playerStatsService.findStats(playerId);
+        if (stats == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+
     @PostMapping("/{gameCode}/start")
     public ResponseEntity<?> startGame(@PathVariable String gameCode) {
         GameRoom room = gameRoomService.findRoomByCode(gameCode).orElse(null);
@@ -144,15 +180,54 @@ public class GameRoomController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Lets a table with nobody to scan cards have the server deal them
+    @PostMapping("/{gameCode}/virtual-dealing")
+    public ResponseEntity<?> setVirtualDealing(@PathVariable String gameCode, @RequestParam boolean enabled) {
+        if (!gameRoomService.setVirtualDealing(gameCode, enabled)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    // Dealer corrections: takes back the last action, or everything from ?actionIndex= on
+    @PostMapping("/{gameCode}/undo")
+    public ResponseEntity<?> undo(@PathVariable String gameCode, @RequestParam(defaultValue = "-1") int actionIndex) {
+        RewindStatus status = gameRoomService.rewindHand(gameCode, actionIndex).orElse(null);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        switch (status) {
+            case REWOUND:
+                return ResponseEntity.ok().build();
+            case NOTHING_TO_UNDO:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Nothing to undo in the hand in progress.");
+            case HAND_COMPLETE:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("The hand is already over and can no longer be changed.");
+            default:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Players joined or left since that action, so it can't be undone.");
+        }
+    }
+
     @PostMapping("/dealer/add-fake-player")
     public ResponseEntity<?> addFakePlayer(@RequestBody CreatePlayerRequest request) {
         if (request.getGameCode() == null || request.getName() == null) {
             return ResponseEntity.badRequest().body("Game code and name are required");
         }
 
+        if (request.getBotStrategy() != null && !botService.hasStrategy(request.getBotStrategy())) {
+            return ResponseEntity.badRequest().body("Unknown bot strategy. Available: " + botService.getStrategyNames());
+        }
+
+        String ownerUrl = roomPlacement.ownerUrl(request.getGameCode());
+        if (ownerUrl != null) {
+            return redirectToOwner(ownerUrl + "/api/game/dealer/add-fake-player");
+        }
+
         Player player = gameRoomService.addFakePlayerToRoom(
                 request.getGameCode(),
-                request.getName()
+                request.getName(),
+                request.getBotStrategy()
         );
 
         if (player == null) {
@@ -184,4 +259,11 @@ public class GameRoomController {
         }
         return ResponseEntity.ok().build();
     }
+
+    private ResponseEntity<?> redirectToOwner(String location) {
+        // 307 so the client repeats the POST, body included, against the owning node
+        return ResponseEntity.status(HttpStatus.TEMPORARY_REDIRECT)
+                .header(HttpHeaders.LOCATION, location)
+                .build();
+    }
 }
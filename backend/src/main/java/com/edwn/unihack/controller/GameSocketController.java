@@ -1,7 +1,12 @@
 // backend/src/main/java/com/edwn/unihack/controller/GameSocketController.java
 package com.edwn.unihack.controller;
 
+import com.edwn.unihack.cluster.ClusterServer;
+import com.edwn.unihack.cluster.RoomPlacement;
 import com.edwn.unihack.dto.GameRoomResponse;
+import com.edwn.unihack.dto.RoomSnapshot;
+import com.edwn.unihack.dto.ScanBatchResponse;
+import com.edwn.unihack.model.Card;
 import com.edwn.unihack.model.GameAction;
 import com.edwn.unihack.service.GameRoomService;
 import lombok.RequiredArgsConstructor;
@@ -10,35 +15,55 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class GameSocketController {
 
     private final GameRoomService gameRoomService;
+    private final RoomPlacement roomPlacement;
+    private final ClusterServer clusterServer;
 
     @MessageMapping("/game/{gameCode}/join")
     @SendTo("/topic/game/{gameCode}")
     public GameRoomResponse joinGame(@DestinationVariable String gameCode) {
-        return gameRoomService.findRoomByCode(gameCode)
-                .map(room -> GameRoomResponse.builder()
-                        .id(room.getId())
-                        .players(room.getPlayers())
-                        .gameState(room.getGameState())
-                        .waitingForCards(room.isWaitingForCards())
-                        .communityCards(room.getCommunityCards())
-                        .currentPlayerIndex(room.getCurrentPlayerIndex())
-                        .pot(room.getPot())
-                        .actions(room.getActions())
-                        .bets(room.getBets())
-                        .currentBet(room.getCurrentBet())
-                        .dealerId(room.getDealerId())
-                        .build())
+        // Clients open their socket on the owner, but one that resolved it before the room
+        // was pinned elsewhere still gets the current state
+        if (!roomPlacement.isLocal(gameCode)) {
+            return clusterServer.fetchRoom(gameCode);
+        }
+
+        return gameRoomService.findSnapshot(gameCode)
+                .map(RoomSnapshot::getRoom)
                 .orElse(null);
     }
 
     @MessageMapping("/game/{gameCode}/action")
     public void processGameAction(@DestinationVariable String gameCode, GameAction action) {
+        // Rooms owned by another node are processed (and broadcast) there
+        if (!roomPlacement.isLocal(gameCode)) {
+            clusterServer.forwardAction(gameCode, action);
+            return;
+        }
+
         // Process the action
         gameRoomService.processAction(gameCode, action);
     }
+
+    // Card statuses go to scanners on their own topic; the room update goes out as usual
+    @MessageMapping("/game/{gameCode}/scan-batch")
+    @SendTo("/topic/game/{gameCode}/scans")
+    public ScanBatchResponse scanCards(@DestinationVariable String gameCode, List<Card> cards) {
+        if (!roomPlacement.isLocal(gameCode)) {
+            return clusterServer.forwardScans(gameCode, cards);
+        }
+
+        return gameRoomService.scanCards(gameCode, cards)
+                .map(statuses -> ScanBatchResponse.builder()
+                        .gameCode(gameCode)
+                        .statuses(statuses)
+                        .build())
+                .orElse(null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+// backend/src/main/java/com/edwn/unihack/controller/LobbyController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.dto.LobbyEntry;
+import com.edwn.unihack.dto.LobbyPage;
+import com.edwn.unihack.lobby.LobbyService;
+import com.edwn.unihack.model.GameRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LobbyController {
+
+    private final LobbyService lobbyService;
+
+    // Rooms on this node, a page at a time; follow nextCursor with after= and /topic/lobby for changes
+    @GetMapping("/api/lobby")
+    public ResponseEntity<LobbyPage> lobby(@RequestParam(required = false) GameRoom.GameState state,
+                                           @RequestParam(required = false) LobbyEntry.Kind kind,
+                                           @RequestParam(defaultValue = "0") int minOpenSeats,
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(lobbyService.query(state, kind, minOpenSeats, after, limit));
+    }
+}
@@ -0,0 +1,28 @@
+// backend/src/main/java/com/edwn/unihack/controller/MetricsController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final MetricsRegistry metricsRegistry;
+
+    // Prometheus scrape target
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String getPrometheusMetrics() {
+        return metricsRegistry.renderPrometheus();
+    }
+
+    @GetMapping("/api/metrics")
+    public List<Map<String, Object>> getMetrics() {
+        return metricsRegistry.snapshot();
+    }
+}
@@ -0,0 +1,32 @@
+// backend/src/main/java/com/edwn/unihack/controller/ReplayController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.replay.ReplayReport;
+import com.edwn.unihack.replay.ReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class ReplayController {
+
+    private final ReplayService replayService;
+
+    // Replays archived hands in the request thread and reports any that no longer end as recorded
+    @PostMapping("/api/archive/replay")
+    public ResponseEntity<?> replayArchive(@RequestParam(defaultValue = "0") long limit,
+                                           @RequestParam(defaultValue = "1") int passes) {
+        try {
+            ReplayReport report = replayService.replayArchive(limit, passes);
+            return ResponseEntity.ok(report);
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Could not read the hand archive: " + e.getMessage());
+        }
+    }
+}
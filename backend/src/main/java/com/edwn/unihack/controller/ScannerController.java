@@ -1,27 +1,90 @@
 // backend/src/main/java/com/edwn/unihack/controller/ScannerController.java
 package com.edwn.unihack.controller;
 
+import com.edwn.unihack.dto.ScanBatchResponse;
+import com.edwn.unihack.dto.ScanStatus;
+import com.edwn.unihack.dto.TagScanRequest;
+import com.edwn.unihack.deck.DeckRegistry;
 import com.edwn.unihack.model.Card;
 import com.edwn.unihack.service.GameRoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/scanner")
 @RequiredArgsConstructor
 public class ScannerController {
 
+    // Scanners that number their reads send both; a batch's header numbers its first card
+    static final String SCANNER_ID_HEADER = "X-Scanner-Id";
+    static final String SCAN_SEQ_HEADER = "X-Scan-Seq";
+
     private final GameRoomService gameRoomService;
+    private final DeckRegistry deckRegistry;
 
     @PostMapping("/{gameCode}/scan")
-    public ResponseEntity<?> scanCard(@PathVariable String gameCode, @RequestBody Card card) {
-        boolean success = gameRoomService.scanCard(gameCode, card);
+    public ResponseEntity<?> scanCard(@PathVariable String gameCode, @RequestBody Card card,
+                                      @RequestHeader(value = SCANNER_ID_HEADER, required = false) String scannerId,
+                                      @RequestHeader(value = SCAN_SEQ_HEADER, required = false) Long seq) {
+        ScanStatus status = gameRoomService.scanCard(gameCode, card, numbered(scannerId, seq), seq != null ? seq : 0)
+                .orElse(null);
+        return respond(status);
+    }
+
+    // A raw tag UID, resolved against the venue's registered decks
+    @PostMapping("/{gameCode}/scan-tag")
+    public ResponseEntity<?> scanTag(@PathVariable String gameCode, @RequestBody TagScanRequest request,
+                                     @RequestHeader(value = SCANNER_ID_HEADER, required = false) String scannerId,
+                                     @RequestHeader(value = SCAN_SEQ_HEADER, required = false) Long seq) {
+        int cardId = deckRegistry.resolve(request.getVenue(), request.getUid());
+        if (cardId == DeckRegistry.UNKNOWN) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tag " + request.getUid() + " is not in any registered deck.");
+        }
+
+        ScanStatus status = gameRoomService.scanCard(gameCode, Card.fromId(cardId), numbered(scannerId, seq), seq != null ? seq : 0)
+                .orElse(null);
+        return respond(status);
+    }
+
+    // Several cards in one round trip, e.g. a whole preflop deal, broadcast once
+    @PostMapping("/{gameCode}/scan-batch")
+    public ResponseEntity<?> scanCards(@PathVariable String gameCode, @RequestBody List<Card> cards,
+                                       @RequestHeader(value = SCANNER_ID_HEADER, required = false) String scannerId,
+                                       @RequestHeader(value = SCAN_SEQ_HEADER, required = false) Long firstSeq) {
+        return gameRoomService.scanCards(gameCode, cards, numbered(scannerId, firstSeq), firstSeq != null ? firstSeq : 0)
+                .map(statuses -> ResponseEntity.ok(ScanBatchResponse.builder()
+                        .gameCode(gameCode)
+                        .statuses(statuses)
+                        .build()))
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        if (!success) {
+    private static ResponseEntity<?> respond(ScanStatus status) {
+        if (status == null) {
             return ResponseEntity.badRequest().body("Failed to scan card. Game might not exist or not be in a state accepting cards.");
         }
 
-        return ResponseEntity.ok().build();
+        // Tell the scanner right away about reads that were dropped
+        switch (status) {
+            case DEBOUNCED:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Double read of the card just dealt, ignored.");
+            case DUPLICATE:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("This card was already dealt this hand. Check for a misdeal.");
+            case STALE:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Scan sequence number is too old to check, ignored.");
+            case INVALID:
+                return ResponseEntity.badRequest().body("Card is missing its suit or rank.");
+            default:
+                return ResponseEntity.ok().build();
+        }
+    }
+
+    // Retries can only be recognised when the scanner numbers its reads
+    private static String numbered(String scannerId, Long seq) {
+        return seq != null ? scannerId : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+// backend/src/main/java/com/edwn/unihack/controller/TournamentController.java
+package com.edwn.unihack.controller;
+
+import com.edwn.unihack.bot.BotService;
+import com.edwn.unihack.dto.CreateTournamentRequest;
+import com.edwn.unihack.dto.RegisterTournamentRequest;
+import com.edwn.unihack.model.Tournament;
+import com.edwn.unihack.model.TournamentEntrant;
+import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.tournament.TournamentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/tournament")
+@RequiredArgsConstructor
+public class TournamentController {
+
+    private final TournamentService tournamentService;
+    private final BotService botService;
+
+    @PostMapping("/create")
+    public ResponseEntity<?> createTournament(@RequestBody CreateTournamentRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return ResponseEntity.badRequest().body("Tournament name is required");
+        }
+        if (request.getTableSize() < 2 || request.getTableSize() > GameRoomService.MAX_TABLE_SIZE) {
+            return ResponseEntity.badRequest().body("Table size must be between 2 and " + GameRoomService.MAX_TABLE_SIZE);
+        }
+        if (request.getStartingChips() <= 0 || request.getLevelSeconds() <= 0) {
+            return ResponseEntity.badRequest().body("Starting chips and level length must be positive");
+        }
+
+        return ResponseEntity.ok(tournamentService.createTournament(
+                request.getName(),
+                request.getStartingChips(),
+                request.getTableSize(),
+                request.getLevelSeconds()
+        ));
+    }
+
+    @GetMapping
+    public Collection<Tournament> getTournaments() {
+        return tournamentService.getTournaments();
+    }
+
+    @GetMapping("/{tournamentId}")
+    public ResponseEntity<Tournament> getTournament(@PathVariable String tournamentId) {
+        return tournamentService.findTournament(tournamentId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Answered once the tournament's executor has handled it, without holding a request thread
+    @PostMapping("/{tournamentId}/register")
+    public CompletableFuture<ResponseEntity<?>> register(@PathVariable String tournamentId, @RequestBody RegisterTournamentRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Name is required"));
+        }
+        if (request.getBotStrategy() != null && !botService.hasStrategy(request.getBotStrategy())) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Unknown bot strategy. Available: " + botService.getStrategyNames()));
+        }
+
+        return tournamentService.register(
+                tournamentId,
+                request.getName(),
+                request.isOnline(),
+                request.isVisuallyImpaired(),
+                request.isFake(),
+                request.getBotStrategy()
+        ).thenApply(entrant -> {
+            if (entrant == null) {
+                return ResponseEntity.badRequest().body("Unable to register. The tournament may have started or the name is taken.");
+            }
+            return ResponseEntity.ok(entrant);
+        });
+    }
+
+    @PostMapping("/{tournamentId}/start")
+    public CompletableFuture<ResponseEntity<?>> start(@PathVariable String tournamentId) {
+        return tournamentService.startTournament(tournamentId).thenApply(started -> {
+            if (!started) {
+                return ResponseEntity.badRequest().body("Unable to start. The tournament needs at least 2 entrants and must not have started.");
+            }
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    @GetMapping("/{tournamentId}/standings")
+    public List<TournamentEntrant> getStandings(@PathVariable String tournamentId) {
+        return tournamentService.getStandings(tournamentId);
+    }
+
+    // Players poll this to find the table they have been seated at or moved to
+    @GetMapping("/{tournamentId}/players/{playerId}")
+    public ResponseEntity<TournamentEntrant> getEntrant(@PathVariable String tournamentId, @PathVariable String playerId) {
+        return tournamentService.findEntrant(tournamentId, playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
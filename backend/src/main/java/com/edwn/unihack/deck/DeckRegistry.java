@@ -0,0 +1,257 @@
+// backend/src/main/java/com/edwn/unihack/deck/DeckRegistry.java
+package com.edwn.unihack.deck;
+
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.util.hash.LongIntHashMap;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Maps the raw UIDs of the NFC tags in each venue's decks to cards, so scanners can send what
+ * they read and a new deck is a file drop rather than a scanner rebuild.
+ * <p>
+ * Decks live under {@code unihack.decks.dir} as {@code <venue>/<deck>.deck}, one tag per line:
+ * <pre>
+ * # Comments and blank lines are skipped
+ * 4628F22E1791 5H
+ * 4B132FA2E1790 8S
+ * </pre>
+ * with the card as rank ({@code 23456789TJQKA}) then suit ({@code HDCS}). Each venue's tags
+ * go into one open-addressing table. Reloads build complete new tables and swap them in with
+ * a single write, so scans resolving against the old ones never wait. The directory is polled
+ * every {@code unihack.decks.reload-seconds} and reloaded when a deck file changes.
+ */
+@Service
+public class DeckRegistry {
+    public static final int UNKNOWN = -1;
+
+    private static final String DECK_SUFFIX = ".deck";
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "HDCS"; // Card.Suit order
+    private static final int MAX_UID_DIGITS = 14; // 56 bits, leaving the top byte for the digit count
+
+    private final Path directory;
+    private final String defaultVenue;
+    private final HashedTimingWheel timingWheel;
+    private final long reloadMillis;
+    private volatile Map<String, Venue> venues = Collections.emptyMap();
+    private long loadedSignature; // Guarded by this
+
+    public DeckRegistry(HashedTimingWheel timingWheel,
+                        MetricsRegistry metricsRegistry,
+                        @Value("${unihack.decks.dir:decks}") String directory,
+                        @Value("${unihack.decks.default-venue:default}") String defaultVenue,
+                        @Value("${unihack.decks.reload-seconds:10}") long reloadSeconds) {
+        this.timingWheel = timingWheel;
+        this.directory = Paths.get(directory);
+        this.defaultVenue = defaultVenue;
+        this.reloadMillis = TimeUnit.SECONDS.toMillis(reloadSeconds);
+        metricsRegistry.gauge("unihack_deck_tags", "NFC tags known across every venue's decks", this::tagCount);
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+        if (reloadMillis > 0) {
+            scheduleReloadCheck();
+        }
+    }
+
+    /**
+     * @param venue the scanner's venue, or null for the default one
+     * @param uid   the tag's UID in hex, as the reader reports it
+     * @return the card id, or {@link #UNKNOWN} if no deck at the venue has the tag
+     */
+    public int resolve(String venue, String uid) {
+        Venue decks = venues.get(venue != null ? venue : defaultVenue);
+        long key = parseUid(uid);
+        if (decks == null || key < 0) {
+            return UNKNOWN;
+        }
+        return decks.tags.get(key, UNKNOWN);
+    }
+
+    // Venue name to deck name to tag count
+    public Map<String, Map<String, Integer>> describe() {
+        Map<String, Map<String, Integer>> description = new LinkedHashMap<>();
+        venues.forEach((name, venue) -> description.put(name, Collections.unmodifiableMap(venue.deckSizes)));
+        return description;
+    }
+
+    /**
+     * Reads every deck file again and swaps in the new tables.
+     */
+    public synchronized Map<String, Map<String, Integer>> reload() {
+        try {
+            List<Path> files = deckFiles();
+            loadedSignature = signature(files);
+            Map<String, Venue> loaded = new LinkedHashMap<>();
+            for (Path file : files) {
+                String venueName = file.getParent().getFileName().toString();
+                loaded.computeIfAbsent(venueName, Venue::new).load(file);
+            }
+            venues = Collections.unmodifiableMap(loaded);
+            System.out.println("Loaded " + tagCount() + " NFC tags for " + loaded.size() + " venue(s) from " + directory);
+        } catch (IOException e) {
+            System.err.println("Failed to load decks from " + directory + ", keeping the previous ones: " + e.getMessage());
+        }
+        return describe();
+    }
+
+    private long tagCount() {
+        long count = 0;
+        for (Venue venue : venues.values()) {
+            count += venue.tags.size();
+        }
+        return count;
+    }
+
+    private void scheduleReloadCheck() {
+        timingWheel.schedule(() -> {
+            try {
+                reloadIfChanged();
+            } finally {
+                scheduleReloadCheck();
+            }
+        }, reloadMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void reloadIfChanged() {
+        try {
+            if (signature(deckFiles()) != loadedSignature) {
+                reload();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to check decks in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private List<Path> deckFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (Stream<Path> venueDirectories = Files.list(directory)) {
+            for (Path venue : venueDirectories.filter(Files::isDirectory).sorted().toList()) {
+                try (Stream<Path> decks = Files.list(venue)) {
+                    decks.filter(path -> path.getFileName().toString().endsWith(DECK_SUFFIX))
+                            .sorted()
+                            .forEach(files::add);
+                }
+            }
+        }
+        return files;
+    }
+
+    // Changes whenever a deck file is added, removed or rewritten
+    private static long signature(List<Path> files) throws IOException {
+        long signature = files.size();
+        for (Path file : files) {
+            signature = signature * 31 + file.hashCode();
+            signature = signature * 31 + Files.getLastModifiedTime(file).toMillis();
+            signature = signature * 31 + Files.size(file);
+        }
+        return signature;
+    }
+
+    /**
+     * Packs up to 14 hex digits and their count into a key, so UIDs that differ only in
+     * leading zeros stay distinct. Colons between bytes are ignored.
+     *
+     * @return the key, or -1 if the UID isn't one
+     */
+    static long parseUid(String uid) {
+        if (uid == null) {
+            return -1;
+        }
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < uid.length(); i++) {
+            char c = uid.charAt(i);
+            if (c == ':') {
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0 || ++digits > MAX_UID_DIGITS) {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return digits == 0 ? -1 : (long) digits << 56 | value;
+    }
+
+    // "QH", "TD", "10D" or "AS" to a card id, or -1
+    static int parseCard(String card) {
+        String code = card.toUpperCase();
+        if (code.length() == 3 && code.startsWith("10")) {
+            code = "T" + code.charAt(2);
+        }
+        if (code.length() != 2) {
+            return -1;
+        }
+        int rank = RANKS.indexOf(code.charAt(0));
+        int suit = SUITS.indexOf(code.charAt(1));
+        return rank < 0 || suit < 0 ? -1 : suit * 13 + rank;
+    }
+
+    // Every tag of one venue's decks, by UID key to card id
+    private static final class Venue {
+        private final String name;
+        private final LongIntHashMap tags = new LongIntHashMap(64);
+        private final Map<String, Integer> deckSizes = new LinkedHashMap<>();
+
+        private Venue(String name) {
+            this.name = name;
+        }
+
+        private void load(Path file) throws IOException {
+            String fileName = file.getFileName().toString();
+            String deck = fileName.substring(0, fileName.length() - DECK_SUFFIX.length());
+            long cardsSeen = 0;
+            int count = 0;
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = line.split("\\s+");
+                long key = fields.length == 2 ? parseUid(fields[0]) : -1;
+                int card = fields.length == 2 ? parseCard(fields[1]) : -1;
+                if (key < 0 || card < 0) {
+                    System.err.println(file + ":" + (i + 1) + ": expected '<uid> <card>', skipping: " + line);
+                    continue;
+                }
+                if (tags.containsKey(key)) {
+                    System.err.println(file + ":" + (i + 1) + ": tag " + fields[0] + " is already in venue " + name + ", skipping");
+                    continue;
+                }
+                tags.put(key, card);
+                cardsSeen |= 1L << card;
+                count++;
+            }
+
+            if (Long.bitCount(cardsSeen) != 52) {
+                System.err.println("Deck " + name + "/" + deck + " covers " + Long.bitCount(cardsSeen) + " of 52 cards");
+            }
+            deckSizes.put(deck, count);
+        }
+    }
+}
@@ -9,4 +9,5 @@ public class CreatePlayerRequest {
     private String gameCode;
     private boolean online;
     private boolean visuallyImpaired;
+    private String botStrategy; // Optional; the server only plays fake players that have one
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+// backend/src/main/java/com/edwn/unihack/dto/CreateTournamentRequest.java
+package com.edwn.unihack.dto;
+
+import lombok.Data;
+
+@Data
+public class CreateTournamentRequest {
+    private String name;
+    private int startingChips = 1500;
+    private int tableSize = 6;
+    private long levelSeconds = 600;
+}
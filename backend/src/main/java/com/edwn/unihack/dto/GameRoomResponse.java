@@ -3,8 +3,10 @@ package com.edwn.unihack.dto;
 
 import com.edwn.unihack.model.Card;
 import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameEvent;
 import com.edwn.unihack.model.GameRoom;
 import com.edwn.unihack.model.Player;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,9 +28,20 @@ public class GameRoomResponse {
     private int currentPlayerIndex;
     private int pot;
     private List<GameAction> actions;
+    private List<GameEvent> events;
     private Map<String, Integer> bets;
     private int currentBet;
     private int smallBlindPosition;
     private String dealerId;
     private List<String> winnerIds;
+    private int handNumber;
+    private int smallBlind;
+    private int bigBlind;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String tournamentId;
+    private boolean virtualDealing;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long actionDeadline;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long timeBankDeadline;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+// backend/src/main/java/com/edwn/unihack/dto/LobbyDelta.java
+package com.edwn.unihack.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Lobby changes since the previous delta, sent on /topic/lobby
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyDelta {
+    private long version;
+    private List<LobbyEntry> rooms; // Rooms added or changed, as they are now
+    private List<String> removed; // Codes of rooms that closed
+}
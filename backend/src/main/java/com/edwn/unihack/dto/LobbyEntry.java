@@ -0,0 +1,31 @@
+// backend/src/main/java/com/edwn/unihack/dto/LobbyEntry.java
+package com.edwn.unihack.dto;
+
+import com.edwn.unihack.model.GameRoom;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// What the lobby shows of one room
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyEntry {
+    private String code;
+    private GameRoom.GameState gameState;
+    private Kind kind;
+    private int players;
+    private int openSeats; // Seats left for human players
+    private int smallBlind;
+    private int bigBlind;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String tournamentId;
+
+    public enum Kind {
+        ONLINE, // Everyone plays on their phone and the server deals
+        PHYSICAL // Cards are dealt at a real table and scanned
+    }
+}
@@ -0,0 +1,21 @@
+// backend/src/main/java/com/edwn/unihack/dto/LobbyPage.java
+package com.edwn.unihack.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LobbyPage {
+    private List<LobbyEntry> rooms; // In room code order
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor; // Pass as after= for the next page, even after a short one; absent on the last one
+    private long version; // Apply /topic/lobby deltas with a later version on top of this page
+}
@@ -0,0 +1,13 @@
+// backend/src/main/java/com/edwn/unihack/dto/RegisterTournamentRequest.java
+package com.edwn.unihack.dto;
+
+import lombok.Data;
+
+@Data
+public class RegisterTournamentRequest {
+    private String name;
+    private boolean online;
+    private boolean visuallyImpaired;
+    private boolean fake;
+    private String botStrategy; // Optional, for fake entrants
+}
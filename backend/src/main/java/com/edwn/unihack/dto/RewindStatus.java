@@ -0,0 +1,10 @@
+// backend/src/main/java/com/edwn/unihack/dto/RewindStatus.java
+package com.edwn.unihack.dto;
+
+// Outcome of a dealer undoing actions of the hand in progress
+public enum RewindStatus {
+    REWOUND,
+    NOTHING_TO_UNDO, // No action of the hand in progress at that index, or one like a blind that can't be undone
+    HAND_COMPLETE, // The hand has already been decided and archived; start a new one instead
+    SEATS_CHANGED // Someone joined or left since, so the earlier state no longer fits the table
+}
@@ -0,0 +1,89 @@
+// backend/src/main/java/com/edwn/unihack/dto/RoomSnapshot.java
+package com.edwn.unihack.dto;
+
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.PlayerHand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A copy of a room as of one committed change. Built under the room lock and never modified
+ * afterwards, so readers can use it without locking the room.
+ */
+public class RoomSnapshot {
+    private final long version;
+    private final GameRoomResponse room;
+    private volatile byte[] json; // Serialized on first request, then shared by every reader
+
+    private RoomSnapshot(long version, GameRoomResponse room) {
+        this.version = version;
+        this.room = room;
+    }
+
+    // Caller must hold the room lock
+    public static RoomSnapshot of(GameRoom room, long version) {
+        List<Player> players = new ArrayList<>(room.getPlayers().size());
+        for (Player player : room.getPlayers()) {
+            PlayerHand hand = player.getHand();
+            players.add(player.toBuilder()
+                    .hand(hand == null || hand.getCards() == null ? hand : new PlayerHand(copy(hand.getCards())))
+                    .build());
+        }
+
+        return new RoomSnapshot(version, GameRoomResponse.builder()
+                .id(room.getId())
+                .players(Collections.unmodifiableList(players))
+                .gameState(room.getGameState())
+                .waitingForCards(room.isWaitingForCards())
+                .communityCards(copy(room.getCommunityCards()))
+                .currentPlayerIndex(room.getCurrentPlayerIndex())
+                .pot(room.getPot())
+                .actions(copy(room.getActions()))
+                .events(copy(room.getEvents()))
+                .bets(Collections.unmodifiableMap(room.getBets()))
+                .currentBet(room.getCurrentBet())
+                .smallBlindPosition(room.getSmallBlindPosition())
+                .dealerId(room.getDealerId())
+                .winnerIds(copy(room.getWinnerIds()))
+                .handNumber(room.getHandNumber())
+                .smallBlind(room.getSmallBlind())
+                .bigBlind(room.getBigBlind())
+                .tournamentId(room.getTournamentId())
+                .virtualDealing(room.isVirtualDealing())
+                .actionDeadline(room.getActionDeadline())
+                .timeBankDeadline(room.getTimeBankDeadline())
+                .build());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public GameRoomResponse getRoom() {
+        return room;
+    }
+
+    public byte[] toJson(ObjectMapper objectMapper) {
+        byte[] bytes = json;
+        if (bytes == null) {
+            // Racing readers may both serialize; the results are identical
+            try {
+                bytes = objectMapper.writeValueAsBytes(room);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            json = bytes;
+        }
+        return bytes;
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+}
@@ -0,0 +1,18 @@
+// backend/src/main/java/com/edwn/unihack/dto/ScanBatchResponse.java
+package com.edwn.unihack.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanBatchResponse {
+    private String gameCode;
+    private List<ScanStatus> statuses; // One per card, in the order sent
+}
@@ -0,0 +1,18 @@
+// backend/src/main/java/com/edwn/unihack/dto/ScanStatus.java
+package com.edwn.unihack.dto;
+
+// Outcome of one scanned card
+public enum ScanStatus {
+    DEALT,
+    NOT_WAITING, // The room wasn't waiting for a card, so it was only logged
+    DEBOUNCED, // The reader sent the card it had just dealt again; dropped
+    DUPLICATE, // Already dealt earlier this hand; dropped
+    INVALID, // Missing suit or rank
+    ALREADY_APPLIED, // A retry of a read that was already recorded; acknowledged, not applied again
+    STALE; // A sequence number too far behind the scanner's latest to tell whether it was applied
+
+    // Whether the read reached the room and its history
+    public boolean isRecorded() {
+        return this == DEALT || this == NOT_WAITING;
+    }
+}
@@ -0,0 +1,10 @@
+// backend/src/main/java/com/edwn/unihack/dto/TagScanRequest.java
+package com.edwn.unihack.dto;
+
+import lombok.Data;
+
+@Data
+public class TagScanRequest {
+    private String uid; // Raw NFC tag UID in hex
+    private String venue; // Whose decks to look the tag up in; null for the default venue
+}
@@ -0,0 +1,112 @@
+// backend/src/main/java/com/edwn/unihack/ingest/IngestConnection.java
+package com.edwn.unihack.ingest;
+
+import com.edwn.unihack.util.concurrent.SerialExecutor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One client of the ingest port. The buffers belong to the selector thread, and so do the
+ * session fields, except while the room's worker fills them in during authentication; other
+ * threads only add STATE frames and acks to its queues.
+ */
+final class IngestConnection {
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer in = ByteBuffer.allocate(16 * 1024); // Always fits a whole client frame
+    final ByteBuffer out = ByteBuffer.allocateDirect(32 * 1024); // Acks, then STATE frames, which stay far smaller
+    final AtomicBoolean flushRequested = new AtomicBoolean();
+    final AtomicInteger pending = new AtomicInteger(); // Handed to the room's worker and not yet acked
+    private final Queue<Long> acks = new ConcurrentLinkedQueue<>(); // Sequence number << 8 | status
+    private final Queue<ByteBuffer> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final long maxQueuedBytes;
+    private volatile boolean overflowed; // Fell too far behind its STATE frames; dropped on the next flush
+
+    String gameCode; // Null until authenticated
+    String id; // Scanner or player id
+    String playerName;
+    byte role;
+    SerialExecutor worker; // The room's, from authentication on
+    volatile boolean authenticating; // Set by the selector, cleared by the worker after the session fields
+    boolean readPaused; // Stopped reading until the client takes its acks
+
+    IngestConnection(SocketChannel channel, SelectionKey key, long maxQueuedBytes) {
+        this.channel = channel;
+        this.key = key;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    // Any thread. Frames are shared between connections and never modified
+    void enqueue(ByteBuffer frame) {
+        if (queuedBytes.addAndGet(frame.remaining()) > maxQueuedBytes) {
+            overflowed = true;
+            return;
+        }
+        queued.add(frame);
+    }
+
+    // Any thread. Acks go out in the order they are added
+    void ack(long seq, int status) {
+        acks.add(seq << 8 | status);
+    }
+
+    // Any thread. Called once a handed-off message has been applied
+    void complete(long seq, int status) {
+        ack(seq, status);
+        pending.decrementAndGet();
+    }
+
+    boolean isOverflowed() {
+        return overflowed;
+    }
+
+    /**
+     * Moves completed acks, then queued frames, behind the acks already in the output buffer and
+     * writes as much as the socket takes.
+     *
+     * @return true if nothing is left to write
+     */
+    boolean flush() throws IOException {
+        while (true) {
+            Long ack;
+            while (out.remaining() >= IngestProtocol.ACK_FRAME_BYTES && (ack = acks.poll()) != null) {
+                IngestProtocol.putAck(out, ack >>> 8, (int) (ack & 0xFF));
+            }
+            ByteBuffer frame;
+            while ((frame = queued.peek()) != null && out.remaining() >= frame.remaining()) {
+                queued.poll();
+                queuedBytes.addAndGet(-frame.remaining());
+                out.put(frame.duplicate());
+            }
+
+            out.flip();
+            channel.write(out);
+            boolean written = !out.hasRemaining();
+            out.compact();
+            if (!written) {
+                return false;
+            }
+            if (queued.isEmpty() && acks.isEmpty()) {
+                return true;
+            }
+        }
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Already gone
+        }
+    }
+}
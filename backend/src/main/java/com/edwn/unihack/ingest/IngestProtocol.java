@@ -0,0 +1,150 @@
+// backend/src/main/java/com/edwn/unihack/ingest/IngestProtocol.java
+package com.edwn.unihack.ingest;
+
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Wire format of the binary ingest port. Every frame is {@code [u16 length][u8 type][payload]},
+ * big-endian, where length counts the type byte and the payload. Client frames are at most
+ * {@link #MAX_CLIENT_FRAME} long.
+ * <pre>
+ * Client to server
+ *   AUTH   0x01 [u8 role][u8 n][game code][u8 n][scanner or player id]  -&gt; ACK seq 0
+ *   SCAN   0x02 [u32 seq][u8 card id]                                    -&gt; ACK with a ScanStatus ordinal
+ *   ACTION 0x03 [u32 seq][u8 GameAction.ActionType ordinal][i32 amount]  -&gt; ACK ACCEPTED
+ * Server to client
+ *   ACK    0x81 [u32 seq][u8 status]
+ *   STATE  0x82 [u32 version][u8 sections][sections...]
+ * </pre>
+ * A scanner's sequence numbers feed the room's retry detection, so a SCAN resent with the same
+ * number is acknowledged without being applied again. SCAN and ACTION are acked once the room
+ * has applied them, in the order they were sent. Players may only send betting actions,
+ * and an ACCEPTED action has been handed to the room, not necessarily taken; the next STATE
+ * tells. Once authenticated, a connection gets the room's full state and then a STATE frame
+ * after every change, carrying only the sections that changed:
+ * <pre>
+ *   HEADER 0x01 [u8 game state][u8 waiting for cards][u8 current seat][i32 pot][i32 current bet][i32 hand number]
+ *   SEATS  0x02 [u8 n] n x [u8 seat flags][i32 chips][i32 street bet]
+ *   BOARD  0x04 [u8 n] n x [u8 card id]
+ * </pre>
+ */
+public final class IngestProtocol {
+    public static final int MAX_FRAME = 0xFFFF;
+    public static final int MAX_CLIENT_FRAME = 1024; // Longer client frames close the connection
+
+    public static final byte AUTH = 0x01;
+    public static final byte SCAN = 0x02;
+    public static final byte ACTION = 0x03;
+    public static final byte ACK = (byte) 0x81;
+    public static final byte STATE = (byte) 0x82;
+
+    public static final byte ROLE_SCANNER = 0;
+    public static final byte ROLE_PLAYER = 1;
+
+    // Ack statuses past the ScanStatus ordinals
+    public static final byte ACCEPTED = 0x40;
+    public static final byte NO_ROOM = 0x41;
+    public static final byte NOT_AUTHENTICATED = 0x42;
+    public static final byte BAD_REQUEST = 0x43;
+    public static final byte NOT_ALLOWED = 0x44; // Wrong role for the message, or not a betting action
+
+    public static final int SECTION_HEADER = 0x01;
+    public static final int SECTION_SEATS = 0x02;
+    public static final int SECTION_BOARD = 0x04;
+    public static final int ALL_SECTIONS = SECTION_HEADER | SECTION_SEATS | SECTION_BOARD;
+
+    public static final int SEAT_ACTIVE = 0x01;
+    public static final int SEAT_FOLDED = 0x02;
+    public static final int SEAT_ALL_IN = 0x04;
+
+    public static final int NO_SEAT = 0xFF;
+    public static final int ACK_FRAME_BYTES = 8;
+
+    private IngestProtocol() {
+    }
+
+    public static void putAck(ByteBuffer out, long seq, int status) {
+        out.putShort((short) 6);
+        out.put(ACK);
+        out.putInt((int) seq);
+        out.put((byte) status);
+    }
+
+    // Caller must hold the room lock
+    static byte[] encodeHeader(GameRoom room) {
+        ByteBuffer buffer = ByteBuffer.allocate(15);
+        buffer.put((byte) room.getGameState().ordinal());
+        buffer.put((byte) (room.isWaitingForCards() ? 1 : 0));
+        buffer.put((byte) currentSeat(room));
+        buffer.putInt(room.getPot());
+        buffer.putInt(room.getCurrentBet());
+        buffer.putInt(room.getHandNumber());
+        return buffer.array();
+    }
+
+    // Caller must hold the room lock
+    static byte[] encodeSeats(GameRoom room) {
+        List<Player> players = room.getPlayers();
+        int seats = Math.min(players.size(), NO_SEAT - 1);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + seats * 9);
+        buffer.put((byte) seats);
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = players.get(seat);
+            int flags = (player.isActive() ? SEAT_ACTIVE : 0)
+                    | (room.isFolded(seat) ? SEAT_FOLDED : 0)
+                    | (room.isAllIn(seat) ? SEAT_ALL_IN : 0);
+            buffer.put((byte) flags);
+            buffer.putInt(player.getChips());
+            buffer.putInt(room.getStreetBet(seat));
+        }
+        return buffer.array();
+    }
+
+    // Caller must hold the room lock
+    static byte[] encodeBoard(GameRoom room) {
+        List<Card> board = room.getCommunityCards();
+        byte[] encoded = new byte[1 + board.size()];
+        encoded[0] = (byte) board.size();
+        for (int i = 0; i < board.size(); i++) {
+            encoded[i + 1] = (byte) board.get(i).toId();
+        }
+        return encoded;
+    }
+
+    /**
+     * Builds a STATE frame from whichever of the three encoded sections the mask selects.
+     * The frame is read-only so it can be shared by every subscriber.
+     */
+    static ByteBuffer stateFrame(long version, int sections, byte[] header, byte[] seats, byte[] board) {
+        int length = 1 + 4 + 1
+                + ((sections & SECTION_HEADER) != 0 ? header.length : 0)
+                + ((sections & SECTION_SEATS) != 0 ? seats.length : 0)
+                + ((sections & SECTION_BOARD) != 0 ? board.length : 0);
+        ByteBuffer frame = ByteBuffer.allocate(2 + length);
+        frame.putShort((short) length);
+        frame.put(STATE);
+        frame.putInt((int) version);
+        frame.put((byte) sections);
+        if ((sections & SECTION_HEADER) != 0) {
+            frame.put(header);
+        }
+        if ((sections & SECTION_SEATS) != 0) {
+            frame.put(seats);
+        }
+        if ((sections & SECTION_BOARD) != 0) {
+            frame.put(board);
+        }
+        frame.flip();
+        return frame.asReadOnlyBuffer();
+    }
+
+    private static int currentSeat(GameRoom room) {
+        int seat = room.getCurrentPlayerIndex();
+        return room.isHandInProgress() && seat >= 0 && seat < room.getPlayers().size() ? seat : NO_SEAT;
+    }
+}
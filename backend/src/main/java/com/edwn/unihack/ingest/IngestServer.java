@@ -0,0 +1,541 @@
+// backend/src/main/java/com/edwn/unihack/ingest/IngestServer.java
+package com.edwn.unihack.ingest;
+
+import com.edwn.unihack.dto.ScanStatus;
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.service.RoomUpdateListener;
+import com.edwn.unihack.util.concurrent.SerialExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Binary TCP port for scanners and bots that would rather not pay for HTTP or STOMP per
+ * message; see {@link IngestProtocol} for the frames. One selector thread reads every
+ * connection and hands its scans and actions to the room's {@link SerialExecutor}, which applies
+ * them in order through {@link GameRoomService}, the same path the REST and STOMP handlers
+ * take. The selector never waits on a room lock; each ack is written once its message has been
+ * applied, and a connection with too many messages still in a room's queue stops being read.
+ * <p>
+ * Room changes arrive on whichever thread made them and are encoded once per room, only while
+ * someone is subscribed, then queued on each subscriber. A client that stops reading first
+ * stops being read, and is dropped once its queued STATE frames pass the limit.
+ */
+@Component
+public class IngestServer implements RoomUpdateListener {
+    private static final GameAction.ActionType[] ACTION_TYPES = GameAction.ActionType.values();
+    private static final int MAX_PENDING = 256; // Unacked scans and actions per connection before it stops being read
+
+    private final GameRoomService gameRoomService;
+    private final boolean enabled;
+    private final int port;
+    private final long maxQueuedBytes;
+    private final Map<String, RoomFeed> feeds = new ConcurrentHashMap<>();
+    private final Map<String, SerialExecutor> roomWorkers = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final Queue<IngestConnection> flushQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter framesIn;
+    private final Counter slowClientsDropped;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public IngestServer(GameRoomService gameRoomService,
+                        MetricsRegistry metricsRegistry,
+                        @Value("${unihack.ingest.enabled:false}") boolean enabled,
+                        @Value("${unihack.ingest.port:9400}") int port,
+                        @Value("${unihack.ingest.max-queued-kb:1024}") long maxQueuedKb,
+                        @Value("${unihack.ingest.threads:2}") int threads) {
+        this.gameRoomService = gameRoomService;
+        this.enabled = enabled;
+        this.port = port;
+        this.maxQueuedBytes = maxQueuedKb * 1024;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "Ingest-Worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.framesIn = metricsRegistry.counter("unihack_ingest_frames_total", "Frames received on the binary ingest port");
+        this.slowClientsDropped = metricsRegistry.counter("unihack_ingest_slow_clients_total",
+                "Ingest connections dropped for falling behind their room updates");
+        metricsRegistry.gauge("unihack_ingest_connections", "Open binary ingest connections", connections::get);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "Ingest-Selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        System.out.println("Binary ingest listening on port " + port);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        workers.shutdownNow();
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        selectorThread.join(1000);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Called with the room locked
+    @Override
+    public void onRoomUpdated(GameRoom room) {
+        RoomFeed feed = feeds.get(room.getId());
+        if (feed == null) {
+            return;
+        }
+        if (feed.subscribers.isEmpty()) {
+            feeds.remove(room.getId(), feed);
+            return;
+        }
+        broadcast(feed, room);
+    }
+
+    @Override
+    public void onRoomRemoved(String gameCode) {
+        // Connections still authenticated to the room keep their worker; their messages get NO_ROOM
+        feeds.remove(gameCode);
+        roomWorkers.remove(gameCode);
+    }
+
+    // Sends the sections that changed since the last broadcast to every subscriber. Caller holds the room lock
+    private void broadcast(RoomFeed feed, GameRoom room) {
+        byte[] header = IngestProtocol.encodeHeader(room);
+        byte[] seats = IngestProtocol.encodeSeats(room);
+        byte[] board = IngestProtocol.encodeBoard(room);
+        int sections = (Arrays.equals(header, feed.header) ? 0 : IngestProtocol.SECTION_HEADER)
+                | (Arrays.equals(seats, feed.seats) ? 0 : IngestProtocol.SECTION_SEATS)
+                | (Arrays.equals(board, feed.board) ? 0 : IngestProtocol.SECTION_BOARD);
+        if (sections == 0) {
+            return;
+        }
+
+        feed.header = header;
+        feed.seats = seats;
+        feed.board = board;
+        ByteBuffer frame = IngestProtocol.stateFrame(++feed.version, sections, header, seats, board);
+        for (IngestConnection connection : feed.subscribers) {
+            send(connection, frame);
+        }
+    }
+
+    private void send(IngestConnection connection, ByteBuffer frame) {
+        connection.enqueue(frame);
+        requestFlush(connection);
+    }
+
+    private void requestFlush(IngestConnection connection) {
+        if (connection.flushRequested.compareAndSet(false, true)) {
+            flushQueue.add(connection);
+        }
+        // The selector thread flushes after every pass anyway; other threads wake it at most once per pass
+        if (Thread.currentThread() != selectorThread && wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    private void selectLoop() {
+        while (running) {
+            try {
+                selector.select();
+                wakeupPending.set(false);
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    IngestConnection connection = (IngestConnection) key.attachment();
+                    if (key.isWritable()) {
+                        flush(connection);
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        read(connection);
+                    }
+                }
+
+                IngestConnection connection;
+                while ((connection = flushQueue.poll()) != null) {
+                    connection.flushRequested.set(false);
+                    if (connection.key.isValid()) {
+                        flush(connection);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Ingest selector failed: " + e.getMessage());
+            } catch (RuntimeException e) {
+                System.err.println("Ingest selector error: " + e);
+            }
+        }
+
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof IngestConnection connection) {
+                close(connection);
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignored) {
+            // Shutting down
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new IngestConnection(channel, key, maxQueuedBytes));
+            connections.incrementAndGet();
+        }
+    }
+
+    private void read(IngestConnection connection) {
+        try {
+            if (connection.channel.read(connection.in) < 0) {
+                close(connection);
+                return;
+            }
+            process(connection);
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    // Handles every whole frame in the input buffer, then writes the acks
+    private void process(IngestConnection connection) throws IOException {
+        ByteBuffer in = connection.in;
+        in.flip();
+        while (in.remaining() >= 2) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (length == 0 || length > IngestProtocol.MAX_CLIENT_FRAME) {
+                close(connection);
+                return;
+            }
+            if (in.remaining() < 2 + length) {
+                break;
+            }
+            // Keep the frame for later if the room is behind on this connection, it is still being
+            // authenticated, or its ack has nowhere to go
+            if (connection.pending.get() >= MAX_PENDING || connection.authenticating) {
+                connection.readPaused = true;
+                break;
+            }
+            if (connection.out.remaining() < IngestProtocol.ACK_FRAME_BYTES && !connection.flush()) {
+                connection.readPaused = true;
+                connection.key.interestOps(SelectionKey.OP_WRITE);
+                break;
+            }
+
+            int next = in.position() + 2 + length;
+            in.position(in.position() + 2);
+            byte type = in.get();
+            ByteBuffer payload = in.slice();
+            payload.limit(length - 1);
+            handle(connection, type, payload);
+            framesIn.increment();
+            in.position(next);
+        }
+        in.compact();
+        flush(connection);
+    }
+
+    private void flush(IngestConnection connection) {
+        try {
+            boolean written = connection.flush();
+            if (connection.isOverflowed()) {
+                System.err.println("Dropping ingest client " + connection.id + " of room " + connection.gameCode
+                        + ": more than " + maxQueuedBytes + " bytes of updates queued");
+                slowClientsDropped.increment();
+                close(connection);
+                return;
+            }
+            if (!written) {
+                connection.key.interestOps(connection.readPaused
+                        ? SelectionKey.OP_WRITE
+                        : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } else if (connection.readPaused && connection.pending.get() < MAX_PENDING && !connection.authenticating) {
+                connection.readPaused = false;
+                connection.key.interestOps(SelectionKey.OP_READ);
+                process(connection);
+            } else {
+                // Still paused on the room, whose acks request the flush that resumes reading
+                connection.key.interestOps(connection.readPaused ? 0 : SelectionKey.OP_READ);
+            }
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    private void handle(IngestConnection connection, byte type, ByteBuffer payload) {
+        switch (type) {
+            case IngestProtocol.AUTH:
+                authenticate(connection, payload);
+                break;
+            case IngestProtocol.SCAN:
+                if (payload.remaining() < 5) {
+                    ack(connection, 0, IngestProtocol.BAD_REQUEST);
+                    break;
+                }
+                long scanSeq = payload.getInt() & 0xFFFFFFFFL;
+                scan(connection, scanSeq, payload.get() & 0xFF);
+                break;
+            case IngestProtocol.ACTION:
+                if (payload.remaining() < 9) {
+                    ack(connection, 0, IngestProtocol.BAD_REQUEST);
+                    break;
+                }
+                long actionSeq = payload.getInt() & 0xFFFFFFFFL;
+                int actionType = payload.get() & 0xFF;
+                act(connection, actionSeq, actionType, payload.getInt());
+                break;
+            default:
+                ack(connection, 0, IngestProtocol.BAD_REQUEST);
+        }
+    }
+
+    private void authenticate(IngestConnection connection, ByteBuffer payload) {
+        byte role;
+        String gameCode;
+        String id;
+        try {
+            role = payload.get();
+            gameCode = readString(payload);
+            id = readString(payload);
+        } catch (RuntimeException e) {
+            ack(connection, 0, IngestProtocol.BAD_REQUEST);
+            return;
+        }
+        if ((role != IngestProtocol.ROLE_SCANNER && role != IngestProtocol.ROLE_PLAYER) || id.isEmpty()) {
+            ack(connection, 0, IngestProtocol.BAD_REQUEST);
+            return;
+        }
+
+        GameRoom room = gameRoomService.findRoomByCode(gameCode).orElse(null);
+        if (room == null) {
+            ack(connection, 0, IngestProtocol.NO_ROOM);
+            return;
+        }
+
+        // The room's worker takes the lock and fills in the session; no more frames are read
+        // until it's done, and an earlier room's queue is drained first so its acks come first
+        unsubscribe(connection);
+        SerialExecutor worker = roomWorkers.computeIfAbsent(gameCode, code -> new SerialExecutor(workers));
+        SerialExecutor previous = connection.worker;
+        connection.authenticating = true;
+        connection.pending.incrementAndGet();
+        Runnable subscribe = () -> {
+            int status;
+            try {
+                status = subscribe(connection, room, worker, role, gameCode, id);
+            } catch (RuntimeException e) {
+                System.err.println("Ingest authentication failed: " + e);
+                status = IngestProtocol.BAD_REQUEST;
+            }
+            if (status != IngestProtocol.ACCEPTED) {
+                connection.complete(0, status);
+            }
+            connection.authenticating = false;
+            requestFlush(connection);
+        };
+        if (previous != null && previous != worker) {
+            previous.execute(() -> worker.execute(subscribe));
+        } else {
+            worker.execute(subscribe);
+        }
+    }
+
+    // Runs on the room's worker. Acks ACCEPTED itself, ahead of the first STATE frame
+    private int subscribe(IngestConnection connection, GameRoom room, SerialExecutor worker,
+                          byte role, String gameCode, String id) {
+        synchronized (room) {
+            String playerName = null;
+            if (role == IngestProtocol.ROLE_PLAYER) {
+                int seat = room.seatOf(id);
+                if (seat < 0) {
+                    return IngestProtocol.NOT_ALLOWED;
+                }
+                Player player = room.getPlayers().get(seat);
+                playerName = player.getName();
+            }
+            connection.role = role;
+            connection.gameCode = gameCode;
+            connection.id = id;
+            connection.playerName = playerName;
+            connection.worker = worker;
+            connection.complete(0, IngestProtocol.ACCEPTED);
+
+            // Catch existing subscribers up first, so the feed's sections match what the newcomer gets
+            RoomFeed feed = feeds.computeIfAbsent(gameCode, code -> new RoomFeed());
+            broadcast(feed, room);
+            send(connection, IngestProtocol.stateFrame(feed.version, IngestProtocol.ALL_SECTIONS,
+                    feed.header, feed.seats, feed.board));
+            feed.subscribers.add(connection);
+            return IngestProtocol.ACCEPTED;
+        }
+    }
+
+    private void scan(IngestConnection connection, long seq, int cardId) {
+        if (connection.gameCode == null) {
+            ack(connection, seq, IngestProtocol.NOT_AUTHENTICATED);
+        } else if (connection.role != IngestProtocol.ROLE_SCANNER) {
+            ack(connection, seq, IngestProtocol.NOT_ALLOWED);
+        } else if (cardId >= 52) {
+            ack(connection, seq, ScanStatus.INVALID.ordinal());
+        } else {
+            String gameCode = connection.gameCode;
+            String scannerId = connection.id;
+            submit(connection, seq, () -> gameRoomService.scanCard(gameCode, Card.fromId(cardId), scannerId, seq)
+                    .map(ScanStatus::ordinal)
+                    .orElse((int) IngestProtocol.NO_ROOM));
+        }
+    }
+
+    private void act(IngestConnection connection, long seq, int actionType, int amount) {
+        if (connection.gameCode == null) {
+            ack(connection, seq, IngestProtocol.NOT_AUTHENTICATED);
+            return;
+        }
+        if (connection.role != IngestProtocol.ROLE_PLAYER
+                || actionType >= ACTION_TYPES.length
+                || !ACTION_TYPES[actionType].isBettingAction()) {
+            ack(connection, seq, IngestProtocol.NOT_ALLOWED);
+            return;
+        }
+
+        String gameCode = connection.gameCode;
+        GameAction action = GameAction.builder()
+                .playerId(connection.id)
+                .playerName(connection.playerName)
+                .type(ACTION_TYPES[actionType])
+                .amount(amount)
+                .build();
+        submit(connection, seq, () -> {
+            if (gameRoomService.findRoomByCode(gameCode).isEmpty()) {
+                return IngestProtocol.NO_ROOM;
+            }
+            gameRoomService.processAction(gameCode, action);
+            return IngestProtocol.ACCEPTED;
+        });
+    }
+
+    // Applies a message on the room's worker and acks it from there; the selector writes the ack on its next pass
+    private void submit(IngestConnection connection, long seq, IntSupplier work) {
+        connection.pending.incrementAndGet();
+        connection.worker.execute(() -> {
+            int status;
+            try {
+                status = work.getAsInt();
+            } catch (RuntimeException e) {
+                System.err.println("Ingest message failed: " + e);
+                status = IngestProtocol.BAD_REQUEST;
+            }
+            connection.complete(seq, status);
+            requestFlush(connection);
+        });
+    }
+
+    // Acks a message the selector answered itself; behind the room's queue if anything is still in it
+    private void ack(IngestConnection connection, long seq, int status) {
+        if (connection.pending.get() > 0) {
+            submit(connection, seq, () -> status);
+        } else {
+            connection.ack(seq, status);
+        }
+    }
+
+    private void unsubscribe(IngestConnection connection) {
+        if (connection.gameCode != null) {
+            RoomFeed feed = feeds.get(connection.gameCode);
+            if (feed != null) {
+                feed.subscribers.remove(connection);
+            }
+        }
+    }
+
+    private void close(IngestConnection connection) {
+        if (connection.channel.isOpen()) {
+            connections.decrementAndGet();
+        }
+        unsubscribe(connection);
+        connection.close();
+    }
+
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.get() & 0xFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // One room's subscribers and the sections they were last sent; guarded by the room lock
+    private static final class RoomFeed {
+        private final List<IngestConnection> subscribers = new CopyOnWriteArrayList<>();
+        private long version;
+        private byte[] header;
+        private byte[] seats;
+        private byte[] board;
+    }
+}
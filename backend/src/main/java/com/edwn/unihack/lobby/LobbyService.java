@@ -0,0 +1,270 @@
+// backend/src/main/java/com/edwn/unihack/lobby/LobbyService.java
+package com.edwn.unihack.lobby;
+
+import com.edwn.unihack.dto.LobbyDelta;
+import com.edwn.unihack.dto.LobbyEntry;
+import com.edwn.unihack.dto.LobbyPage;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.service.VirtualDealerService;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lists the rooms on this node for the lobby. Every committed change to a room refreshes its
+ * {@link LobbyEntry}, and when the entry changes the room's code moves between sorted indexes
+ * by game state, table kind and open seats. A query walks the smallest index that applies
+ * from the cursor on and checks the other filters per room. When the filters together match
+ * few of the rooms in that index, it stops after {@link #MAX_SCAN} rooms and returns what it
+ * found with a cursor to carry on from, so a page costs at most that many lookups however
+ * many rooms there are.
+ * <p>
+ * Changed rooms are also collected and sent on {@code /topic/lobby} every
+ * {@code unihack.lobby.flush-ms} as one {@link LobbyDelta}, holding each room at most once.
+ */
+@Service
+public class LobbyService {
+    public static final int MAX_PAGE = 200;
+    public static final int MAX_SCAN = 2000; // Rooms one query looks at
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final HashedTimingWheel timingWheel;
+    private final VirtualDealerService virtualDealerService;
+    private final int maxPlayers;
+    private final long flushMillis;
+    private final Map<String, LobbyEntry> entries = new ConcurrentHashMap<>();
+    private final Index allRooms = new Index();
+    private final Map<GameRoom.GameState, Index> byState = new EnumMap<>(GameRoom.GameState.class);
+    private final Map<LobbyEntry.Kind, Index> byKind = new EnumMap<>(LobbyEntry.Kind.class);
+    private final Index[] byOpenSeats; // [n] holds rooms with at least n open seats, n >= 1
+    private final Map<String, Boolean> changed = new ConcurrentHashMap<>(); // Codes since the last delta
+    private final AtomicLong version = new AtomicLong();
+
+    public LobbyService(SimpMessagingTemplate messagingTemplate,
+                        HashedTimingWheel timingWheel,
+                        VirtualDealerService virtualDealerService,
+                        MetricsRegistry metricsRegistry,
+                        @Value("${unihack.lobby.flush-ms:500}") long flushMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.timingWheel = timingWheel;
+        this.virtualDealerService = virtualDealerService;
+        this.maxPlayers = GameRoomService.MAX_TABLE_SIZE; // No room has more seats
+        this.flushMillis = flushMillis;
+        for (GameRoom.GameState state : GameRoom.GameState.values()) {
+            byState.put(state, new Index());
+        }
+        for (LobbyEntry.Kind kind : LobbyEntry.Kind.values()) {
+            byKind.put(kind, new Index());
+        }
+        byOpenSeats = new Index[maxPlayers + 1];
+        for (int seats = 1; seats <= maxPlayers; seats++) {
+            byOpenSeats[seats] = new Index();
+        }
+        metricsRegistry.gauge("unihack_lobby_rooms", "Rooms listed in the lobby", allRooms.size::get);
+        scheduleFlush();
+    }
+
+    /**
+     * Refreshes the room's entry. Called with the room locked after every committed change,
+     * so cheap when nothing the lobby shows has changed.
+     */
+    public void update(GameRoom room) {
+        LobbyEntry entry = entryOf(room);
+        LobbyEntry previous = entries.put(entry.getCode(), entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+
+        reindex(previous, entry, entry.getCode());
+        changed.put(entry.getCode(), Boolean.TRUE);
+    }
+
+    // Called with the room locked once it has been closed
+    public void remove(GameRoom room) {
+        LobbyEntry previous = entries.remove(room.getId());
+        if (previous != null) {
+            reindex(previous, null, room.getId());
+            changed.put(room.getId(), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * One page of rooms in code order, after the code {@code after} if given. A page can hold
+     * fewer rooms than the limit, or none, and still have a next cursor.
+     *
+     * @param state        only rooms in this state, or null for any
+     * @param kind         only rooms of this kind, or null for any
+     * @param minOpenSeats only rooms with at least this many open seats
+     */
+    public LobbyPage query(GameRoom.GameState state, LobbyEntry.Kind kind, int minOpenSeats, String after, int limit) {
+        long current = version.get();
+        limit = Math.max(1, Math.min(limit, MAX_PAGE));
+        if (minOpenSeats > maxPlayers) {
+            return LobbyPage.builder().rooms(List.of()).version(current).build();
+        }
+
+        // Walk whichever applicable index is smallest
+        Index driver = allRooms;
+        if (state != null && byState.get(state).size.get() < driver.size.get()) {
+            driver = byState.get(state);
+        }
+        if (kind != null && byKind.get(kind).size.get() < driver.size.get()) {
+            driver = byKind.get(kind);
+        }
+        if (minOpenSeats > 0 && byOpenSeats[minOpenSeats].size.get() < driver.size.get()) {
+            driver = byOpenSeats[minOpenSeats];
+        }
+
+        List<LobbyEntry> rooms = new ArrayList<>(limit);
+        String nextCursor = null;
+        String lastScanned = null;
+        int scanned = 0;
+        NavigableSet<String> codes = after == null ? driver.codes : driver.codes.tailSet(after, false);
+        for (String code : codes) {
+            if (scanned++ == MAX_SCAN) {
+                nextCursor = lastScanned;
+                break;
+            }
+            lastScanned = code;
+
+            LobbyEntry entry = entries.get(code);
+            // Indexes trail the entries by a moment while a room moves between them
+            if (entry == null
+                    || (state != null && entry.getGameState() != state)
+                    || (kind != null && entry.getKind() != kind)
+                    || entry.getOpenSeats() < minOpenSeats) {
+                continue;
+            }
+            if (rooms.size() == limit) {
+                nextCursor = rooms.get(limit - 1).getCode();
+                break;
+            }
+            rooms.add(entry);
+        }
+
+        return LobbyPage.builder()
+                .rooms(rooms)
+                .nextCursor(nextCursor)
+                .version(current)
+                .build();
+    }
+
+    public int size() {
+        return allRooms.size.get();
+    }
+
+    // Caller holds the room lock
+    private LobbyEntry entryOf(GameRoom room) {
+        int players = room.getPlayers().size();
+        return LobbyEntry.builder()
+                .code(room.getId())
+                .gameState(room.getGameState())
+                .kind(virtualDealerService.dealsVirtually(room) ? LobbyEntry.Kind.ONLINE : LobbyEntry.Kind.PHYSICAL)
+                .players(players)
+                .openSeats(Math.max(0, room.getMaxPlayers() - players))
+                .smallBlind(room.getSmallBlind())
+                .bigBlind(room.getBigBlind())
+                .tournamentId(room.getTournamentId())
+                .build();
+    }
+
+    private void reindex(LobbyEntry previous, LobbyEntry entry, String code) {
+        if (previous == null) {
+            allRooms.add(code);
+        } else if (entry == null) {
+            allRooms.remove(code);
+        }
+
+        GameRoom.GameState oldState = previous == null ? null : previous.getGameState();
+        GameRoom.GameState newState = entry == null ? null : entry.getGameState();
+        if (oldState != newState) {
+            if (oldState != null) byState.get(oldState).remove(code);
+            if (newState != null) byState.get(newState).add(code);
+        }
+
+        LobbyEntry.Kind oldKind = previous == null ? null : previous.getKind();
+        LobbyEntry.Kind newKind = entry == null ? null : entry.getKind();
+        if (oldKind != newKind) {
+            if (oldKind != null) byKind.get(oldKind).remove(code);
+            if (newKind != null) byKind.get(newKind).add(code);
+        }
+
+        int oldSeats = previous == null ? 0 : previous.getOpenSeats();
+        int newSeats = entry == null ? 0 : entry.getOpenSeats();
+        for (int seats = newSeats + 1; seats <= oldSeats; seats++) {
+            byOpenSeats[seats].remove(code);
+        }
+        for (int seats = oldSeats + 1; seats <= newSeats; seats++) {
+            byOpenSeats[seats].add(code);
+        }
+    }
+
+    private void scheduleFlush() {
+        timingWheel.schedule(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                System.err.println("Failed to send lobby changes: " + e.getMessage());
+            } finally {
+                scheduleFlush();
+            }
+        }, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<LobbyEntry> rooms = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (String code : changed.keySet()) {
+            // A room changing again from here on is sent in the next delta as well
+            changed.remove(code);
+            LobbyEntry entry = entries.get(code);
+            if (entry != null) {
+                rooms.add(entry);
+            } else {
+                removed.add(code);
+            }
+        }
+
+        messagingTemplate.convertAndSend("/topic/lobby", LobbyDelta.builder()
+                .version(version.incrementAndGet())
+                .rooms(rooms)
+                .removed(removed)
+                .build());
+    }
+
+    // Room codes in order, with a size that is cheap to read
+    private static final class Index {
+        final NavigableSet<String> codes = new ConcurrentSkipListSet<>();
+        final AtomicInteger size = new AtomicInteger();
+
+        void add(String code) {
+            if (codes.add(code)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(String code) {
+            if (codes.remove(code)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+// backend/src/main/java/com/edwn/unihack/metrics/BroadcastPayloadInterceptor.java
+package com.edwn.unihack.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sits on the broker channel, where broadcasts arrive already serialized, so payload sizes are
+ * measured without serializing anything a second time.
+ */
+@Component
+public class BroadcastPayloadInterceptor implements ChannelInterceptor {
+    private static final String ROOM_TOPIC_PREFIX = "/topic/game/";
+
+    private final LatencyHistogram roomUpdateBytes;
+
+    public BroadcastPayloadInterceptor(MetricsRegistry metricsRegistry) {
+        this.roomUpdateBytes = metricsRegistry.histogram("unihack_room_update_bytes",
+                "Serialized size of room update broadcasts", 1);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getPayload() instanceof byte[] payload) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (destination != null && destination.startsWith(ROOM_TOPIC_PREFIX)) {
+                roomUpdateBytes.record(payload.length);
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,46 @@
+// backend/src/main/java/com/edwn/unihack/metrics/Counter.java
+package com.edwn.unihack.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic count. Increments go to a striped {@link LongAdder}, so concurrent writers never
+ * contend on one cache line; the per-second rate is refreshed by the registry.
+ */
+public class Counter extends Metric {
+    private final LongAdder count = new LongAdder();
+    private long lastCount;
+    private volatile double ratePerSecond;
+
+    Counter(String name, String help, String... labels) {
+        super(name, help, labels);
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    // Called by the registry's single rate timer
+    void updateRate(double intervalSeconds) {
+        long current = count.sum();
+        ratePerSecond = (current - lastCount) / intervalSeconds;
+        lastCount = current;
+    }
+
+    @Override
+    String getType() {
+        return "counter";
+    }
+}
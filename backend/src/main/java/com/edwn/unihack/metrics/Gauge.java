@@ -0,0 +1,25 @@
+// backend/src/main/java/com/edwn/unihack/metrics/Gauge.java
+package com.edwn.unihack.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A value read only when metrics are exported, so it costs nothing on the hot path.
+ */
+public class Gauge extends Metric {
+    private final LongSupplier supplier;
+
+    Gauge(String name, String help, LongSupplier supplier, String... labels) {
+        super(name, help, labels);
+        this.supplier = supplier;
+    }
+
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    String getType() {
+        return "gauge";
+    }
+}
@@ -0,0 +1,48 @@
+// backend/src/main/java/com/edwn/unihack/metrics/Metric.java
+package com.edwn.unihack.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A named series, optionally labelled, owned by a {@link MetricsRegistry}.
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+    private final Map<String, String> labels;
+
+    protected Metric(String name, String help, String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be key/value pairs");
+        }
+
+        Map<String, String> labelMap = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i += 2) {
+            labelMap.put(labels[i], labels[i + 1]);
+        }
+
+        this.name = name;
+        this.help = help;
+        this.labels = Collections.unmodifiableMap(labelMap);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    abstract String getType();
+
+    String getKey() {
+        return name + labels;
+    }
+}
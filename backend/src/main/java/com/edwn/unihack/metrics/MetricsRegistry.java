@@ -0,0 +1,195 @@
+// backend/src/main/java/com/edwn/unihack/metrics/MetricsRegistry.java
+package com.edwn.unihack.metrics;
+
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds every metric in the process. Metrics are created once at startup and then recorded
+ * through directly held references, so the registry itself is never on the hot path; it is
+ * only walked when exporting.
+ */
+@Component
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final HashedTimingWheel timingWheel;
+    private final long rateIntervalMillis;
+
+    public MetricsRegistry(HashedTimingWheel timingWheel,
+                           @Value("${unihack.metrics.rate-interval-ms:5000}") long rateIntervalMillis) {
+        this.timingWheel = timingWheel;
+        this.rateIntervalMillis = rateIntervalMillis;
+        gauge("unihack_timer_pending", "Timeouts pending on the shared timing wheel", timingWheel::pendingTimeouts);
+        scheduleRateUpdate();
+    }
+
+    public Counter counter(String name, String help, String... labels) {
+        return register(new Counter(name, help, labels));
+    }
+
+    public LatencyHistogram histogram(String name, String help, double exportScale, String... labels) {
+        return register(new LatencyHistogram(name, help, exportScale, labels));
+    }
+
+    // Histogram of System.nanoTime() deltas, exported in seconds
+    public LatencyHistogram timer(String name, String help, String... labels) {
+        return histogram(name, help, 1e-9, labels);
+    }
+
+    public Gauge gauge(String name, String help, LongSupplier supplier, String... labels) {
+        return register(new Gauge(name, help, supplier, labels));
+    }
+
+    // Registering the same name and labels twice returns the existing metric
+    @SuppressWarnings("unchecked")
+    private <T extends Metric> T register(T metric) {
+        Metric existing = metrics.putIfAbsent(metric.getKey(), metric);
+        if (existing == null) {
+            return metric;
+        }
+        if (existing.getClass() != metric.getClass()) {
+            throw new IllegalArgumentException("Metric " + metric.getName() + " is already registered as a " + existing.getType());
+        }
+        return (T) existing;
+    }
+
+    private void scheduleRateUpdate() {
+        timingWheel.schedule(() -> {
+            try {
+                double seconds = rateIntervalMillis / 1000.0;
+                for (Metric metric : metrics.values()) {
+                    if (metric instanceof Counter counter) {
+                        counter.updateRate(seconds);
+                    }
+                }
+            } finally {
+                scheduleRateUpdate();
+            }
+        }, rateIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private List<Metric> sortedMetrics() {
+        List<Metric> sorted = new ArrayList<>(metrics.values());
+        sorted.sort((a, b) -> a.getKey().compareTo(b.getKey()));
+        return sorted;
+    }
+
+    /**
+     * Prometheus text exposition format (version 0.0.4). Histograms are exported as summaries
+     * since their quantiles are already computed here.
+     */
+    public String renderPrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        String lastName = null;
+
+        for (Metric metric : sortedMetrics()) {
+            if (!metric.getName().equals(lastName)) {
+                out.append("# HELP ").append(metric.getName()).append(' ').append(metric.getHelp()).append('\n');
+                out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+                lastName = metric.getName();
+            }
+
+            if (metric instanceof Counter counter) {
+                appendSample(out, metric.getName(), metric.getLabels(), null, counter.getCount());
+            } else if (metric instanceof Gauge gauge) {
+                appendSample(out, metric.getName(), metric.getLabels(), null, gauge.getValue());
+            } else if (metric instanceof LatencyHistogram histogram) {
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                double scale = histogram.getExportScale();
+                for (double quantile : QUANTILES) {
+                    appendSample(out, metric.getName(), metric.getLabels(), Double.toString(quantile),
+                            snapshot.getValueAtQuantile(quantile) * scale);
+                }
+                appendSample(out, metric.getName() + "_sum", metric.getLabels(), null, snapshot.getSum() * scale);
+                appendSample(out, metric.getName() + "_count", metric.getLabels(), null, snapshot.getCount());
+            }
+        }
+
+        return out.toString();
+    }
+
+    private void appendSample(StringBuilder out, String name, Map<String, String> labels, String quantile, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || quantile != null) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                first = false;
+            }
+            if (quantile != null) {
+                if (!first) {
+                    out.append(',');
+                }
+                out.append("quantile=\"").append(quantile).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * The same metrics as a JSON-friendly list, with counter rates and histogram percentiles
+     * in the histogram's export unit.
+     */
+    public List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        for (Metric metric : sortedMetrics()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", metric.getName());
+            entry.put("type", metric.getType());
+            if (!metric.getLabels().isEmpty()) {
+                entry.put("labels", metric.getLabels());
+            }
+
+            if (metric instanceof Counter counter) {
+                entry.put("count", counter.getCount());
+                entry.put("ratePerSecond", counter.getRatePerSecond());
+            } else if (metric instanceof Gauge gauge) {
+                entry.put("value", gauge.getValue());
+            } else if (metric instanceof LatencyHistogram histogram) {
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+                double scale = histogram.getExportScale();
+                entry.put("count", snapshot.getCount());
+                entry.put("sum", snapshot.getSum() * scale);
+                entry.put("mean", snapshot.getCount() == 0 ? 0 : snapshot.getSum() * scale / snapshot.getCount());
+                entry.put("max", snapshot.getMax() * scale);
+                Map<String, Double> percentiles = new LinkedHashMap<>();
+                for (double quantile : QUANTILES) {
+                    percentiles.put("p" + Double.toString(quantile * 100).replaceAll("\\.0$", ""),
+                            snapshot.getValueAtQuantile(quantile) * scale);
+                }
+                entry.put("percentiles", percentiles);
+            }
+
+            result.add(entry);
+        }
+
+        return result;
+    }
+}
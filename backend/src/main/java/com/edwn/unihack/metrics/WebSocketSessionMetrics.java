@@ -0,0 +1,31 @@
+// backend/src/main/java/com/edwn/unihack/metrics/WebSocketSessionMetrics.java
+package com.edwn.unihack.metrics;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class WebSocketSessionMetrics {
+    private final AtomicLong openSessions = new AtomicLong();
+    private final Counter connects;
+
+    public WebSocketSessionMetrics(MetricsRegistry metricsRegistry) {
+        metricsRegistry.gauge("unihack_websocket_sessions", "Open STOMP sessions", openSessions::get);
+        this.connects = metricsRegistry.counter("unihack_websocket_connects_total", "STOMP sessions opened");
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        openSessions.incrementAndGet();
+        connects.increment();
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        openSessions.decrementAndGet();
+    }
+}
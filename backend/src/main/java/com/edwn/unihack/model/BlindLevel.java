@@ -0,0 +1,14 @@
+// backend/src/main/java/com/edwn/unihack/model/BlindLevel.java
+package com.edwn.unihack.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlindLevel {
+    private int smallBlind;
+    private int bigBlind;
+}
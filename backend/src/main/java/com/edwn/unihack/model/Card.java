@@ -12,6 +12,17 @@ public class Card {
     private Suit suit;
     private Rank rank;
 
+    /**
+     * Compact id in [0, 52): suit-major, rank-minor.
+     */
+    public static Card fromId(int id) {
+        return new Card(Suit.values()[id / 13], Rank.values()[id % 13]);
+    }
+
+    public int toId() {
+        return suit.ordinal() * 13 + rank.ordinal();
+    }
+
     public enum Suit {
         HEARTS, DIAMONDS, CLUBS, SPADES
     }
@@ -6,8 +6,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,13 +15,19 @@ public class GameAction {
     private String playerName;
     private ActionType type;
     private int amount;
-    private LocalDateTime timestamp;
+    private long seq; // Position in the room's history, assigned when recorded
+    private long time; // Epoch millis, assigned when recorded
     private Card card; // For SCAN_CARD actions
     private String message; // For LOG actions
 
     public enum ActionType {
         JOIN, LEAVE, CHECK, BET, CALL, RAISE, FOLD,
         SCAN_CARD, DEAL_CARDS, START_HAND,
-        SMALL_BLIND, BIG_BLIND, LOG // Added new types
+        SMALL_BLIND, BIG_BLIND, LOG; // Added new types
+
+        // Counts as a turn taken in the current betting round
+        public boolean isBettingAction() {
+            return this == CHECK || this == BET || this == CALL || this == RAISE || this == FOLD;
+        }
     }
 }
\ No newline at end of file
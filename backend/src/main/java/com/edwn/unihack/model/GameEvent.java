@@ -0,0 +1,37 @@
+// backend/src/main/java/com/edwn/unihack/model/GameEvent.java
+package com.edwn.unihack.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One game log line, kept as its type plus a few ints and rendered to text only on request.
+ * Broadcast as a compact array: [type, seat, [args...], epochMillis, seq, [names...]].
+ * <p>
+ * Seats index the room's player list as it was when the event was logged. Players can leave
+ * mid-hand, so events that name players also keep those names: {@code names[0]} for the seat
+ * and {@code names[1 + i]} for a seat in {@code args[i]}. Other events have no names.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"type", "seat", "args", "time", "seq", "names"})
+public class GameEvent {
+    public static final int NO_SEAT = -1;
+    private static final int[] NO_ARGS = new int[0];
+
+    private GameEventType type;
+    private int seat;
+    private int[] args;
+    private long time; // Epoch millis, assigned when recorded
+    private long seq; // Shares the room's sequence with actions
+    private String[] names; // Player names as logged, or null
+
+    public static GameEvent of(GameEventType type, int seat, int... args) {
+        return new GameEvent(type, seat, args.length == 0 ? NO_ARGS : args, 0, 0, null);
+    }
+}
@@ -0,0 +1,67 @@
+// backend/src/main/java/com/edwn/unihack/model/GameEventType.java
+package com.edwn.unihack.model;
+
+/**
+ * Every kind of game log line. Templates are only expanded when a log is rendered:
+ * {seat} is the event's player, {seat:N}, {card:N}, {state:N}, {action:N}, {hand:N} and
+ * {bool:N} format argument N, and a bare {N} prints it as a number.
+ */
+public enum GameEventType {
+    HAND_STARTED("New hand started. Button: {seat}, SB: {seat:0}, BB: {seat:1}. Waiting for cards to be dealt."),
+    CARD_SCANNED("Card scanned: {card:0} in state: {state:1}, waiting for cards: {bool:2}"),
+    SCAN_NOT_WAITING("ERROR: Card scanned while not waiting for cards. Current state: {state:0}"),
+    CARD_DEALT("Card dealt to {seat}: {card:0}"),
+    PREFLOP_BETTING("All players have cards. Pre-flop betting begins. UTG to act first."),
+    FLOP_CARD("Flop card {0}/3: {card:1}"),
+    ALL_IN_TO_TURN("All players are all-in. Proceeding directly to turn."),
+    FLOP_BETTING("Flop complete. Flop betting begins."),
+    TURN_CARD("Turn card: {card:0}"),
+    TURN_CARD_ALL_IN("Turn card: {card:0}. All players are all-in. Proceeding directly to river."),
+    TURN_BETTING("Turn betting begins."),
+    RIVER_CARD("River card: {card:0}"),
+    ALL_IN_TO_SHOWDOWN("All players are all-in. Proceeding directly to showdown."),
+    RIVER_BETTING("River betting begins."),
+    ROUND_COMPLETE("Betting round complete in state: {state:0}"),
+    ALL_IN_FAST_FORWARD("All players are all-in. Fast-forwarding to showdown after dealing community cards."),
+    MOVING_TO_FLOP("Moving to FLOP stage. Waiting for flop cards."),
+    MOVING_TO_TURN("Moving to TURN stage. Waiting for turn card."),
+    MOVING_TO_RIVER("Moving to RIVER stage. Waiting for river card."),
+    MOVING_TO_SHOWDOWN("Moving to SHOWDOWN stage. Determining winner."),
+    HAND_COMPLETE("Hand complete. Waiting for dealer to start new hand."),
+    SHOWDOWN_NO_PLAYERS("Error: No active players at showdown!"),
+    SHOWDOWN_HAND("SHOWDOWN: {seat} shows {card:0}, {card:1} - {hand:2}"),
+    SHOWDOWN_WIN("SHOWDOWN: {seat} wins {0} chips with {hand:1}."),
+    LAST_PLAYER_STANDING("{seat} wins {0} chips as the last player standing."),
+    TOPPED_UP("{seat} ran out of chips and has been topped up to {0} chips."),
+    ACTION_WHILE_WAITING("ERROR: Player action '{action:0}' attempted while waiting for cards. Action ignored."),
+    FAKE_PLAYER_ADDED("Fake player '{seat}' added to the game"),
+    DISBANDED("Dealer has disbanded the game. All players removed."),
+    IDLE_CLOSED("Room closed after being idle for too long."),
+    REWOUND("Dealer undid the last {0} action(s).");
+
+    private final String template;
+    private final boolean namesSeat; // Uses {seat}
+    private final int seatArgs; // Bit per argument used as {seat:n}
+
+    GameEventType(String template) {
+        this.template = template;
+        this.namesSeat = template.contains("{seat}");
+        int mask = 0;
+        for (int i = template.indexOf("{seat:"); i >= 0; i = template.indexOf("{seat:", i + 1)) {
+            mask |= 1 << Integer.parseInt(template.substring(i + 6, template.indexOf('}', i)));
+        }
+        this.seatArgs = mask;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public boolean namesPlayers() {
+        return namesSeat || seatArgs != 0;
+    }
+
+    public boolean isSeatArg(int index) {
+        return (seatArgs & (1 << index)) != 0;
+    }
+}
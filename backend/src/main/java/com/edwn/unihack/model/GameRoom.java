@@ -1,12 +1,17 @@
 // backend/src/main/java/com/edwn/unihack/model/GameRoom.java (updated)
 package com.edwn.unihack.model;
 
+import com.edwn.unihack.util.dedup.SequenceWindow;
+import com.edwn.unihack.util.shuffle.ShuffledDeck;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.*;
+import java.util.function.LongSupplier;
 
 @Data
 @Builder
@@ -20,9 +25,9 @@ public class GameRoom {
     private GameState gameState;
     private List<Card> communityCards;
     private List<GameAction> actions;
+    private List<GameEvent> events; // Game log, rendered to text only on request
     private int currentPlayerIndex;
     private int pot;
-    private Map<String, Integer> bets; // Track bets for the current round
     private int currentBet; // Current highest bet
     @Builder.Default
     private int smallBlindPosition = 0; // Track small blind position instead of dealer
@@ -32,34 +37,405 @@ public class GameRoom {
     private List<String> winnerIds = new ArrayList<>();
     private int nextCardRecipientIndex;
     private int handNumber;
+    @Builder.Default
+    private int smallBlind = 5;
+    @Builder.Default
+    private int bigBlind = 10;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String tournamentId; // Set for tournament tables, which never top up busted players
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long actionDeadline; // Epoch millis the current player's action time runs out, while clocked
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long timeBankDeadline; // Epoch millis their time bank would run out after that
+    private boolean virtualDealing; // The server deals every hand itself instead of waiting for scans
+    @JsonIgnore
+    private int maxPlayers; // Seats the room can fill; set by GameRoomService when it creates the room
+    @JsonIgnore
+    private ShuffledDeck deck; // Created on the first virtually dealt hand
+    @JsonIgnore
+    private int deckHandNumber; // Hand the deck was last shuffled for
+    @JsonIgnore
+    private boolean autoDealtHand; // Decided when the hand starts, so its cards never switch between server and scanner
+    @JsonIgnore
+    private long handStartedAt; // Epoch millis
+    @JsonIgnore
+    private int[] handStartChips; // Stacks per seat once blinds are about to be posted
+    @JsonIgnore
+    private int[] handEndChips; // Stacks per seat once the pot is awarded, before broke players are topped up
+    @JsonIgnore
+    private int archivedHandNumber;
+    @JsonIgnore
+    private int completedHandNumber; // Last hand reported to HandListeners
+    @JsonIgnore
+    private int preflopRaiseCount; // For 3-bet statistics
+    // In-hand state by seat (index into players), reused from hand to hand
+    @JsonIgnore
+    @Builder.Default
+    private int[] streetBets = new int[INITIAL_SEATS]; // Chips each seat has put in on this street
+    @JsonIgnore
+    private int foldedSeats; // Bitmask
+    @JsonIgnore
+    private int allInSeats; // Bitmask of seats with no chips behind
+    @JsonIgnore
+    private int actedSeats; // Bitmask of seats that acted since the betting round began
+    @JsonIgnore
+    private long dealtCards; // Bit per Card.toId() scanned into this hand
+    @JsonIgnore
+    @Builder.Default
+    private int lastDealtCard = -1;
+    @JsonIgnore
+    private long lastDealtAt; // Epoch millis
+    @JsonIgnore
+    @Builder.Default
+    private Map<String, SequenceWindow> scanWindows = new HashMap<>(); // Retry detection by scanner id
+    @JsonIgnore
+    @Builder.Default
+    private List<HandCheckpoint> checkpoints = new ArrayList<>(); // One before each player or dealer action of the hand in progress, for undo
+    @JsonIgnore
+    private long lastSequence; // Last seq handed to an action or event
+    @JsonIgnore
+    private volatile long lastActivityAt; // Epoch millis of the last mutation, drives idle eviction
+    @JsonIgnore
+    @Builder.Default
+    private LongSupplier clock = System::currentTimeMillis; // Replays swap in a virtual clock
+
+    private static final int INITIAL_SEATS = 10;
+    private static final int MAX_SCAN_WINDOWS = 8;
 
     public static GameRoom createNew() {
+        return createNew(generateGameCode());
+    }
+
+    public static GameRoom createNew(String gameCode) {
         return GameRoom.builder()
-                .id(generateGameCode())
+                .id(gameCode)
                 .players(new ArrayList<>())
                 .communityCards(new ArrayList<>())
                 .actions(new ArrayList<>())
+                .events(new ArrayList<>())
                 .gameState(GameState.WAITING)
                 .pot(0)
-                .bets(new HashMap<>())
                 .currentBet(0)
                 .smallBlindPosition(0) // Initialize small blind position
                 .build();
     }
 
-    private static String generateGameCode() {
+    public static String generateGameCode() {
         return UUID.randomUUID().toString().substring(0, 6).toUpperCase();
     }
 
+    // Broadcasts are serialized under the room lock, so the collections can be reused
     public void newHand() {
-        setCommunityCards(new ArrayList<>());
+        communityCards.clear();
         setGameState(GameRoom.GameState.PREFLOP);
         setWaitingForCards(true);
         setPot(0);
-        setBets(new HashMap<>());
         setCurrentBet(0);
-        setActions(new ArrayList<>());
-        setWinnerIds(new ArrayList<>());
+        actions.clear();
+        events.clear();
+        winnerIds.clear();
+        dealtCards = 0;
+        lastDealtCard = -1;
+        checkpoints.clear();
+    }
+
+    /**
+     * Clears the per-seat state for the players now seated. Called once stacks are final for
+     * the coming hand, so anyone without chips starts out all-in.
+     */
+    public void resetSeats() {
+        if (streetBets.length < players.size()) {
+            streetBets = new int[players.size()];
+        }
+        Arrays.fill(streetBets, 0);
+        foldedSeats = 0;
+        actedSeats = 0;
+        allInSeats = 0;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat).getChips() <= 0) {
+                allInSeats |= 1 << seat;
+            }
+        }
+    }
+
+    public int seatOf(String playerId) {
+        if (playerId == null) return -1;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (playerId.equals(players.get(seat).getId())) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    public int getStreetBet(int seat) {
+        return seat >= 0 && seat < streetBets.length ? streetBets[seat] : 0;
+    }
+
+    @JsonIgnore
+    public int getTotalStreetBets() {
+        int total = 0;
+        for (int bet : streetBets) {
+            total += bet;
+        }
+        return total;
+    }
+
+    /**
+     * Moves up to {@code amount} from the seat's stack into its street bet and returns how
+     * much actually moved.
+     */
+    public int commitChips(int seat, int amount) {
+        Player player = players.get(seat);
+        int committed = Math.max(0, Math.min(amount, player.getChips()));
+        player.setChips(player.getChips() - committed);
+        if (seat >= streetBets.length) {
+            streetBets = Arrays.copyOf(streetBets, players.size());
+        }
+        streetBets[seat] += committed;
+        if (player.getChips() == 0) {
+            allInSeats |= 1 << seat;
+        }
+        return committed;
+    }
+
+    // Moves every street bet into the pot
+    public void collectStreetBets() {
+        pot += getTotalStreetBets();
+        clearStreetBets();
+    }
+
+    public void clearStreetBets() {
+        Arrays.fill(streetBets, 0);
+        currentBet = 0;
+    }
+
+    public boolean isDealt(int cardId) {
+        return (dealtCards & (1L << cardId)) != 0;
+    }
+
+    public void markDealt(int cardId) {
+        dealtCards |= 1L << cardId;
+        lastDealtCard = cardId;
+        lastDealtAt = now();
+    }
+
+    // Caller must hold the room lock
+    public HandCheckpoint checkpoint() {
+        HandCheckpoint previous = checkpoints.isEmpty() ? null : checkpoints.get(checkpoints.size() - 1);
+        HandCheckpoint checkpoint = new HandCheckpoint();
+        checkpoint.actionCount = actions.size();
+        checkpoint.eventCount = events.size();
+        checkpoint.gameState = gameState;
+        checkpoint.waitingForCards = waitingForCards;
+        checkpoint.currentPlayerIndex = currentPlayerIndex;
+        checkpoint.pot = pot;
+        checkpoint.currentBet = currentBet;
+        checkpoint.nextCardRecipientIndex = nextCardRecipientIndex;
+        checkpoint.preflopRaiseCount = preflopRaiseCount;
+        checkpoint.winnerIds = winnerIds.toArray(new String[0]);
+        checkpoint.streetBets = streetBets.clone();
+        checkpoint.foldedSeats = foldedSeats;
+        checkpoint.allInSeats = allInSeats;
+        checkpoint.actedSeats = actedSeats;
+        checkpoint.dealtCards = dealtCards;
+        checkpoint.lastDealtCard = lastDealtCard;
+        checkpoint.lastDealtAt = lastDealtAt;
+        checkpoint.deckPosition = deck != null && deckHandNumber == handNumber ? deck.position() : 0;
+
+        int seats = players.size();
+        checkpoint.playerIds = new String[seats];
+        checkpoint.chips = new int[seats];
+        checkpoint.folded = new boolean[seats];
+        checkpoint.active = new boolean[seats];
+        checkpoint.handRankings = new String[seats];
+        checkpoint.lastActions = new String[seats];
+        checkpoint.lastActionAmounts = new Integer[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = players.get(seat);
+            checkpoint.playerIds[seat] = player.getId();
+            checkpoint.chips[seat] = player.getChips();
+            checkpoint.folded[seat] = player.isFolded();
+            checkpoint.active[seat] = player.isActive();
+            checkpoint.handRankings[seat] = player.getHandRanking();
+            checkpoint.lastActions[seat] = player.getLastAction();
+            checkpoint.lastActionAmounts[seat] = player.getLastActionAmount();
+        }
+
+        // Cards only change when one is dealt, and restoring copies them out of the arrays
+        if (previous != null && previous.dealtCards == dealtCards && previous.fitsSeats(this)) {
+            checkpoint.communityCards = previous.communityCards;
+            checkpoint.holeCards = previous.holeCards;
+        } else {
+            checkpoint.communityCards = communityCards.toArray(new Card[0]);
+            checkpoint.holeCards = new Card[seats][];
+            for (int seat = 0; seat < seats; seat++) {
+                PlayerHand hand = players.get(seat).getHand();
+                checkpoint.holeCards[seat] = hand == null || hand.getCards() == null ? new Card[0] : hand.getCards().toArray(new Card[0]);
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Puts the hand back as it was at the checkpoint, dropping the actions and events recorded
+     * since. Sequence numbers carry on from the latest, so clients never see one reused. The
+     * checkpoint must fit the seats; caller must hold the room lock.
+     */
+    public void restore(HandCheckpoint checkpoint) {
+        actions.subList(checkpoint.actionCount, actions.size()).clear();
+        events.subList(Math.min(checkpoint.eventCount, events.size()), events.size()).clear();
+        gameState = checkpoint.gameState;
+        waitingForCards = checkpoint.waitingForCards;
+        currentPlayerIndex = checkpoint.currentPlayerIndex;
+        pot = checkpoint.pot;
+        currentBet = checkpoint.currentBet;
+        nextCardRecipientIndex = checkpoint.nextCardRecipientIndex;
+        preflopRaiseCount = checkpoint.preflopRaiseCount;
+        communityCards.clear();
+        Collections.addAll(communityCards, checkpoint.communityCards);
+        winnerIds.clear();
+        Collections.addAll(winnerIds, checkpoint.winnerIds);
+        streetBets = checkpoint.streetBets.clone();
+        foldedSeats = checkpoint.foldedSeats;
+        allInSeats = checkpoint.allInSeats;
+        actedSeats = checkpoint.actedSeats;
+        dealtCards = checkpoint.dealtCards;
+        lastDealtCard = checkpoint.lastDealtCard;
+        lastDealtAt = checkpoint.lastDealtAt;
+        if (deck != null && deckHandNumber == handNumber) {
+            deck.seek(checkpoint.deckPosition);
+        }
+
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            player.setChips(checkpoint.chips[seat]);
+            player.setFolded(checkpoint.folded[seat]);
+            player.setActive(checkpoint.active[seat]);
+            if (player.getHand() == null || player.getHand().getCards() == null) {
+                player.setHand(new PlayerHand(new ArrayList<>()));
+            }
+            List<Card> hand = player.getHand().getCards();
+            hand.clear();
+            Collections.addAll(hand, checkpoint.holeCards[seat]);
+            player.setHandRanking(checkpoint.handRankings[seat]);
+            player.setLastAction(checkpoint.lastActions[seat]);
+            player.setLastActionAmount(checkpoint.lastActionAmounts[seat]);
+        }
+    }
+
+    // Caller must hold the room lock
+    public SequenceWindow scanWindow(String scannerId) {
+        SequenceWindow window = scanWindows.get(scannerId);
+        if (window == null) {
+            // Rooms have one or two scanners; past the cap, old devices just lose their history
+            if (scanWindows.size() >= MAX_SCAN_WINDOWS) {
+                scanWindows.clear();
+            }
+            window = new SequenceWindow();
+            scanWindows.put(scannerId, window);
+        }
+        return window;
+    }
+
+    public boolean isFolded(int seat) {
+        return (foldedSeats & (1 << seat)) != 0;
+    }
+
+    public boolean isAllIn(int seat) {
+        return (allInSeats & (1 << seat)) != 0;
+    }
+
+    public boolean hasActed(int seat) {
+        return (actedSeats & (1 << seat)) != 0;
+    }
+
+    // Neither folded nor sitting out
+    public boolean isLive(int seat) {
+        return !isFolded(seat) && players.get(seat).isActive();
+    }
+
+    public void fold(int seat) {
+        foldedSeats |= 1 << seat;
+        players.get(seat).setFolded(true);
+    }
+
+    public void beginBettingRound() {
+        actedSeats = 0;
+    }
+
+    public void removePlayer(Player player) {
+        int seat = players.indexOf(player);
+        if (seat < 0) return;
+
+        players.remove(seat);
+        if (seat < streetBets.length) {
+            System.arraycopy(streetBets, seat + 1, streetBets, seat, streetBets.length - seat - 1);
+            streetBets[streetBets.length - 1] = 0;
+        }
+        foldedSeats = removeBit(foldedSeats, seat);
+        allInSeats = removeBit(allInSeats, seat);
+        actedSeats = removeBit(actedSeats, seat);
+    }
+
+    private static int removeBit(int mask, int seat) {
+        int below = mask & ((1 << seat) - 1);
+        return below | ((mask >>> (seat + 1)) << seat);
+    }
+
+    // JSON view of the street bets, keyed by player id as clients expect
+    public Map<String, Integer> getBets() {
+        Map<String, Integer> bets = new HashMap<>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            int bet = getStreetBet(seat);
+            if (bet > 0) {
+                bets.put(players.get(seat).getId(), bet);
+            }
+        }
+        return bets;
+    }
+
+    // Actions and events share one sequence, so the full history has an exact order
+    public synchronized void addAction(GameAction action) {
+        action.setSeq(++lastSequence);
+        action.setTime(now());
+        actions.add(action);
+
+        if (action.getType() != null && action.getType().isBettingAction()) {
+            int seat = seatOf(action.getPlayerId());
+            if (seat >= 0) {
+                actedSeats |= 1 << seat;
+            }
+        }
+    }
+
+    public synchronized void addEvent(GameEvent event) {
+        event.setSeq(++lastSequence);
+        event.setTime(now());
+        events.add(event);
+    }
+
+    public void touch() {
+        lastActivityAt = now();
+    }
+
+    // Epoch millis by the room's clock
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    @JsonIgnore
+    public boolean isHandInProgress() {
+        if (gameState == null) return false;
+        switch (gameState) {
+            case PREFLOP:
+            case FLOP:
+            case TURN:
+            case RIVER:
+                return true;
+            default:
+                return false;
+        }
     }
 
     public Player getCurrentPlayer() {
@@ -75,16 +451,14 @@ public class GameRoom {
         // Find next active player who hasn't folded
         do {
             currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-        } while (players.get(currentPlayerIndex).isFolded() || !players.get(currentPlayerIndex).isActive());
+        } while (!isLive(currentPlayerIndex));
     }
 
     public boolean isAllPlayersAllInOrFolded() {
         int activeNonAllInPlayers = 0;
 
-        for (Player player : getPlayers()) {
-            if (player.isFolded() || !player.isActive()) continue;
-
-            if (player.getChips() > 0) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (isLive(seat) && !isAllIn(seat)) {
                 activeNonAllInPlayers++;
             }
         }
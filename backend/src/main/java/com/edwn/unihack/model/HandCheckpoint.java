@@ -0,0 +1,78 @@
+// backend/src/main/java/com/edwn/unihack/model/HandCheckpoint.java
+package com.edwn.unihack.model;
+
+/**
+ * Everything an action can change in a hand in progress, as it stood just before the action
+ * was recorded. Taken by {@link GameRoom#checkpoint()} and put back by
+ * {@link GameRoom#restore(HandCheckpoint)}. Card arrays are shared with the previous checkpoint
+ * while no card has been dealt in between. The players' statistics live outside the room, so
+ * whoever takes the checkpoint attaches a copy of the one player's the action can change.
+ */
+public final class HandCheckpoint {
+    // Room, at the time of the checkpoint
+    int actionCount;
+    int eventCount;
+    GameRoom.GameState gameState;
+    boolean waitingForCards;
+    int currentPlayerIndex;
+    int pot;
+    int currentBet;
+    int nextCardRecipientIndex;
+    int preflopRaiseCount;
+    Card[] communityCards;
+    String[] winnerIds;
+    int[] streetBets;
+    int foldedSeats;
+    int allInSeats;
+    int actedSeats;
+    long dealtCards;
+    int lastDealtCard;
+    long lastDealtAt;
+    int deckPosition; // Cards dealt from the room's deck this hand, so an undo deals the same ones again
+
+    // By seat
+    String[] playerIds;
+    int[] chips;
+    boolean[] folded;
+    boolean[] active;
+    Card[][] holeCards;
+    String[] handRankings;
+    String[] lastActions;
+    Integer[] lastActionAmounts;
+    private int statsSeat = -1; // Seat whose statistics the action can change, if any
+    private PlayerStats stats; // Copy of them, as they stood
+
+    HandCheckpoint() {
+    }
+
+    // Index in the room's actions of the action this checkpoint precedes
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    // Whether the checkpoint was taken with exactly these players in these seats
+    public boolean fitsSeats(GameRoom room) {
+        if (room.getPlayers().size() != playerIds.length) {
+            return false;
+        }
+        for (int seat = 0; seat < playerIds.length; seat++) {
+            if (!playerIds[seat].equals(room.getPlayers().get(seat).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getStatsSeat() {
+        return statsSeat;
+    }
+
+    public PlayerStats getStats() {
+        return stats;
+    }
+
+    public void setStats(int seat, PlayerStats stats) {
+        this.statsSeat = seat;
+        this.stats = stats;
+    }
+}
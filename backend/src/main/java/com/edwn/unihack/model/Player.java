@@ -1,6 +1,8 @@
 // backend/src/main/java/com/edwn/unihack/model/Player.java
 package com.edwn.unihack.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +11,7 @@ import lombok.NoArgsConstructor;
 import java.util.ArrayList;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Player {
@@ -27,11 +29,21 @@ public class Player {
     private Integer lastActionAmount;
     @Builder.Default
     private boolean fake = false;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String botStrategy; // Fake players only; bots play only seats with one, except at tournament tables
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PlayerStats stats; // Only attached when stats are broadcast
+    @JsonIgnore
+    private long timeBankUsedMillis; // Spent over the session, see ActionClockService
 
     public void newHand() {
         setFolded(false);
         setActive(true);
-        setHand(new PlayerHand(new ArrayList<>()));
+        if (hand != null && hand.getCards() != null) {
+            hand.getCards().clear();
+        } else {
+            setHand(new PlayerHand(new ArrayList<>()));
+        }
         setLastAction("");
         setHandRanking(null);
     }
@@ -0,0 +1,76 @@
+// backend/src/main/java/com/edwn/unihack/model/PlayerStats.java
+package com.edwn.unihack.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PlayerStats {
+    public static final int FLAG_VPIP = 1;
+    public static final int FLAG_PFR = 1 << 1;
+    public static final int FLAG_THREE_BET_CHANCE = 1 << 2;
+    public static final int FLAG_THREE_BET = 1 << 3;
+
+    private int handsDealt;
+    private int vpipHands; // Voluntarily put chips in preflop
+    private int pfrHands; // Raised preflop
+    private int threeBetOpportunities;
+    private int threeBets;
+    private int aggressiveActions; // Bets and raises on any street
+    private int calls;
+    private int showdowns;
+    private int showdownWins;
+    @JsonIgnore
+    private int handFlags; // FLAG_* bits for the hand in progress
+
+    public double getVpip() {
+        return ratio(vpipHands, handsDealt);
+    }
+
+    public double getPfr() {
+        return ratio(pfrHands, handsDealt);
+    }
+
+    public double getThreeBetPercentage() {
+        return ratio(threeBets, threeBetOpportunities);
+    }
+
+    public double getAggressionFactor() {
+        return calls == 0 ? aggressiveActions : (double) aggressiveActions / calls;
+    }
+
+    public double getShowdownWinPercentage() {
+        return ratio(showdownWins, showdowns);
+    }
+
+    /**
+     * Sets a per-hand flag, returning true only the first time it is set this hand.
+     */
+    public boolean markHand(int flag) {
+        if ((handFlags & flag) != 0) {
+            return false;
+        }
+        handFlags |= flag;
+        return true;
+    }
+
+    // Overwrites every counter with other's, e.g. to take back an undone action
+    public void copyFrom(PlayerStats other) {
+        handsDealt = other.handsDealt;
+        vpipHands = other.vpipHands;
+        pfrHands = other.pfrHands;
+        threeBetOpportunities = other.threeBetOpportunities;
+        threeBets = other.threeBets;
+        aggressiveActions = other.aggressiveActions;
+        calls = other.calls;
+        showdowns = other.showdowns;
+        showdownWins = other.showdownWins;
+        handFlags = other.handFlags;
+    }
+
+    private static double ratio(int numerator, int denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
@@ -0,0 +1,54 @@
+// backend/src/main/java/com/edwn/unihack/model/Tournament.java
+package com.edwn.unihack.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A multi-table tournament. After registration closes every field is only changed by the
+ * tournament's own serial executor in {@code TournamentService}; REST reads may be a little stale.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tournament {
+    private String id;
+    private String name;
+    private volatile TournamentState state;
+    private int startingChips;
+    private int tableSize;
+    private long levelSeconds;
+    private List<BlindLevel> blindLevels;
+    private volatile int levelIndex;
+    private long levelStartedAt; // Epoch millis
+    private long startedAt;
+    private long finishedAt;
+    private volatile int remainingPlayers;
+    private String winnerId;
+    @Builder.Default
+    private volatile List<String> tableCodes = new ArrayList<>(); // Replaced, never modified in place
+    @JsonIgnore
+    @Builder.Default
+    private Map<String, TournamentEntrant> entrants = new ConcurrentHashMap<>();
+
+    public int getEntrantCount() {
+        return entrants.size();
+    }
+
+    public BlindLevel getCurrentLevel() {
+        return blindLevels.get(Math.min(levelIndex, blindLevels.size() - 1));
+    }
+
+    public enum TournamentState {
+        REGISTERING, RUNNING, FINISHED
+    }
+}
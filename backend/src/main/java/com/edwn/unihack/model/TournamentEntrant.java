@@ -0,0 +1,26 @@
+// backend/src/main/java/com/edwn/unihack/model/TournamentEntrant.java
+package com.edwn.unihack.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentEntrant {
+    private String id; // Also the Player id once seated
+    private String name;
+    private boolean online;
+    private boolean visuallyImpaired;
+    private boolean fake;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String botStrategy;
+    private String tableCode; // Current table, null before the start and after elimination
+    private int chips; // As of the last completed hand at their table
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer finishPosition; // Set when eliminated, 1 for the winner
+}
@@ -0,0 +1,200 @@
+// backend/src/main/java/com/edwn/unihack/replay/HandReplayer.java
+package com.edwn.unihack.replay;
+
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.service.BettingService;
+import com.edwn.unihack.service.CardHandlingService;
+import com.edwn.unihack.service.GameStateService;
+import com.edwn.unihack.service.PlayerStatsService;
+import com.edwn.unihack.util.archive.HandRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays recorded hands back through the game services and checks that they end the way the
+ * recording did.
+ * <p>
+ * Nothing is broadcast and no timers run: each room's clock is pointed at the recorded time
+ * of the action being applied, so hands replay as fast as the engine allows and still get
+ * the original timestamps. Rooms are kept per seat count and reused from hand to hand.
+ * Not thread-safe; use one replayer per thread.
+ */
+public class HandReplayer {
+    private static final GameAction.ActionType[] ACTION_TYPES = GameAction.ActionType.values();
+
+    private final GameStateService gameStateService;
+    private final BettingService bettingService;
+    private final CardHandlingService cardHandlingService;
+    private final PlayerStatsService playerStatsService;
+    private final List<GameRoom> rooms = new ArrayList<>(); // Indexed by seat count
+    private long now; // Virtual clock shared by every replay room
+
+    public HandReplayer(GameStateService gameStateService,
+                        BettingService bettingService,
+                        CardHandlingService cardHandlingService,
+                        PlayerStatsService playerStatsService) {
+        this.gameStateService = gameStateService;
+        this.bettingService = bettingService;
+        this.cardHandlingService = cardHandlingService;
+        this.playerStatsService = playerStatsService;
+    }
+
+    public ReplayOutcome replay(HandRecord hand) {
+        int seatCount = hand.getSeatCount();
+        int postedSmall = posted(hand, GameAction.ActionType.SMALL_BLIND);
+        int postedBig = posted(hand, GameAction.ActionType.BIG_BLIND);
+        if (seatCount < 2 || postedSmall <= 0 || postedBig <= 0) {
+            return ReplayOutcome.UNREPLAYABLE;
+        }
+
+        GameRoom room = roomFor(seatCount);
+        for (int seat = 0; seat < seatCount; seat++) {
+            room.getPlayers().get(seat).setChips(hand.getStartingChips(seat));
+        }
+        // A short stack posts less than the blind; the other blind still gives the level
+        room.setSmallBlind(Math.max(postedSmall, postedBig / 2));
+        room.setBigBlind(Math.max(postedBig, postedSmall * 2));
+
+        // startNewHand moves the blinds on by one seat, and always starts a room's first hand at seat 0
+        room.setSmallBlindPosition((hand.getSmallBlindPosition() - 1 + seatCount) % seatCount);
+        room.setHandNumber(hand.getHandNumber() - 1);
+
+        now = hand.getStartedAt();
+        gameStateService.startNewHand(room);
+        int smallBlindSeat = room.getSmallBlindPosition();
+        if (smallBlindSeat != hand.getSmallBlindPosition()
+                || room.getStreetBet(smallBlindSeat) != postedSmall
+                || room.getStreetBet((smallBlindSeat + 1) % seatCount) != postedBig) {
+            return ReplayOutcome.BLINDS_MISMATCH;
+        }
+
+        for (int i = 0; i < hand.getActionCount(); i++) {
+            GameAction.ActionType type = ACTION_TYPES[hand.getActionCode(i)];
+            if (type == GameAction.ActionType.SMALL_BLIND || type == GameAction.ActionType.BIG_BLIND) {
+                continue; // Posted by startNewHand
+            }
+
+            now = hand.getStartedAt() + hand.getActionOffset(i);
+            if (!apply(room, type, hand.getActionSeat(i), hand.getActionAmount(i), hand.getActionCard(i))) {
+                return ReplayOutcome.ACTION_REJECTED;
+            }
+        }
+
+        boolean ended = room.getGameState() == GameRoom.GameState.SHOWDOWN || room.getGameState() == GameRoom.GameState.ENDED;
+        int[] endChips = ended ? room.getHandEndChips() : null;
+        int winnerMask = 0;
+        for (int seat = 0; seat < seatCount; seat++) {
+            Player player = room.getPlayers().get(seat);
+            // Segments written before the end stacks were kept hold the topped-up stack
+            int ending = endChips != null && endChips.length == seatCount ? endChips[seat] : player.getChips();
+            if (ending != hand.getFinalChips(seat) && player.getChips() != hand.getFinalChips(seat)) {
+                return ReplayOutcome.CHIPS_MISMATCH;
+            }
+            if (room.getWinnerIds().contains(player.getId())) {
+                winnerMask |= 1 << seat;
+            }
+        }
+        return winnerMask == hand.getWinnerMask() ? ReplayOutcome.MATCH : ReplayOutcome.WINNERS_MISMATCH;
+    }
+
+    // Drops the statistics the replay players picked up
+    public void forget() {
+        for (GameRoom room : rooms) {
+            if (room != null) {
+                playerStatsService.forget(room);
+            }
+        }
+    }
+
+    /**
+     * Records the action and hands it to the services the way the live engine does, so actions
+     * the engine recorded and then ignored (a card nobody was waiting for, a bet out of turn)
+     * are ignored again. A replay that goes a different way shows up in the chips and winners.
+     *
+     * @return false only if the recording itself is malformed
+     */
+    private boolean apply(GameRoom room, GameAction.ActionType type, int seat, int amount, int card) {
+        if (type == GameAction.ActionType.SCAN_CARD) {
+            if (card == HandRecord.NO_CARD) {
+                return false;
+            }
+            Card scanned = Card.fromId(card);
+            room.addAction(GameAction.builder().type(type).card(scanned).build());
+            cardHandlingService.handleCardScan(room, scanned);
+            return true;
+        }
+        if (!type.isBettingAction()) {
+            return false;
+        }
+
+        // The engine turns betting away before recording it while cards are due, and the
+        // archive never saw seats that had already left
+        if (room.isWaitingForCards() || seat < 0 || seat >= room.getPlayers().size()) {
+            return true;
+        }
+
+        Player player = room.getPlayers().get(seat);
+        room.addAction(GameAction.builder()
+                .playerId(player.getId())
+                .playerName(player.getName())
+                .type(type)
+                .amount(amount)
+                .build());
+
+        switch (type) {
+            case CHECK:
+                bettingService.handleCheck(room, player.getId());
+                break;
+            case BET:
+                bettingService.handleBet(room, player.getId(), amount);
+                break;
+            case CALL:
+                bettingService.handleCall(room, player.getId());
+                break;
+            case RAISE:
+                bettingService.handleRaise(room, player.getId(), amount);
+                break;
+            case FOLD:
+                bettingService.handleFold(room, player.getId());
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+
+    private GameRoom roomFor(int seatCount) {
+        while (rooms.size() <= seatCount) {
+            rooms.add(null);
+        }
+
+        GameRoom room = rooms.get(seatCount);
+        if (room == null) {
+            room = GameRoom.createNew("REPLAY" + seatCount);
+            room.setClock(() -> now);
+            for (int seat = 0; seat < seatCount; seat++) {
+                room.getPlayers().add(Player.builder()
+                        .id("replay-" + seatCount + "-" + seat)
+                        .name("Seat " + (seat + 1))
+                        .active(true)
+                        .fake(true)
+                        .build());
+            }
+            rooms.set(seatCount, room);
+        }
+        return room;
+    }
+
+    private static int posted(HandRecord hand, GameAction.ActionType blind) {
+        for (int i = 0; i < hand.getActionCount(); i++) {
+            if (hand.getActionCode(i) == blind.ordinal()) {
+                return hand.getActionAmount(i);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+// backend/src/main/java/com/edwn/unihack/replay/ReplayOutcome.java
+package com.edwn.unihack.replay;
+
+public enum ReplayOutcome {
+    MATCH,
+    BLINDS_MISMATCH, // The engine posted different blinds than the recording
+    ACTION_REJECTED, // A recorded action was malformed: a scan without a card, or not a betting action
+    CHIPS_MISMATCH,
+    WINNERS_MISMATCH,
+    UNREPLAYABLE // The recording has no seats or no blinds to start from
+}
@@ -0,0 +1,37 @@
+// backend/src/main/java/com/edwn/unihack/replay/ReplayReport.java
+package com.edwn.unihack.replay;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class ReplayReport {
+    private static final int MAX_MISMATCHES = 50;
+
+    private long hands;
+    private long actions;
+    private long elapsedNanos;
+    private final Map<ReplayOutcome, Long> outcomes = new EnumMap<>(ReplayOutcome.class);
+    private final List<String> mismatches = new ArrayList<>(); // "ROOM#hand OUTCOME", first few only
+
+    void record(String roomCode, int handNumber, int actionCount, ReplayOutcome outcome) {
+        hands++;
+        actions += actionCount;
+        outcomes.merge(outcome, 1L, Long::sum);
+        if (outcome != ReplayOutcome.MATCH && mismatches.size() < MAX_MISMATCHES) {
+            mismatches.add(roomCode + "#" + handNumber + " " + outcome);
+        }
+    }
+
+    public long getMatched() {
+        return outcomes.getOrDefault(ReplayOutcome.MATCH, 0L);
+    }
+
+    public double getHandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : hands * 1e9 / elapsedNanos;
+    }
+}
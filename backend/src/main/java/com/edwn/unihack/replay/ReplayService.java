@@ -0,0 +1,55 @@
+// backend/src/main/java/com/edwn/unihack/replay/ReplayService.java
+package com.edwn.unihack.replay;
+
+import com.edwn.unihack.service.BettingService;
+import com.edwn.unihack.service.CardHandlingService;
+import com.edwn.unihack.service.GameStateService;
+import com.edwn.unihack.service.HandArchiveService;
+import com.edwn.unihack.service.PlayerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * Replays the hand archive through the current engine. Doubles as a regression check for
+ * rule changes, since every hand must still end with the recorded stacks and winners, and
+ * as a benchmark of the engine without the WebSocket layer.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReplayService {
+    private final GameStateService gameStateService;
+    private final BettingService bettingService;
+    private final CardHandlingService cardHandlingService;
+    private final PlayerStatsService playerStatsService;
+    private final HandArchiveService handArchiveService;
+
+    /**
+     * Runs one replay at a time, since replays share their players' ids in the stats service.
+     *
+     * @param limit  stop after this many hands, 0 for the whole archive
+     * @param passes how many times to run through the archive, for benchmarking
+     */
+    public synchronized ReplayReport replayArchive(long limit, int passes) throws IOException {
+        HandReplayer replayer = new HandReplayer(gameStateService, bettingService, cardHandlingService, playerStatsService);
+        ReplayReport report = new ReplayReport();
+
+        long start = System.nanoTime();
+        try {
+            for (int pass = 0; pass < Math.max(1, passes); pass++) {
+                // The limit covers every pass, so a later pass only reads what is left of it
+                long remaining = limit - report.getHands();
+                if (limit > 0 && remaining <= 0) {
+                    break;
+                }
+                handArchiveService.scan(hand -> report.record(hand.getRoomCode(), hand.getHandNumber(),
+                        hand.getActionCount(), replayer.replay(hand)), limit > 0 ? remaining : 0);
+            }
+        } finally {
+            report.setElapsedNanos(System.nanoTime() - start);
+            replayer.forget();
+        }
+        return report;
+    }
+}
@@ -0,0 +1,181 @@
+// backend/src/main/java/com/edwn/unihack/service/ActionClockService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import com.edwn.unihack.util.timer.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Limits how long an online player may take to act. Each room has at most one running clock,
+ * a single timeout on the shared timing wheel, replaced whenever the turn moves on. When the
+ * action time runs out the player's time bank starts; when that is spent too the player
+ * checks if nothing is owed and folds otherwise, or calls if they have no chips left to lose.
+ * <p>
+ * Bots have their own timer and offline players act through the dealer, so neither is clocked,
+ * and all-in players have nothing left to decide.
+ */
+@Service
+public class ActionClockService {
+    private final HashedTimingWheel timingWheel;
+    private final Map<String, Clock> clocks = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long actionMillis;
+    private final long timeBankMillis;
+    private final Counter timeBanksStarted;
+    private final Counter expired;
+
+    public ActionClockService(HashedTimingWheel timingWheel,
+                              MetricsRegistry metricsRegistry,
+                              @Value("${unihack.clock.enabled:true}") boolean enabled,
+                              @Value("${unihack.clock.action-seconds:30}") long actionSeconds,
+                              @Value("${unihack.clock.time-bank-seconds:60}") long timeBankSeconds) {
+        this.timingWheel = timingWheel;
+        this.enabled = enabled;
+        this.actionMillis = TimeUnit.SECONDS.toMillis(actionSeconds);
+        this.timeBankMillis = TimeUnit.SECONDS.toMillis(timeBankSeconds);
+        this.timeBanksStarted = metricsRegistry.counter("unihack_clock_time_banks_total", "Turns that ran into the player's time bank");
+        this.expired = metricsRegistry.counter("unihack_clock_expired_total", "Turns checked or folded because the player ran out of time");
+        metricsRegistry.gauge("unihack_clock_running", "Action clocks running across all rooms", clocks::size);
+    }
+
+    /**
+     * Called with the room lock held after every change to the room, before it is broadcast.
+     * Starts the clock for a new turn, stops it once nobody online is to act, and sets the
+     * room's deadlines to match. Expired turns are submitted through {@code submitter}.
+     */
+    public void onRoomUpdated(GameRoom room, BiConsumer<String, GameAction> submitter) {
+        if (!enabled) {
+            return;
+        }
+
+        Player player = room.getCurrentPlayer();
+        if (player == null || player.isFake() || !player.isOnline() || player.isFolded() || !isBettingRound(room)
+                || room.isAllIn(room.getCurrentPlayerIndex())) {
+            forget(room);
+            return;
+        }
+
+        long token = turnToken(room);
+        Clock existing = clocks.get(room.getId());
+        if (existing != null && existing.token == token && existing.playerId.equals(player.getId())) {
+            return;
+        }
+
+        stop(room, existing);
+        long now = room.now();
+        Clock clock = new Clock(player.getId(), token);
+        clocks.put(room.getId(), clock);
+        room.setActionDeadline(now + actionMillis);
+        room.setTimeBankDeadline(now + actionMillis + bankLeft(player));
+        clock.timeout = timingWheel.schedule(() -> expire(room, clock, submitter), actionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Caller holds the room lock
+    public void forget(GameRoom room) {
+        stop(room, clocks.get(room.getId()));
+        room.setActionDeadline(null);
+        room.setTimeBankDeadline(null);
+    }
+
+    public int running() {
+        return clocks.size();
+    }
+
+    private void expire(GameRoom room, Clock clock, BiConsumer<String, GameAction> submitter) {
+        try {
+            synchronized (room) {
+                if (clocks.get(room.getId()) != clock || !isStillTurn(room, clock)) {
+                    return;
+                }
+
+                Player player = room.getCurrentPlayer();
+                long bank = bankLeft(player);
+                if (clock.bankStartedAt == 0 && bank > 0) {
+                    clock.bankStartedAt = room.now();
+                    timeBanksStarted.increment();
+                    clock.timeout = timingWheel.schedule(() -> expire(room, clock, submitter), bank, TimeUnit.MILLISECONDS);
+                    return;
+                }
+
+                // stop() charges the bank once the automatic action moves the turn on
+                expired.increment();
+                int seat = room.seatOf(player.getId());
+                boolean owes = room.getCurrentBet() > room.getStreetBet(seat);
+                // Folding a player with nothing behind would throw away the chips they already put in
+                GameAction.ActionType type = !owes ? GameAction.ActionType.CHECK
+                        : player.getChips() <= 0 ? GameAction.ActionType.CALL
+                        : GameAction.ActionType.FOLD;
+                submitter.accept(room.getId(), GameAction.builder()
+                        .type(type)
+                        .playerId(player.getId())
+                        .playerName(player.getName())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Action clock failed in room " + room.getId() + ": " + e.getMessage());
+        }
+    }
+
+    // Caller holds the room lock
+    private void stop(GameRoom room, Clock clock) {
+        if (clock == null) {
+            return;
+        }
+        clocks.remove(room.getId(), clock);
+        clock.timeout.cancel();
+
+        if (clock.bankStartedAt != 0) {
+            int seat = room.seatOf(clock.playerId);
+            if (seat >= 0) {
+                Player player = room.getPlayers().get(seat);
+                long used = player.getTimeBankUsedMillis() + room.now() - clock.bankStartedAt;
+                player.setTimeBankUsedMillis(Math.min(timeBankMillis, used));
+            }
+        }
+    }
+
+    private long bankLeft(Player player) {
+        return Math.max(0, timeBankMillis - player.getTimeBankUsedMillis());
+    }
+
+    private static boolean isStillTurn(GameRoom room, Clock clock) {
+        Player current = room.getCurrentPlayer();
+        return current != null
+                && current.getId().equals(clock.playerId)
+                && turnToken(room) == clock.token
+                && isBettingRound(room);
+    }
+
+    private static boolean isBettingRound(GameRoom room) {
+        return room.isHandInProgress() && !room.isWaitingForCards();
+    }
+
+    // Changes whenever anything is recorded in the hand
+    private static long turnToken(GameRoom room) {
+        return ((long) room.getHandNumber() << 32) | room.getActions().size();
+    }
+
+    // Fields other than timeout are only touched under the room lock
+    private static class Clock {
+        final String playerId;
+        final long token;
+        long bankStartedAt; // Epoch millis, 0 until the action time runs out
+        volatile Timeout timeout;
+
+        Clock(String playerId, long token) {
+            this.playerId = playerId;
+            this.token = token;
+        }
+    }
+}
@@ -2,28 +2,27 @@
 package com.edwn.unihack.service;
 
 import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameEventType;
 import com.edwn.unihack.model.GameRoom;
 import com.edwn.unihack.model.Player;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
-
 @Service
 public class BettingService {
 
     private final GameLogService gameLogService;
     private final GameStateService gameStateService;
     private final CardHandlingService cardHandlingService;
+    private final PlayerStatsService playerStatsService;
 
     public BettingService(GameLogService gameLogService,
                           GameStateService gameStateService,
-                          CardHandlingService cardHandlingService) {
+                          CardHandlingService cardHandlingService,
+                          PlayerStatsService playerStatsService) {
         this.gameLogService = gameLogService;
         this.gameStateService = gameStateService;
         this.cardHandlingService = cardHandlingService;
+        this.playerStatsService = playerStatsService;
     }
 
     public void handleCheck(GameRoom room, String playerId) {
@@ -35,6 +34,7 @@ public class BettingService {
 
         // Update player's last action
         currentPlayer.setLastAction("CHECK");
+        playerStatsService.recordAction(room, currentPlayer, GameAction.ActionType.CHECK);
         currentPlayer.setLastActionAmount(null);
 
         // Move to next player
@@ -51,17 +51,14 @@ public class BettingService {
             return;
         }
 
-        // Make sure player can't bet more than they have
-        int maxBet = currentPlayer.getChips();
-        int actualBet = Math.min(amount, maxBet);
-
-        // Place bet
-        currentPlayer.setChips(currentPlayer.getChips() - actualBet);
-        room.getBets().put(playerId, actualBet);
-        room.setCurrentBet(actualBet);
+        // Place bet; a player can't bet more than they have
+        int seat = room.getCurrentPlayerIndex();
+        int actualBet = room.commitChips(seat, amount);
+        room.setCurrentBet(room.getStreetBet(seat));
 
         // Update player's last action
         currentPlayer.setLastAction("BET");
+        playerStatsService.recordAction(room, currentPlayer, GameAction.ActionType.BET);
         currentPlayer.setLastActionAmount(actualBet);
 
         // Move to next player
@@ -78,22 +75,13 @@ public class BettingService {
             return;
         }
 
-        // Get the amount needed to call
-        int currentBet = room.getCurrentBet();
-        int currentPlayerBet = room.getBets().getOrDefault(playerId, 0);
-        int amountToCall = currentBet - currentPlayerBet;
-
-        // Limit call to player's available chips
-        int actualCall = Math.min(amountToCall, currentPlayer.getChips());
-
-        // Place call
-        if (actualCall > 0) {
-            currentPlayer.setChips(currentPlayer.getChips() - actualCall);
-            room.getBets().put(playerId, currentPlayerBet + actualCall);
-        }
+        // Place call, limited to player's available chips
+        int seat = room.getCurrentPlayerIndex();
+        int actualCall = room.commitChips(seat, room.getCurrentBet() - room.getStreetBet(seat));
 
         // Update player's last action
         currentPlayer.setLastAction("CALL");
+        playerStatsService.recordAction(room, currentPlayer, GameAction.ActionType.CALL);
         currentPlayer.setLastActionAmount(actualCall);
 
         // Move to next player
@@ -110,21 +98,14 @@ public class BettingService {
             return;
         }
 
-        // Calculate total amount needed (current bet + raise amount)
-        int currentPlayerBet = room.getBets().getOrDefault(playerId, 0);
-        int totalNeeded = room.getCurrentBet() - currentPlayerBet + amount;
-
-        // Limit to player's available chips
-        int actualAmount = Math.min(totalNeeded, currentPlayer.getChips());
-        int newBet = currentPlayerBet + actualAmount;
-
-        // Place raise
-        currentPlayer.setChips(currentPlayer.getChips() - actualAmount);
-        room.getBets().put(playerId, newBet);
-        room.setCurrentBet(newBet);
+        // Place raise: current bet + raise amount, limited to player's available chips
+        int seat = room.getCurrentPlayerIndex();
+        int actualAmount = room.commitChips(seat, room.getCurrentBet() - room.getStreetBet(seat) + amount);
+        room.setCurrentBet(room.getStreetBet(seat));
 
         // Update player's last action
         currentPlayer.setLastAction("RAISE");
+        playerStatsService.recordAction(room, currentPlayer, GameAction.ActionType.RAISE);
         currentPlayer.setLastActionAmount(actualAmount);
 
         // Move to next player
@@ -136,22 +117,20 @@ public class BettingService {
 
     public void handleFold(GameRoom room, String playerId) {
         // Find the player
-        Player player = room.getPlayers().stream()
-                .filter(p -> p.getId().equals(playerId))
-                .findFirst()
-                .orElse(null);
-
-        if (player == null) return;
+        int seat = room.seatOf(playerId);
+        if (seat < 0) return;
+        Player player = room.getPlayers().get(seat);
 
         // Mark as folded
-        player.setFolded(true);
+        room.fold(seat);
 
         // Update player's last action
         player.setLastAction("FOLD");
+        playerStatsService.recordAction(room, player, GameAction.ActionType.FOLD);
         player.setLastActionAmount(null);
 
         // If it was this player's turn, move to next
-        if (room.getCurrentPlayer() != null && room.getCurrentPlayer().getId().equals(playerId)) {
+        if (room.getCurrentPlayerIndex() == seat) {
             room.moveToNextPlayer();
         }
 
@@ -170,184 +149,105 @@ public class BettingService {
 
         if (roundComplete) {
             // Add LOG action
-            gameLogService.addLogAction(room, "Betting round complete in state: " + room.getGameState());
+            gameLogService.log(room, GameEventType.ROUND_COMPLETE, room.getGameState().ordinal());
 
             // Collect bets to pot
-            for (Integer bet : room.getBets().values()) {
-                room.setPot(room.getPot() + bet);
-            }
-            room.setBets(new HashMap<>());
-            room.setCurrentBet(0);
+            room.collectStreetBets();
 
             // Check if all players are all-in except possibly one
-            boolean allPlayersAllIn = isAllPlayersAllInOrFolded(room);
+            boolean allPlayersAllIn = room.isAllPlayersAllInOrFolded();
 
             // Move to next stage based on current state
             switch (room.getGameState()) {
                 case PREFLOP:
-                    gameStateService.advanceToNextStage(room, GameRoom.GameState.FLOP,
-                            "Moving to FLOP stage. Waiting for flop cards.");
+                    gameStateService.advanceToNextStage(room, GameRoom.GameState.FLOP, GameEventType.MOVING_TO_FLOP);
 
                     // If all active players are all-in, setup for fast dealing
                     if (allPlayersAllIn) {
-                        gameLogService.addLogAction(room, "All players are all-in. Fast-forwarding to showdown after dealing community cards.");
+                        gameLogService.log(room, GameEventType.ALL_IN_FAST_FORWARD);
                     }
                     break;
                 case FLOP:
-                    gameStateService.advanceToNextStage(room, GameRoom.GameState.TURN,
-                            "Moving to TURN stage. Waiting for turn card.");
+                    gameStateService.advanceToNextStage(room, GameRoom.GameState.TURN, GameEventType.MOVING_TO_TURN);
                     break;
                 case TURN:
-                    gameStateService.advanceToNextStage(room, GameRoom.GameState.RIVER,
-                            "Moving to RIVER stage. Waiting for river card.");
+                    gameStateService.advanceToNextStage(room, GameRoom.GameState.RIVER, GameEventType.MOVING_TO_RIVER);
                     break;
                 case RIVER:
-                    gameStateService.advanceToNextStage(room, GameRoom.GameState.SHOWDOWN,
-                            "Moving to SHOWDOWN stage. Determining winner.");
+                    gameStateService.advanceToNextStage(room, GameRoom.GameState.SHOWDOWN, GameEventType.MOVING_TO_SHOWDOWN);
                     // Handle showdown
                     gameStateService.handleShowdown(room);
                     break;
                 case SHOWDOWN:
-                    gameStateService.advanceToNextStage(room, GameRoom.GameState.ENDED,
-                            "Hand complete. Waiting for dealer to start new hand.");
+                    gameStateService.advanceToNextStage(room, GameRoom.GameState.ENDED, GameEventType.HAND_COMPLETE);
                     break;
             }
         }
     }
 
-    // Add this helper method to BettingService class
-    private boolean isAllPlayersAllInOrFolded(GameRoom room) {
-        int activeNonAllInPlayers = 0;
-
-        for (Player player : room.getPlayers()) {
-            if (player.isFolded() || !player.isActive()) continue;
-
-            if (player.getChips() > 0) {
-                activeNonAllInPlayers++;
-            }
-        }
-
-        // If there's only 0 or 1 player with chips, all others are all-in
-        return activeNonAllInPlayers <= 1;
-    }
-
     public boolean isRoundComplete(GameRoom room) {
         if (room.isWaitingForCards()) {
             return false;
         }
 
+        int seats = room.getPlayers().size();
         int activePlayers = 0;
         int activeNonAllInPlayers = 0;
+        int nonAllInSeat = -1;
         int targetBet = room.getCurrentBet();
-        Set<String> actedPlayerIds = new HashSet<>();
 
         // Check if all active players are all-in except possibly one
-        for (Player player : room.getPlayers()) {
-            if (player.isFolded() || !player.isActive()) continue;
+        for (int seat = 0; seat < seats; seat++) {
+            if (!room.isLive(seat)) continue;
 
             activePlayers++;
-            // Check if player is all-in (chips = 0)
-            if (player.getChips() > 0) {
+            if (!room.isAllIn(seat)) {
                 activeNonAllInPlayers++;
+                if (nonAllInSeat < 0) nonAllInSeat = seat;
             }
         }
 
         // If all players are all-in or all but one (who has matched the bet), fast forward
         if (activeNonAllInPlayers <= 1) {
-            // Check if the one non-all-in player has matched the current bet
+            // If the one non-all-in player hasn't matched the bet, we can't fast forward
             if (activeNonAllInPlayers == 1) {
-                Player nonAllInPlayer = room.getPlayers().stream()
-                        .filter(p -> p.isActive() && !p.isFolded() && p.getChips() > 0)
-                        .findFirst()
-                        .orElse(null);
-
-                if (nonAllInPlayer != null) {
-                    int playerBet = room.getBets().getOrDefault(nonAllInPlayer.getId(), 0);
-                    // If they haven't matched the bet, we can't fast forward
-                    return playerBet >= targetBet;
-                }
+                return room.getStreetBet(nonAllInSeat) >= targetBet;
             }
 
-            // All players are all-in or all bets are matched - we can fast forward
+            // All players are all-in - we can fast forward
             return true;
         }
 
-        // Rest of the original method remains the same...
-        // Find the most recent betting round start
-        LocalDateTime roundStartTime = null;
-        for (int i = room.getActions().size() - 1; i >= 0; i--) {
-            GameAction action = room.getActions().get(i);
-            if (action.getType() == GameAction.ActionType.LOG &&
-                    (action.getMessage() != null &&
-                            (action.getMessage().contains("betting begins") ||
-                                    action.getMessage().contains("Pre-flop betting begins")))) {
-                roundStartTime = action.getTimestamp();
-                break;
-            }
-        }
-
-        if (roundStartTime == null) {
-            // If no round start found, use an old timestamp
-            roundStartTime = LocalDateTime.now().minusDays(1);
-        }
-
-        // Get all player actions in this round
-        for (GameAction action : room.getActions()) {
-            if (action.getTimestamp() != null &&
-                    action.getTimestamp().isAfter(roundStartTime) &&
-                    action.getPlayerId() != null) {
-
-                // Only include betting actions
-                if (action.getType() == GameAction.ActionType.CHECK ||
-                        action.getType() == GameAction.ActionType.BET ||
-                        action.getType() == GameAction.ActionType.CALL ||
-                        action.getType() == GameAction.ActionType.RAISE ||
-                        action.getType() == GameAction.ActionType.FOLD) {
-
-                    actedPlayerIds.add(action.getPlayerId());
-                }
-            }
-        }
-
         // Special case for preflop big blind
-        boolean bigBlindSpecialCase = false;
-        Player bigBlindPlayer = null;
+        int bigBlindSeat = -1;
 
         if (room.getGameState() == GameRoom.GameState.PREFLOP) {
             int bigBlindPos;
-            if (room.getPlayers().size() == 2) {
+            if (seats == 2) {
                 bigBlindPos = (room.getSmallBlindPosition()) % 2;
             } else {
-                bigBlindPos = (room.getSmallBlindPosition() + 1) % room.getPlayers().size();
+                bigBlindPos = (room.getSmallBlindPosition() + 1) % seats;
             }
 
-            if (bigBlindPos < room.getPlayers().size()) {
-                bigBlindPlayer = room.getPlayers().get(bigBlindPos);
-
-                // Check if BB has taken an action other than posting the blind
-                boolean bbHasActed = actedPlayerIds.contains(bigBlindPlayer.getId());
-
-                // If no one has raised (current bet = BB amount) and BB hasn't acted, they need to act
-                bigBlindSpecialCase = !bbHasActed && targetBet == 10;
+            // If no one has raised (current bet = BB amount) and BB hasn't acted, they need to act
+            if (bigBlindPos < seats && !room.hasActed(bigBlindPos) && targetBet == room.getBigBlind()) {
+                bigBlindSeat = bigBlindPos;
             }
         }
 
         // Count active players and check if they've all acted and matched the bet
-        for (Player player : room.getPlayers()) {
-            if (player.isFolded() || !player.isActive()) continue;
-
-            int playerBet = room.getBets().getOrDefault(player.getId(), 0);
+        for (int seat = 0; seat < seats; seat++) {
+            if (!room.isLive(seat)) continue;
 
-            // Check if player hasn't matched the current bet
-            if (playerBet < targetBet) {
+            // Check if player hasn't matched the current bet (all-in for less is fine)
+            if (room.getStreetBet(seat) < targetBet && !room.isAllIn(seat)) {
                 return false;
             }
 
             // Check if player hasn't acted this round
-            if (!actedPlayerIds.contains(player.getId())) {
+            if (!room.hasActed(seat)) {
                 // Special case for BB who can check if no raises
-                if (bigBlindSpecialCase && bigBlindPlayer != null &&
-                        player.getId().equals(bigBlindPlayer.getId())) {
+                if (seat == bigBlindSeat) {
                     return false;
                 } else if (targetBet == 0) {
                     // If bet is 0, everyone must act
@@ -358,6 +258,6 @@ public class BettingService {
         }
 
         // If we have only one active player, round is complete
-        return activePlayers <= 1 || !actedPlayerIds.isEmpty();
+        return activePlayers <= 1 || room.getActedSeats() != 0;
     }
 }
\ No newline at end of file
@@ -1,34 +1,76 @@
 // backend/src/main/java/com/edwn/unihack/service/CardHandlingService.java
 package com.edwn.unihack.service;
 
+import com.edwn.unihack.dto.ScanStatus;
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.LatencyHistogram;
+import com.edwn.unihack.metrics.MetricsRegistry;
 import com.edwn.unihack.model.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 @Service
 public class CardHandlingService {
 
     private final GameLogService gameLogService;
     private final GameStateService gameStateService;
-
-    public CardHandlingService(GameLogService gameLogService, GameStateService gameStateService) {
+    private final LatencyHistogram rankingEvaluationTimer;
+    private final long debounceMillis;
+    private final Counter debouncedScans;
+    private final Counter duplicateScans;
+
+    public CardHandlingService(GameLogService gameLogService,
+                               GameStateService gameStateService,
+                               MetricsRegistry metricsRegistry,
+                               @Value("${unihack.scanner.debounce-ms:2000}") long debounceMillis) {
         this.gameLogService = gameLogService;
         this.gameStateService = gameStateService;
+        this.rankingEvaluationTimer = metricsRegistry.timer("unihack_hand_evaluation_seconds",
+                "Time to evaluate one player's hand", "purpose", "ranking");
+        this.debounceMillis = debounceMillis;
+        this.debouncedScans = metricsRegistry.counter("unihack_card_scans_rejected_total",
+                "Card reads rejected before reaching a room", "reason", "debounced");
+        this.duplicateScans = metricsRegistry.counter("unihack_card_scans_rejected_total",
+                "Card reads rejected before reaching a room", "reason", "duplicate");
+    }
+
+    /**
+     * Decides what a scanner read will do, in constant time, before anything is recorded.
+     * A card already dealt this hand is rejected: straight after it was dealt it is a reader
+     * double-read (DEBOUNCED), any later it is the same card scanned twice (DUPLICATE).
+     * Rejected reads go back to the scanner and never reach the room history.
+     */
+    public ScanStatus checkScan(GameRoom room, Card card) {
+        if (card == null || card.getSuit() == null || card.getRank() == null) {
+            return ScanStatus.INVALID;
+        }
+
+        int cardId = card.toId();
+        if (room.isDealt(cardId)) {
+            if (cardId == room.getLastDealtCard() && room.now() - room.getLastDealtAt() <= debounceMillis) {
+                debouncedScans.increment();
+                return ScanStatus.DEBOUNCED;
+            }
+            duplicateScans.increment();
+            return ScanStatus.DUPLICATE;
+        }
+        return room.isWaitingForCards() ? ScanStatus.DEALT : ScanStatus.NOT_WAITING;
     }
 
     public void handleCardScan(GameRoom room, Card card) {
         if (card == null) return;
 
         // Log the card scan
-        gameLogService.addLogAction(room, "Card scanned: " + card.getRank() + " of " + card.getSuit() + " in state: " + room.getGameState() + ", waiting for cards: " + room.isWaitingForCards());
+        gameLogService.log(room, GameEventType.CARD_SCANNED, card.toId(), room.getGameState().ordinal(), room.isWaitingForCards() ? 1 : 0);
 
         // Only process card scans when we're waiting for cards
         if (!room.isWaitingForCards()) {
-            gameLogService.addLogAction(room, "ERROR: Card scanned while not waiting for cards. Current state: " + room.getGameState());
+            gameLogService.log(room, GameEventType.SCAN_NOT_WAITING, room.getGameState().ordinal());
             return;
         }
+        room.markDealt(card.toId());
 
         // Process the card based on the current game state
         switch (room.getGameState()) {
@@ -54,9 +96,10 @@ public class CardHandlingService {
 
         // Check if all players have their cards
         boolean allPlayersHaveCards = true;
-        for (Player player : room.getPlayers()) {
-            if (!player.isActive() || player.isFolded()) continue;
+        for (int seat = 0; seat < room.getPlayers().size(); seat++) {
+            if (!room.isLive(seat)) continue;
 
+            Player player = room.getPlayers().get(seat);
             if (player.getHand() == null || player.getHand().getCards().size() < 2) {
                 allPlayersHaveCards = false;
                 break;
@@ -75,13 +118,13 @@ public class CardHandlingService {
             // Find the first active player from UTG
             for (int i = 0; i < room.getPlayers().size(); i++) {
                 int pos = (startPos + i) % room.getPlayers().size();
-                if (!room.getPlayers().get(pos).isFolded() && room.getPlayers().get(pos).isActive()) {
+                if (room.isLive(pos)) {
                     room.setCurrentPlayerIndex(pos);
                     break;
                 }
             }
 
-            gameLogService.addLogAction(room, "All players have cards. Pre-flop betting begins. UTG to act first.");
+            beginBettingRound(room, GameEventType.PREFLOP_BETTING);
         }
     }
 
@@ -91,7 +134,7 @@ public class CardHandlingService {
         updatePlayerHandRankings(room);
 
         // Log the flop development
-        gameLogService.addLogAction(room, "Flop card " + room.getCommunityCards().size() + "/3: " + card.getRank() + " of " + card.getSuit());
+        gameLogService.log(room, GameEventType.FLOP_CARD, room.getCommunityCards().size(), card.toId());
 
         // If we have 3 community cards, start flop betting
         if (room.getCommunityCards().size() == 3) {
@@ -99,7 +142,7 @@ public class CardHandlingService {
             boolean allPlayersAllIn = room.isAllPlayersAllInOrFolded();
 
             if (allPlayersAllIn) {
-                gameLogService.addLogAction(room, "All players are all-in. Proceeding directly to turn.");
+                gameLogService.log(room, GameEventType.ALL_IN_TO_TURN);
                 // Keep waiting for cards, but advance the game state
                 room.setGameState(GameRoom.GameState.TURN);
             } else {
@@ -108,20 +151,19 @@ public class CardHandlingService {
                 updatePlayerHandRankings(room);
 
                 // Reset bets for the new round
-                room.setBets(new HashMap<>());
-                room.setCurrentBet(0);
+                room.clearStreetBets();
 
                 // Set first active player after the small blind
                 int startPos = room.getSmallBlindPosition();
                 for (int i = 0; i < room.getPlayers().size(); i++) {
                     int pos = (startPos + i) % room.getPlayers().size();
-                    if (!room.getPlayers().get(pos).isFolded() && room.getPlayers().get(pos).isActive()) {
+                    if (room.isLive(pos)) {
                         room.setCurrentPlayerIndex(pos);
                         break;
                     }
                 }
 
-                gameLogService.addLogAction(room, "Flop complete. Flop betting begins.");
+                beginBettingRound(room, GameEventType.FLOP_BETTING);
             }
         }
     }
@@ -136,7 +178,7 @@ public class CardHandlingService {
         boolean allPlayersAllIn = room.isAllPlayersAllInOrFolded();
 
         if (allPlayersAllIn) {
-            gameLogService.addLogAction(room, "Turn card: " + card.getRank() + " of " + card.getSuit() + ". All players are all-in. Proceeding directly to river.");
+            gameLogService.log(room, GameEventType.TURN_CARD_ALL_IN, card.toId());
             // Keep waiting for cards, but advance the game state
             room.setGameState(GameRoom.GameState.RIVER);
         } else {
@@ -144,24 +186,23 @@ public class CardHandlingService {
             room.setWaitingForCards(false);
 
             // Log the turn card
-            gameLogService.addLogAction(room, "Turn card: " + card.getRank() + " of " + card.getSuit());
+            gameLogService.log(room, GameEventType.TURN_CARD, card.toId());
 
             // Reset bets for the new round
-            room.setBets(new HashMap<>());
-            room.setCurrentBet(0);
+            room.clearStreetBets();
 
             // Set first active player to small blind
             int turnStartPos = room.getSmallBlindPosition();
             for (int i = 0; i < room.getPlayers().size(); i++) {
                 int pos = (turnStartPos + i) % room.getPlayers().size();
-                if (!room.getPlayers().get(pos).isFolded() && room.getPlayers().get(pos).isActive()) {
+                if (room.isLive(pos)) {
                     room.setCurrentPlayerIndex(pos);
                     break;
                 }
             }
 
             // Log betting begins
-            gameLogService.addLogAction(room, "Turn betting begins.");
+            beginBettingRound(room, GameEventType.TURN_BETTING);
         }
     }
 
@@ -178,34 +219,39 @@ public class CardHandlingService {
         room.setWaitingForCards(false);
 
         // Log the river card
-        gameLogService.addLogAction(room, "River card: " + card.getRank() + " of " + card.getSuit());
+        gameLogService.log(room, GameEventType.RIVER_CARD, card.toId());
 
         if (allPlayersAllIn) {
-            gameLogService.addLogAction(room, "All players are all-in. Proceeding directly to showdown.");
+            gameLogService.log(room, GameEventType.ALL_IN_TO_SHOWDOWN);
             // Move directly to showdown
             room.setGameState(GameRoom.GameState.SHOWDOWN);
             // Determine the winner
             gameStateService.handleShowdown(room);
         } else {
             // Reset bets for the new round
-            room.setBets(new HashMap<>());
-            room.setCurrentBet(0);
+            room.clearStreetBets();
 
             // Set first active player to small blind
             int riverStartPos = room.getSmallBlindPosition();
             for (int i = 0; i < room.getPlayers().size(); i++) {
                 int pos = (riverStartPos + i) % room.getPlayers().size();
-                if (!room.getPlayers().get(pos).isFolded() && room.getPlayers().get(pos).isActive()) {
+                if (room.isLive(pos)) {
                     room.setCurrentPlayerIndex(pos);
                     break;
                 }
             }
 
             // Log betting begins
-            gameLogService.addLogAction(room, "River betting begins.");
+            beginBettingRound(room, GameEventType.RIVER_BETTING);
         }
     }
 
+    // Only actions taken from here on count towards completing the round
+    private void beginBettingRound(GameRoom room, GameEventType event) {
+        room.beginBettingRound();
+        gameLogService.log(room, event);
+    }
+
     private void assignCardToNextPlayer(GameRoom room, Card card) {
         int nextPlayerIndex = room.getNextCardRecipientIndex();
         Player nextPlayer = room.getPlayers().get(nextPlayerIndex);
@@ -217,7 +263,7 @@ public class CardHandlingService {
 
         // Add card to player's hand
         nextPlayer.getHand().getCards().add(card);
-        gameLogService.addLogAction(room, "Card dealt to " + nextPlayer.getName() + ": " + card.getRank() + " of " + card.getSuit());
+        gameLogService.logForSeat(room, GameEventType.CARD_DEALT, nextPlayerIndex, card.toId());
 
         // Update the next player index for the next card (move clockwise)
         room.setNextCardRecipientIndex((nextPlayerIndex + 1) % room.getPlayers().size());
@@ -230,9 +276,12 @@ public class CardHandlingService {
         }
 
         // Evaluate each active player's hand
-        for (Player player : room.getPlayers()) {
-            if (player.isActive() && !player.isFolded() && player.getHand() != null && player.getHand().getCards() != null) {
+        for (int seat = 0; seat < room.getPlayers().size(); seat++) {
+            Player player = room.getPlayers().get(seat);
+            if (room.isLive(seat) && player.getHand() != null && player.getHand().getCards() != null) {
+                long start = System.nanoTime();
                 HandRanking handRanking = PokerHandEvaluator.evaluateHand(player, room.getCommunityCards());
+                rankingEvaluationTimer.record(System.nanoTime() - start);
                 player.setHandRanking(handRanking.getDescription());
             }
         }
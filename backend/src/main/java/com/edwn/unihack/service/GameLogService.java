@@ -1,32 +1,126 @@
 // backend/src/main/java/com/edwn/unihack/service/GameLogService.java
 package com.edwn.unihack.service;
 
+import com.edwn.unihack.model.Card;
 import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameEvent;
+import com.edwn.unihack.model.GameEventType;
 import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class GameLogService {
 
-    public void addLogAction(GameRoom room, String message) {
-        GameAction logAction = GameAction.builder()
-                .type(GameAction.ActionType.LOG)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .build();
-        room.getActions().add(logAction);
-    }
-
-    public void addLogAction(GameRoom room, String message, String playerId, String playerName) {
-        GameAction logAction = GameAction.builder()
-                .type(GameAction.ActionType.LOG)
-                .message(message)
-                .playerId(playerId)
-                .playerName(playerName)
-                .timestamp(LocalDateTime.now())
-                .build();
-        room.getActions().add(logAction);
-    }
-}
\ No newline at end of file
+    public void log(GameRoom room, GameEventType type, int... args) {
+        logForSeat(room, type, GameEvent.NO_SEAT, args);
+    }
+
+    public void logForSeat(GameRoom room, GameEventType type, int seat, int... args) {
+        GameEvent event = GameEvent.of(type, seat, args);
+        if (type.namesPlayers()) {
+            // Resolve names now; the seats may be someone else's by the time the log is read
+            String[] names = new String[1 + args.length];
+            names[0] = playerName(room, seat);
+            for (int i = 0; i < args.length; i++) {
+                if (type.isSeatArg(i)) {
+                    names[1 + i] = playerName(room, args[i]);
+                }
+            }
+            event.setNames(names);
+        }
+        room.addEvent(event);
+    }
+
+    public void logForPlayer(GameRoom room, GameEventType type, Player player, int... args) {
+        logForSeat(room, type, room.getPlayers().indexOf(player), args);
+    }
+
+    public List<String> renderLog(GameRoom room) {
+        List<GameEvent> events = new ArrayList<>(room.getEvents());
+        List<String> lines = new ArrayList<>(events.size());
+        for (GameEvent event : events) {
+            lines.add(render(room, event));
+        }
+        return lines;
+    }
+
+    public String render(GameRoom room, GameEvent event) {
+        String template = event.getType().getTemplate();
+        StringBuilder text = new StringBuilder(template.length() + 32);
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            int end = c == '{' ? template.indexOf('}', i) : -1;
+            if (end < 0) {
+                text.append(c);
+                i++;
+                continue;
+            }
+
+            appendPlaceholder(text, template.substring(i + 1, end), room, event);
+            i = end + 1;
+        }
+
+        return text.toString();
+    }
+
+    private void appendPlaceholder(StringBuilder text, String placeholder, GameRoom room, GameEvent event) {
+        if (placeholder.equals("seat")) {
+            text.append(seatName(room, event, 0, event.getSeat()));
+            return;
+        }
+
+        int colon = placeholder.indexOf(':');
+        String kind = colon < 0 ? "" : placeholder.substring(0, colon);
+        int index = Integer.parseInt(placeholder.substring(colon + 1));
+        if (index >= event.getArgs().length) {
+            text.append('?');
+            return;
+        }
+
+        int value = event.getArgs()[index];
+        switch (kind) {
+            case "seat":
+                text.append(seatName(room, event, 1 + index, value));
+                break;
+            case "card":
+                Card card = Card.fromId(value);
+                text.append(card.getRank()).append(" of ").append(card.getSuit());
+                break;
+            case "state":
+                text.append(GameRoom.GameState.values()[value]);
+                break;
+            case "action":
+                text.append(GameAction.ActionType.values()[value]);
+                break;
+            case "hand":
+                text.append(value > 0 ? PokerHandEvaluator.getRankCategoryString(value) : "Unknown");
+                break;
+            case "bool":
+                text.append(value != 0);
+                break;
+            default:
+                text.append(value);
+        }
+    }
+
+    // Prefers the name logged with the event, which stays right after players leave
+    private static String seatName(GameRoom room, GameEvent event, int nameIndex, int seat) {
+        String[] names = event.getNames();
+        if (names != null && nameIndex < names.length && names[nameIndex] != null) {
+            return names[nameIndex];
+        }
+        String name = playerName(room, seat);
+        return name != null ? name : "Seat " + (seat + 1);
+    }
+
+    private static String playerName(GameRoom room, int seat) {
+        List<Player> players = room.getPlayers();
+        return seat >= 0 && seat < players.size() ? players.get(seat).getName() : null;
+    }
+}
@@ -1,13 +1,35 @@
 package com.edwn.unihack.service;
 
+import com.edwn.unihack.bot.BotService;
+import com.edwn.unihack.cluster.RoomPlacement;
+import com.edwn.unihack.dto.RewindStatus;
+import com.edwn.unihack.dto.RoomSnapshot;
+import com.edwn.unihack.dto.ScanStatus;
+import com.edwn.unihack.lobby.LobbyService;
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.LatencyHistogram;
+import com.edwn.unihack.metrics.MetricsRegistry;
 import com.edwn.unihack.model.Card;
 import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameEventType;
 import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.HandCheckpoint;
 import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.PlayerStats;
+import com.edwn.unihack.util.dedup.SequenceWindow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,56 +37,258 @@ import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class GameRoomService {
+    public static final int MAX_PLAYERS = 5; // Human seats; fake players may fill one more
+    public static final int MAX_TABLE_SIZE = 9; // Seats at the largest tournament table
+
     private final Map<String, GameRoom> gameRooms = new ConcurrentHashMap<>();
+    private final Map<String, RoomSnapshot> snapshots = new ConcurrentHashMap<>(); // Latest committed view per room
     private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
     private final GameStateService gameStateService;
     private final CardHandlingService cardHandlingService;
     private final BettingService bettingService;
+    private final VirtualDealerService virtualDealerService;
     private final GameLogService gameLogService;
+    private final RoomEvictionService roomEvictionService;
+    private final HandArchiveService handArchiveService;
+    private final PlayerStatsService playerStatsService;
+    private final RoomPlacement roomPlacement;
+    private final BotService botService;
+    private final ActionClockService actionClockService;
+    private final LobbyService lobbyService;
+    private final ObjectProvider<HandListener> handListeners;
+    private final ObjectProvider<RoomUpdateListener> roomUpdateListeners;
+    private final Map<GameAction.ActionType, LatencyHistogram> actionTimers = new EnumMap<>(GameAction.ActionType.class);
+    private final LatencyHistogram roomUpdateTimer;
+    private final Counter cardScans;
 
     public GameRoomService(SimpMessagingTemplate messagingTemplate,
+                           ObjectMapper objectMapper,
                            GameStateService gameStateService,
                            CardHandlingService cardHandlingService,
                            BettingService bettingService,
-                           GameLogService gameLogService) {
+                           VirtualDealerService virtualDealerService,
+                           GameLogService gameLogService,
+                           RoomEvictionService roomEvictionService,
+                           HandArchiveService handArchiveService,
+                           PlayerStatsService playerStatsService,
+                           RoomPlacement roomPlacement,
+                           BotService botService,
+                           ActionClockService actionClockService,
+                           LobbyService lobbyService,
+                           ObjectProvider<HandListener> handListeners,
+                           ObjectProvider<RoomUpdateListener> roomUpdateListeners,
+                           MetricsRegistry metricsRegistry) {
         this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
         this.gameStateService = gameStateService;
         this.cardHandlingService = cardHandlingService;
         this.bettingService = bettingService;
+        this.virtualDealerService = virtualDealerService;
         this.gameLogService = gameLogService;
+        this.roomEvictionService = roomEvictionService;
+        this.handArchiveService = handArchiveService;
+        this.playerStatsService = playerStatsService;
+        this.roomPlacement = roomPlacement;
+        this.botService = botService;
+        this.actionClockService = actionClockService;
+        this.lobbyService = lobbyService;
+        this.handListeners = handListeners;
+        this.roomUpdateListeners = roomUpdateListeners;
+
+        for (GameAction.ActionType type : GameAction.ActionType.values()) {
+            actionTimers.put(type, metricsRegistry.timer("unihack_action_seconds",
+                    "Time to apply a game action and broadcast the result", "type", type.name()));
+        }
+        this.roomUpdateTimer = metricsRegistry.timer("unihack_room_update_seconds", "Time to serialize and broadcast a room update");
+        this.cardScans = metricsRegistry.counter("unihack_card_scans_total", "Cards scanned into rooms");
+        metricsRegistry.gauge("unihack_rooms", "Live game rooms", gameRooms::size);
     }
 
     public GameRoom createRoom() {
-        GameRoom room = GameRoom.createNew();
+        // In cluster mode pick a code that this node owns, so the room needs no pinning
+        String gameCode = GameRoom.generateGameCode();
+        for (int attempt = 0; attempt < 64 && !roomPlacement.isLocal(gameCode); attempt++) {
+            gameCode = GameRoom.generateGameCode();
+        }
+        roomPlacement.roomCreated(gameCode); // Pins the room here if no owned code turned up
+
+        GameRoom room = GameRoom.createNew(gameCode);
+        room.setMaxPlayers(MAX_PLAYERS);
+        publish(room);
         gameRooms.put(room.getId(), room);
+        synchronized (room) {
+            lobbyService.update(room);
+        }
+        roomEvictionService.track(room, this::evictIdleRoom);
+        return room;
+    }
+
+    public GameRoom createTournamentTable(String tournamentId, int tableSize, int smallBlind, int bigBlind) {
+        GameRoom room = createRoom();
+        // Already listed, so set it up under the lock like any other change
+        synchronized (room) {
+            room.setTournamentId(tournamentId);
+            room.setDealerId("tournament-" + tournamentId);
+            room.setMaxPlayers(tableSize);
+            room.setSmallBlind(smallBlind);
+            room.setBigBlind(bigBlind);
+            publish(room);
+        }
         return room;
     }
 
+    public int getRoomCount() {
+        return gameRooms.size();
+    }
+
+    public Collection<String> getRoomCodes() {
+        return new ArrayList<>(gameRooms.keySet());
+    }
+
     public Optional<GameRoom> findRoomByCode(String code) {
         return Optional.ofNullable(gameRooms.get(code));
     }
 
-    public boolean scanCard(String gameCode, Card card) {
+    /**
+     * The room as of its last committed change. Never blocks on the room lock, so it is the
+     * one to use for reads that don't go on to modify the room.
+     */
+    public Optional<RoomSnapshot> findSnapshot(String code) {
+        return Optional.ofNullable(snapshots.get(code));
+    }
+
+    public Optional<Map<String, PlayerStats>> statsForRoom(String gameCode) {
+        return findRoomByCode(gameCode).map(room -> {
+            synchronized (room) {
+                return playerStatsService.statsForRoom(room);
+            }
+        });
+    }
+
+    public Optional<List<String>> renderLog(String gameCode) {
+        return findRoomByCode(gameCode).map(room -> {
+            synchronized (room) {
+                return gameLogService.renderLog(room);
+            }
+        });
+    }
+
+    public Optional<ScanStatus> scanCard(String gameCode, Card card) {
+        return scanCard(gameCode, card, null, 0);
+    }
+
+    /**
+     * Scans a card. A scanner that numbers its reads gets retries acknowledged instead of
+     * applied twice: a sequence number it has used before answers with what happened to the
+     * first attempt.
+     *
+     * @param scannerId the device, or null if its reads aren't numbered
+     * @param seq       the device's sequence number for this read
+     */
+    public Optional<ScanStatus> scanCard(String gameCode, Card card, String scannerId, long seq) {
         GameRoom room = gameRooms.get(gameCode);
         if (room == null) {
-            return false;
+            return Optional.empty();
         }
 
         // Create a SCAN_CARD action
         GameAction scanAction = GameAction.builder()
                 .type(GameAction.ActionType.SCAN_CARD)
                 .card(card)
-                .timestamp(LocalDateTime.now())
                 .build();
 
-        // Process the card scan
-        processAction(gameCode, scanAction);
-        return true;
+        // Process the card scan; rejected reads leave the room untouched, so nothing is broadcast
+        long start = System.nanoTime();
+        ScanStatus status;
+        synchronized (room) {
+            status = scanLocked(room, scanAction, scannerId, seq);
+            if (status.isRecorded()) {
+                notifyRoomUpdate(gameCode);
+            }
+        }
+        actionTimers.get(GameAction.ActionType.SCAN_CARD).record(System.nanoTime() - start);
+        return Optional.of(status);
+    }
+
+    /**
+     * Applies an ordered batch of scanned cards under a single hold of the room lock, so no
+     * other action lands between them, and broadcasts the result once.
+     *
+     * @return the status of each card, in order
+     */
+    public Optional<List<ScanStatus>> scanCards(String gameCode, List<Card> cards) {
+        return scanCards(gameCode, cards, null, 0);
+    }
+
+    // As scanCards, with the cards numbered firstSeq, firstSeq + 1, ... for retry detection
+    public Optional<List<ScanStatus>> scanCards(String gameCode, List<Card> cards, String scannerId, long firstSeq) {
+        GameRoom room = gameRooms.get(gameCode);
+        if (room == null) {
+            return Optional.empty();
+        }
+
+        List<ScanStatus> statuses = new ArrayList<>(cards.size());
+        synchronized (room) {
+            boolean recorded = false;
+            for (int i = 0; i < cards.size(); i++) {
+                ScanStatus status = scanLocked(room, GameAction.builder()
+                        .type(GameAction.ActionType.SCAN_CARD)
+                        .card(cards.get(i))
+                        .build(), scannerId, firstSeq + i);
+                statuses.add(status);
+                recorded |= status.isRecorded();
+            }
+            if (recorded) {
+                notifyRoomUpdate(gameCode);
+            }
+        }
+        return Optional.of(statuses);
+    }
+
+    // Every scan, whatever it came in through, is checked for double-reads before it is recorded
+    private ScanStatus scanLocked(GameRoom room, GameAction scanAction) {
+        ScanStatus status = cardHandlingService.checkScan(room, scanAction.getCard());
+        if (status.isRecorded()) {
+            cardScans.increment();
+            applyActionLocked(room, scanAction);
+        }
+        return status;
+    }
+
+    private ScanStatus scanLocked(GameRoom room, GameAction scanAction, String scannerId, long seq) {
+        if (scannerId == null) {
+            return scanLocked(room, scanAction);
+        }
+
+        SequenceWindow window = room.scanWindow(scannerId);
+        int previous = window.lookup(seq);
+        if (previous == SequenceWindow.TOO_OLD) {
+            return ScanStatus.STALE;
+        }
+        if (previous != SequenceWindow.NEW) {
+            ScanStatus first = ScanStatus.values()[previous];
+            return first.isRecorded() ? ScanStatus.ALREADY_APPLIED : first;
+        }
+
+        ScanStatus status = scanLocked(room, scanAction);
+        window.record(seq, status.ordinal());
+        return status;
     }
 
     public Player addPlayerToRoom(String gameCode, String name, boolean online, boolean visuallyImpaired) {
         GameRoom room = gameRooms.get(gameCode);
-        if (room == null || room.getPlayers().size() >= 5) {
+        if (room == null) {
+            return null;
+        }
+
+        synchronized (room) {
+            return addPlayerLocked(room, name, online, visuallyImpaired);
+        }
+    }
+
+    private Player addPlayerLocked(GameRoom room, String name, boolean online, boolean visuallyImpaired) {
+        if (room.getPlayers().size() >= room.getMaxPlayers()) {
             return null;
         }
 
@@ -87,26 +311,42 @@ public class GameRoomService {
                 .build();
 
         room.getPlayers().add(player);
+        room.touch();
+        publish(room);
         return player;
     }
 
     public boolean addDealerToRoom(String gameCode, String dealerId) {
         GameRoom room = gameRooms.get(gameCode);
-        if (room == null || room.getDealerId() != null) {
+        if (room == null) {
             return false;
         }
 
-        room.setDealerId(dealerId);
+        synchronized (room) {
+            if (room.getDealerId() != null) {
+                return false;
+            }
+            room.setDealerId(dealerId);
+            room.touch();
+            publish(room);
+        }
         return true;
     }
 
     public boolean addScannerToRoom(String gameCode, String scannerId) {
         GameRoom room = gameRooms.get(gameCode);
-        if (room == null || room.getScannerId() != null) {
+        if (room == null) {
             return false;
         }
 
-        room.setScannerId(scannerId);
+        synchronized (room) {
+            if (room.getScannerId() != null) {
+                return false;
+            }
+            room.setScannerId(scannerId);
+            room.touch();
+            publish(room);
+        }
         return true;
     }
 
@@ -122,33 +362,71 @@ public class GameRoomService {
     }
 
     public void startNewHand(GameRoom room) {
-        gameStateService.startNewHand(room);
-        notifyRoomUpdate(room.getId());
+        synchronized (room) {
+            handListeners.orderedStream().forEach(listener -> listener.beforeHandStart(room));
+            gameStateService.startNewHand(room);
+            virtualDealerService.onHandStart(room);
+            dealVirtualCardsLocked(room);
+            notifyRoomUpdate(room.getId());
+        }
     }
 
     public void processAction(String gameCode, GameAction action) {
         GameRoom room = findRoomByCode(gameCode).orElse(null);
         if (room == null) return;
 
+        // Bots and WebSocket handlers act on the same room from different threads
+        long start = System.nanoTime();
+        synchronized (room) {
+            processActionLocked(room, gameCode, action);
+        }
+        if (action.getType() != null) {
+            actionTimers.get(action.getType()).record(System.nanoTime() - start);
+        }
+    }
+
+    private void processActionLocked(GameRoom room, String gameCode, GameAction action) {
+        if (action.getType() == GameAction.ActionType.SCAN_CARD) {
+            if (!scanLocked(room, action).isRecorded()) {
+                return;
+            }
+        } else {
+            applyActionLocked(room, action);
+        }
+        dealVirtualCardsLocked(room);
+
+        // Notify all clients about the update
+        notifyRoomUpdate(gameCode);
+    }
+
+    private void applyActionLocked(GameRoom room, GameAction action) {
+        applyActionLocked(room, action, false);
+    }
+
+    private void applyActionLocked(GameRoom room, GameAction action, boolean dealtByServer) {
+        room.touch();
+
         // Check if we're waiting for cards - only allow certain actions
         if (room.isWaitingForCards() &&
                 action.getType() != GameAction.ActionType.SCAN_CARD &&
                 action.getType() != GameAction.ActionType.START_HAND &&
                 action.getType() != GameAction.ActionType.LOG) {
 
-            // Add a LOG action indicating action not allowed
-            gameLogService.addLogAction(room, "ERROR: Player action '" + action.getType() +
-                    "' attempted while waiting for cards. Action ignored.");
-
-            // Notify all clients about the update
-            notifyRoomUpdate(gameCode);
-
+            // Log that the action was not allowed
+            gameLogService.log(room, GameEventType.ACTION_WHILE_WAITING, action.getType().ordinal());
             return;
         }
 
+        // Remember the hand as it stood, so the dealer can take the action back. Server deals go
+        // with the action that led to them, and notes aren't worth a checkpoint
+        if (room.isHandInProgress() && !dealtByServer
+                && action.getType() != GameAction.ActionType.START_HAND
+                && action.getType() != GameAction.ActionType.LOG) {
+            checkpointLocked(room, action);
+        }
+
         // Add the action to history
-        action.setTimestamp(LocalDateTime.now());
-        room.getActions().add(action);
+        room.addAction(action);
 
         // Process based on action type
         switch (action.getType()) {
@@ -175,8 +453,135 @@ public class GameRoomService {
                 break;
         }
 
-        // Notify all clients about the update
-        notifyRoomUpdate(gameCode);
+        // Stream the hand to the archive as soon as it is decided
+        handArchiveService.recordCompletedHand(room);
+        reportCompletedHand(room);
+    }
+
+    // Deals whatever the room is waiting for when the server holds the deck, one card at a time like a scanner
+    private void dealVirtualCardsLocked(GameRoom room) {
+        Card card;
+        while ((card = virtualDealerService.nextCard(room)) != null) {
+            applyActionLocked(room, GameAction.builder()
+                    .type(GameAction.ActionType.SCAN_CARD)
+                    .card(card)
+                    .build(), true);
+        }
+    }
+
+    /**
+     * Switches a room between scanned and server-dealt cards. A room switched over while
+     * waiting for cards is dealt them straight away.
+     */
+    public boolean setVirtualDealing(String gameCode, boolean enabled) {
+        GameRoom room = gameRooms.get(gameCode);
+        if (room == null) {
+            return false;
+        }
+
+        synchronized (room) {
+            room.setVirtualDealing(enabled);
+            room.touch();
+            dealVirtualCardsLocked(room);
+            notifyRoomUpdate(gameCode);
+        }
+        return true;
+    }
+
+    private void checkpointLocked(GameRoom room, GameAction action) {
+        HandCheckpoint checkpoint = room.checkpoint();
+        // Only betting actions count towards statistics, and only their player's
+        int seat = action.getType().isBettingAction() ? room.seatOf(action.getPlayerId()) : -1;
+        PlayerStats current = seat < 0 ? null : playerStatsService.findStats(action.getPlayerId());
+        if (current != null) {
+            PlayerStats stats = new PlayerStats();
+            stats.copyFrom(current);
+            checkpoint.setStats(seat, stats);
+        }
+        room.getCheckpoints().add(checkpoint);
+    }
+
+    /**
+     * Takes back the action at {@code actionIndex} in the room's actions and everything
+     * recorded after it, or just the last action for a negative index. Each player or dealer
+     * action of the hand in progress was preceded by a checkpoint, so this restores one instead
+     * of replaying. Cards the server dealt are undone with the action that led to them, and the
+     * deck goes back with them, so the same cards come out again. Blinds and hand starts can't
+     * be undone, and neither can a hand that has been decided, since it has already gone to the
+     * archive and the hand listeners.
+     *
+     * @return empty if there is no such room
+     */
+    public Optional<RewindStatus> rewindHand(String gameCode, int actionIndex) {
+        GameRoom room = gameRooms.get(gameCode);
+        if (room == null) {
+            return Optional.empty();
+        }
+
+        synchronized (room) {
+            if (room.getHandNumber() > 0 && room.getCompletedHandNumber() == room.getHandNumber()) {
+                return Optional.of(RewindStatus.HAND_COMPLETE);
+            }
+
+            // Checkpoints are in action order; take the first one at or after the index
+            List<HandCheckpoint> checkpoints = room.getCheckpoints();
+            int first = checkpoints.size() - 1;
+            if (actionIndex >= 0) {
+                if (actionIndex >= room.getActions().size()) {
+                    return Optional.of(RewindStatus.NOTHING_TO_UNDO);
+                }
+                first = 0;
+                while (first < checkpoints.size() && checkpoints.get(first).getActionCount() < actionIndex) {
+                    first++;
+                }
+                boolean ownCheckpoint = first < checkpoints.size() && checkpoints.get(first).getActionCount() == actionIndex;
+                if (!ownCheckpoint) {
+                    // A server deal has no checkpoint of its own; go back to the action that led to
+                    // it. Anything else without one, like a blind, can't be taken back on its own.
+                    if (room.getActions().get(actionIndex).getType() != GameAction.ActionType.SCAN_CARD) {
+                        return Optional.of(RewindStatus.NOTHING_TO_UNDO);
+                    }
+                    first--;
+                }
+            }
+            if (first < 0 || first >= checkpoints.size()) {
+                return Optional.of(RewindStatus.NOTHING_TO_UNDO);
+            }
+
+            HandCheckpoint checkpoint = checkpoints.get(first);
+            if (!checkpoint.fitsSeats(room)) {
+                return Optional.of(RewindStatus.SEATS_CHANGED);
+            }
+
+            int undone = room.getActions().size() - checkpoint.getActionCount();
+            room.restore(checkpoint);
+            // Each checkpoint holds its own action's player's statistics; the earliest wins
+            for (int i = checkpoints.size() - 1; i >= first; i--) {
+                HandCheckpoint undoneCheckpoint = checkpoints.get(i);
+                if (undoneCheckpoint.getStats() != null) {
+                    playerStatsService.statsFor(room.getPlayers().get(undoneCheckpoint.getStatsSeat()))
+                            .copyFrom(undoneCheckpoint.getStats());
+                }
+            }
+            checkpoints.subList(first, checkpoints.size()).clear();
+
+            gameLogService.log(room, GameEventType.REWOUND, undone);
+            room.touch();
+            dealVirtualCardsLocked(room);
+            notifyRoomUpdate(gameCode);
+        }
+        return Optional.of(RewindStatus.REWOUND);
+    }
+
+    private void reportCompletedHand(GameRoom room) {
+        boolean complete = room.getGameState() == GameRoom.GameState.SHOWDOWN
+                || room.getGameState() == GameRoom.GameState.ENDED;
+        if (!complete || room.getHandNumber() == 0 || room.getCompletedHandNumber() == room.getHandNumber()) {
+            return;
+        }
+
+        room.setCompletedHandNumber(room.getHandNumber());
+        handListeners.orderedStream().forEach(listener -> listener.onHandComplete(room));
     }
 
     // NEW METHOD: removePlayerFromRoom
@@ -185,24 +590,92 @@ public class GameRoomService {
         if (room == null) {
             return false;
         }
-        boolean removed = room.getPlayers().removeIf(p -> p.getId().equals(playerId));
-        if (removed) {
-            gameLogService.addLogAction(room, "Player " + playerId + " has left the game.");
-            notifyRoomUpdate(gameCode);
+
+        synchronized (room) {
+            return removePlayerLocked(room, gameCode, playerId);
+        }
+    }
+
+    private boolean removePlayerLocked(GameRoom room, String gameCode, String playerId) {
+        Player player = room.getPlayers().stream()
+                .filter(p -> p.getId().equals(playerId))
+                .findFirst()
+                .orElse(null);
+        if (player == null) {
+            return false;
         }
-        return removed;
+
+        room.removePlayer(player);
+        playerStatsService.forget(playerId);
+        room.touch();
+
+        // Log seats shift when a player leaves, so record the departure by name
+        room.addAction(GameAction.builder()
+                .playerId(player.getId())
+                .playerName(player.getName())
+                .type(GameAction.ActionType.LEAVE)
+                .build());
+        notifyRoomUpdate(gameCode);
+        return true;
     }
 
     private void notifyRoomUpdate(String gameCode) {
         GameRoom room = gameRooms.get(gameCode);
         if (room != null) {
-            messagingTemplate.convertAndSend("/topic/game/" + gameCode, room);
+            synchronized (room) {
+                // Before the snapshot, so it carries the turn's deadlines
+                actionClockService.onRoomUpdated(room, this::processAction);
+                RoomSnapshot snapshot = publish(room);
+
+                long start = System.nanoTime();
+                broadcast(snapshot);
+                roomUpdateTimer.record(System.nanoTime() - start);
+                roomUpdateListeners.orderedStream().forEach(listener -> listener.onRoomUpdated(room));
+
+                // Let a bot take its turn if one is up next
+                botService.onRoomUpdated(room, this::processAction);
+            }
+        }
+    }
+
+    // Caller must hold the room lock, so snapshots are published in commit order
+    private RoomSnapshot publish(GameRoom room) {
+        RoomSnapshot previous = snapshots.get(room.getId());
+        RoomSnapshot snapshot = RoomSnapshot.of(room, previous == null ? 1 : previous.getVersion() + 1);
+        snapshots.put(room.getId(), snapshot);
+        // Closed rooms leave the map first, so a late change can't list them again
+        if (gameRooms.get(room.getId()) == room) {
+            lobbyService.update(room);
         }
+        return snapshot;
+    }
+
+    // Sends the snapshot's JSON as it is, so subscribers and REST reads share one serialization
+    private void broadcast(RoomSnapshot snapshot) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        messagingTemplate.send("/topic/game/" + snapshot.getRoom().getId(),
+                MessageBuilder.createMessage(snapshot.toJson(objectMapper), headers.getMessageHeaders()));
     }
 
     public Player addFakePlayerToRoom(String gameCode, String name) {
+        return addFakePlayerToRoom(gameCode, name, null);
+    }
+
+    public Player addFakePlayerToRoom(String gameCode, String name, String botStrategy) {
         GameRoom room = gameRooms.get(gameCode);
-        if (room == null || room.getPlayers().size() >= 6) {
+        if (room == null) {
+            return null;
+        }
+
+        synchronized (room) {
+            return addFakePlayerLocked(room, gameCode, name, botStrategy);
+        }
+    }
+
+    private Player addFakePlayerLocked(GameRoom room, String gameCode, String name, String botStrategy) {
+        if (room.getPlayers().size() >= 6) {
             return null;
         }
 
@@ -215,21 +688,22 @@ public class GameRoomService {
                 .active(true)
                 .folded(false)
                 .fake(true)  // This is a fake player
+                .botStrategy(botStrategy)
                 .build();
 
         room.getPlayers().add(player);
+        room.touch();
 
         // Create a JOIN action
         GameAction joinAction = GameAction.builder()
                 .playerId(player.getId())
                 .playerName(player.getName())
                 .type(GameAction.ActionType.JOIN)
-                .timestamp(LocalDateTime.now())
                 .build();
-        room.getActions().add(joinAction);
+        room.addAction(joinAction);
 
-        // Add a LOG action
-        gameLogService.addLogAction(room, "Fake player '" + name + "' added to the game");
+        // Log the new seat
+        gameLogService.logForPlayer(room, GameEventType.FAKE_PLAYER_ADDED, player);
 
         // Notify all clients about the update
         notifyRoomUpdate(gameCode);
@@ -244,21 +718,54 @@ public class GameRoomService {
             return false;
         }
 
-        // Log that the dealer disbanded the game
-        gameLogService.addLogAction(room, "Dealer has disbanded the game. All players removed.");
+        synchronized (room) {
+            // Log that the dealer disbanded the game
+            gameLogService.log(room, GameEventType.DISBANDED);
 
-        // Clear all players
-        room.getPlayers().clear();
+            // Clear all players
+            playerStatsService.forget(room);
+            botService.forget(room);
+            actionClockService.forget(room);
+            room.getPlayers().clear();
 
-        // Set the game state to ENDED (or DISBANDED, as you prefer)
-        room.setGameState(GameRoom.GameState.ENDED);
+            // Set the game state to ENDED (or DISBANDED, as you prefer)
+            room.setGameState(GameRoom.GameState.ENDED);
 
-        // Broadcast one final update to show that the game is ended and players are gone
-        notifyRoomUpdate(gameCode);
+            // Broadcast one final update to show that the game is ended and players are gone
+            notifyRoomUpdate(gameCode);
+        }
 
         // Remove the room from memory so it's no longer accessible
         gameRooms.remove(gameCode);
+        snapshots.remove(gameCode);
+        roomPlacement.roomRemoved(gameCode);
+        synchronized (room) {
+            lobbyService.remove(room);
+        }
+        roomEvictionService.untrack(room);
+        roomUpdateListeners.orderedStream().forEach(listener -> listener.onRoomRemoved(gameCode));
+
+        return true;
+    }
 
+    private boolean evictIdleRoom(GameRoom room) {
+        // Only remove the exact instance that went idle
+        if (!gameRooms.remove(room.getId(), room)) {
+            return false;
+        }
+        RoomSnapshot last = snapshots.remove(room.getId());
+        roomPlacement.roomRemoved(room.getId());
+
+        synchronized (room) {
+            playerStatsService.forget(room);
+            botService.forget(room);
+            actionClockService.forget(room);
+            lobbyService.remove(room);
+            room.setGameState(GameRoom.GameState.ENDED);
+            gameLogService.log(room, GameEventType.IDLE_CLOSED);
+            broadcast(RoomSnapshot.of(room, last == null ? 1 : last.getVersion() + 1));
+        }
+        roomUpdateListeners.orderedStream().forEach(listener -> listener.onRoomRemoved(room.getId()));
         return true;
     }
 }
@@ -1,23 +1,26 @@
 // backend/src/main/java/com/edwn/unihack/service/GameStateService.java
 package com.edwn.unihack.service;
 
+import com.edwn.unihack.metrics.LatencyHistogram;
+import com.edwn.unihack.metrics.MetricsRegistry;
 import com.edwn.unihack.model.*;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class GameStateService {
 
     private final GameLogService gameLogService;
+    private final PlayerStatsService playerStatsService;
+    private final LatencyHistogram showdownEvaluationTimer;
 
-    public GameStateService(GameLogService gameLogService) {
+    public GameStateService(GameLogService gameLogService, PlayerStatsService playerStatsService, MetricsRegistry metricsRegistry) {
         this.gameLogService = gameLogService;
+        this.playerStatsService = playerStatsService;
+        this.showdownEvaluationTimer = metricsRegistry.timer("unihack_hand_evaluation_seconds",
+                "Time to evaluate one player's hand", "purpose", "showdown");
     }
 
     public void startNewHand(GameRoom room) {
@@ -27,11 +30,22 @@ public class GameStateService {
         // Reset player states
         for (Player player : room.getPlayers()) {
             player.newHand();
-            if (player.getChips() <= 0) {
-                player.setChips(1000);
-                gameLogService.addLogAction(room, player.getName() + " ran out of chips and has been topped up to 1000 chips.");
-            }
         }
+        topUpBrokePlayers(room);
+        room.resetSeats();
+
+        playerStatsService.onHandStart(room);
+
+        // Remember the stacks this hand started with, for the hand archive
+        int[] startChips = room.getHandStartChips();
+        if (startChips == null || startChips.length != room.getPlayers().size()) {
+            startChips = new int[room.getPlayers().size()];
+        }
+        for (int i = 0; i < startChips.length; i++) {
+            startChips[i] = room.getPlayers().get(i).getChips();
+        }
+        room.setHandStartChips(startChips);
+        room.setHandStartedAt(room.now());
 
         // Move the small blind position
         int smallBlindPos = room.getSmallBlindPosition();
@@ -50,17 +64,11 @@ public class GameStateService {
         // Get small blind and big blind players
         Player smallBlindPlayer = room.getPlayers().get(smallBlindPos);
         Player bigBlindPlayer = room.getPlayers().get(bigBlindPos);
-        Player buttonPlayer = room.getPlayers().get(buttonPos);
 
-        // Set initial blind amounts
-        int smallBlindAmount = 5;
-        int bigBlindAmount = 10;
-
-        // Collect small blind
-        smallBlindPlayer.setChips(smallBlindPlayer.getChips() - smallBlindAmount);
+        // Collect small blind; blinds are per room and tournaments raise them between hands
+        int smallBlindAmount = room.commitChips(smallBlindPos, room.getSmallBlind());
         smallBlindPlayer.setLastAction("SMALL_BLIND");
         smallBlindPlayer.setLastActionAmount(smallBlindAmount);
-        room.getBets().put(smallBlindPlayer.getId(), smallBlindAmount);
 
         // Add small blind action
         GameAction smallBlindAction = GameAction.builder()
@@ -68,16 +76,14 @@ public class GameStateService {
                 .playerName(smallBlindPlayer.getName())
                 .type(GameAction.ActionType.SMALL_BLIND)
                 .amount(smallBlindAmount)
-                .timestamp(LocalDateTime.now())
                 .build();
-        room.getActions().add(smallBlindAction);
+        room.addAction(smallBlindAction);
 
         // Collect big blind
-        bigBlindPlayer.setChips(bigBlindPlayer.getChips() - bigBlindAmount);
+        int bigBlindAmount = room.commitChips(bigBlindPos, room.getBigBlind());
         bigBlindPlayer.setLastAction("BIG_BLIND");
         bigBlindPlayer.setLastActionAmount(bigBlindAmount);
-        room.getBets().put(bigBlindPlayer.getId(), bigBlindAmount);
-        room.setCurrentBet(bigBlindAmount);
+        room.setCurrentBet(Math.max(smallBlindAmount, bigBlindAmount));
 
         // Add big blind action
         GameAction bigBlindAction = GameAction.builder()
@@ -85,28 +91,21 @@ public class GameStateService {
                 .playerName(bigBlindPlayer.getName())
                 .type(GameAction.ActionType.BIG_BLIND)
                 .amount(bigBlindAmount)
-                .timestamp(LocalDateTime.now())
                 .build();
-        room.getActions().add(bigBlindAction);
+        room.addAction(bigBlindAction);
 
         // Log hand info
-        String handInfo = "Button: " + buttonPlayer.getName() +
-                ", SB: " + smallBlindPlayer.getName() +
-                ", BB: " + bigBlindPlayer.getName();
-
-        // Add a LOG action
-        gameLogService.addLogAction(room, "New hand started. " + handInfo + ". Waiting for cards to be dealt.");
+        gameLogService.logForSeat(room, GameEventType.HAND_STARTED, buttonPos, smallBlindPos, bigBlindPos);
 
         // Add a START_HAND action
         GameAction startAction = GameAction.builder()
                 .type(GameAction.ActionType.START_HAND)
-                .timestamp(LocalDateTime.now())
                 .build();
-        room.getActions().add(startAction);
+        room.addAction(startAction);
         room.setHandNumber(room.getHandNumber() + 1);
     }
 
-    public void advanceToNextStage(GameRoom room, GameRoom.GameState nextState, String message) {
+    public void advanceToNextStage(GameRoom room, GameRoom.GameState nextState, GameEventType event) {
         room.setGameState(nextState);
 
         if (nextState != GameRoom.GameState.SHOWDOWN && nextState != GameRoom.GameState.ENDED) {
@@ -114,7 +113,7 @@ public class GameStateService {
         }
 
         // Log state change
-        gameLogService.addLogAction(room, message);
+        gameLogService.log(room, event);
 
         // Always reset the current player to the first active player after dealer
         if (nextState != GameRoom.GameState.SHOWDOWN && nextState != GameRoom.GameState.ENDED) {
@@ -122,7 +121,7 @@ public class GameStateService {
             int startPos = (room.getSmallBlindPosition()) % room.getPlayers().size();
             for (int i = 0; i < room.getPlayers().size(); i++) {
                 int pos = (startPos + i) % room.getPlayers().size();
-                if (!room.getPlayers().get(pos).isFolded() && room.getPlayers().get(pos).isActive()) {
+                if (room.isLive(pos)) {
                     room.setCurrentPlayerIndex(pos);
                     break;
                 }
@@ -141,118 +140,135 @@ public class GameStateService {
     }
 
     public void handleShowdown(GameRoom room) {
-        List<Player> activePlayers = room.getPlayers().stream()
-                .filter(p -> p.isActive() && !p.isFolded())
-                .collect(Collectors.toList());
-
-        if (activePlayers.isEmpty()) {
-            // No active players (shouldn't happen), log the issue
-            gameLogService.addLogAction(room, "Error: No active players at showdown!");
-            return;
-        }
+        List<Player> players = room.getPlayers();
+        List<Player> activePlayers = new ArrayList<>(players.size());
 
-        // Evaluate all hands
-        StringBuilder handReveal = new StringBuilder("SHOWDOWN - Revealing hands:\n");
+        // Evaluate all live hands; lower values are stronger
+        int[] handValues = new int[players.size()];
+        int bestValue = Integer.MAX_VALUE;
 
-        // Map to store player's hand evaluation
-        Map<Player, Integer> handRankings = new HashMap<>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (!room.isLive(seat)) continue;
+            Player player = players.get(seat);
+            activePlayers.add(player);
 
-        for (Player player : activePlayers) {
             // Evaluate hand
+            long start = System.nanoTime();
             HandRanking handRanking = PokerHandEvaluator.evaluateHand(player, room.getCommunityCards());
-            handRankings.put(player, handRanking.getValue());
+            showdownEvaluationTimer.record(System.nanoTime() - start);
+            handValues[seat] = handRanking.getValue();
+            bestValue = Math.min(bestValue, handRanking.getValue());
 
             // Set the hand ranking description on the player
             player.setHandRanking(handRanking.getDescription());
 
-            // Add to log message
-            if (player.getHand() != null && player.getHand().getCards() != null) {
-                StringBuilder handDesc = new StringBuilder();
-                for (Card card : player.getHand().getCards()) {
-                    handDesc.append(card.getRank()).append(" of ").append(card.getSuit()).append(", ");
-                }
-                String handString = handDesc.toString();
-                if (handString.endsWith(", ")) {
-                    handString = handString.substring(0, handString.length() - 2);
-                }
-
-                handReveal.append(player.getName())
-                        .append(": ")
-                        .append(handString)
-                        .append(" - ")
-                        .append(handRanking.getDescription())
-                        .append("\n");
+            // Reveal the hand in the log
+            List<Card> holeCards = player.getHand() != null ? player.getHand().getCards() : null;
+            if (holeCards != null && holeCards.size() == 2) {
+                gameLogService.logForSeat(room, GameEventType.SHOWDOWN_HAND, seat,
+                        holeCards.get(0).toId(), holeCards.get(1).toId(), handRanking.getValue());
             }
         }
 
-        // Log all revealed hands
-        gameLogService.addLogAction(room, handReveal.toString());
-
-        // Determine winner(s) using proper hand comparison
-        List<Player> winners = PokerHandEvaluator.bestHand(handRankings);
+        if (activePlayers.isEmpty()) {
+            // No active players (shouldn't happen), log the issue
+            gameLogService.log(room, GameEventType.SHOWDOWN_NO_PLAYERS);
+            return;
+        }
 
+        // Determine winner(s): every live seat holding the best hand
+        List<Player> winners = new ArrayList<>(activePlayers.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (room.isLive(seat) && handValues[seat] == bestValue) {
+                winners.add(players.get(seat));
+            }
+        }
+        playerStatsService.onShowdown(activePlayers, winners);
 
         // Split pot among winners
         int winAmount = room.getPot() / winners.size();
-        StringBuilder winMessage = new StringBuilder();
 
-        for (Player winner : winners) {
+        room.getWinnerIds().clear();
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (!room.isLive(seat) || handValues[seat] != bestValue) continue;
+            Player winner = players.get(seat);
             winner.setChips(winner.getChips() + winAmount);
-            winMessage.append(winner.getName()).append(" wins ").append(winAmount).append(" chips with ").append(winner.getHandRanking()).append(". ");
-        }
-
-        // Log the winner
-        gameLogService.addLogAction(room, "SHOWDOWN: " + winMessage);
 
-        // Mark winner IDs in the game state
-        room.setWinnerIds(winners.stream().map(Player::getId).collect(Collectors.toList()));
+            // Log the winner and mark their ID in the game state
+            gameLogService.logForSeat(room, GameEventType.SHOWDOWN_WIN, seat, winAmount, bestValue);
+            room.getWinnerIds().add(winner.getId());
+        }
 
         // Reset the pot
         room.setPot(0);
 
         // Check if any player has 0 chips and top them up to 1000
-        for (Player player : room.getPlayers()) {
-            if (player.getChips() <= 0) {
-                player.setChips(1000);
-                gameLogService.addLogAction(room, player.getName() + " ran out of chips and has been topped up to 1000 chips.");
-            }
-        }
+
+        recordHandEndChips(room);
+
+        topUpBrokePlayers(room);
     }
 
     public void checkGameEnd(GameRoom room) {
         // Count active players who haven't folded
-        long activePlayers = room.getPlayers().stream()
-                .filter(p -> p.isActive() && !p.isFolded())
-                .count();
+        int activePlayers = 0;
+        int winnerSeat = -1;
+        for (int seat = 0; seat < room.getPlayers().size(); seat++) {
+            if (room.isLive(seat)) {
+                activePlayers++;
+                if (winnerSeat < 0) winnerSeat = seat;
+            }
+        }
 
         if (activePlayers <= 1) {
             // Game is over, move to ended state
             room.setGameState(GameRoom.GameState.ENDED);
 
             // Award pot to last player standing
-            Player winner = room.getPlayers().stream()
-                    .filter(p -> p.isActive() && !p.isFolded())
-                    .findFirst()
-                    .orElse(null);
-
-            if (winner != null) {
-                winner.setChips(winner.getChips() + room.getPot());
+            if (winnerSeat >= 0) {
+                Player winner = room.getPlayers().get(winnerSeat);
+                int winAmount = room.getPot();
+                winner.setChips(winner.getChips() + winAmount);
                 room.setPot(0);
 
                 // Add winner to winnerIds
-                List<String> winnerIds = new ArrayList<>();
-                winnerIds.add(winner.getId());
-                room.setWinnerIds(winnerIds);
+                room.getWinnerIds().clear();
+                room.getWinnerIds().add(winner.getId());
 
-                gameLogService.addLogAction(room, winner.getName() + " wins " + room.getPot() + " chips as the last player standing.");
+                gameLogService.logForSeat(room, GameEventType.LAST_PLAYER_STANDING, winnerSeat, winAmount);
             }
 
             // Check if any player has 0 chips and top them up to 1000
-            for (Player player : room.getPlayers()) {
-                if (player.getChips() <= 0) {
-                    player.setChips(1000);
-                    gameLogService.addLogAction(room, player.getName() + " ran out of chips and has been topped up to 1000 chips.");
-                }
+
+            recordHandEndChips(room);
+
+            topUpBrokePlayers(room);
+        }
+    }
+
+    // Remember the stacks this hand ended with, for the hand archive
+    private void recordHandEndChips(GameRoom room) {
+        int[] endChips = room.getHandEndChips();
+        if (endChips == null || endChips.length != room.getPlayers().size()) {
+            endChips = new int[room.getPlayers().size()];
+        }
+        for (int i = 0; i < endChips.length; i++) {
+            endChips[i] = room.getPlayers().get(i).getChips();
+        }
+        room.setHandEndChips(endChips);
+    }
+
+    private void topUpBrokePlayers(GameRoom room) {
+        // Tournament players stay broke; the tournament eliminates them between hands
+        if (room.getTournamentId() != null) {
+            return;
+        }
+
+        for (int seat = 0; seat < room.getPlayers().size(); seat++) {
+            Player player = room.getPlayers().get(seat);
+            if (player.getChips() <= 0) {
+                player.setChips(1000);
+                gameLogService.logForSeat(room, GameEventType.TOPPED_UP, seat, 1000);
             }
         }
     }
@@ -0,0 +1,219 @@
+// backend/src/main/java/com/edwn/unihack/service/HandArchiveService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.util.archive.HandArchiveReader;
+import com.edwn.unihack.util.archive.HandRecord;
+import com.edwn.unihack.util.archive.HandSegmentWriter;
+import com.edwn.unihack.util.archive.HandVisitor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams finished hands into the columnar on-disk archive.
+ * <p>
+ * Game threads only encode the hand into a {@link HandRecord} and queue it; a single writer
+ * thread batches records into segments of {@code unihack.archive.segment-hands} hands, or
+ * whatever has accumulated after {@code unihack.archive.flush-seconds}.
+ */
+@Service
+public class HandArchiveService implements RoomArchiver {
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentHands;
+    private final long flushNanos;
+    private final BlockingQueue<HandRecord> queue;
+    private final AtomicLong droppedHands = new AtomicLong();
+    private final AtomicLong segmentSequence = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public HandArchiveService(@Value("${unihack.archive.enabled:true}") boolean enabled,
+                              @Value("${unihack.archive.dir:data/hands}") String directory,
+                              @Value("${unihack.archive.segment-hands:4096}") int segmentHands,
+                              @Value("${unihack.archive.flush-seconds:30}") long flushSeconds,
+                              @Value("${unihack.archive.queue-capacity:65536}") int queueCapacity) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentHands = segmentHands;
+        this.flushNanos = TimeUnit.SECONDS.toNanos(flushSeconds);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writerThread = new Thread(this::runWriter, "Hand-Archive-Writer");
+        this.writerThread.setDaemon(true);
+        if (enabled) {
+            this.writerThread.start();
+        }
+    }
+
+    /**
+     * Archives the room's current hand once it has reached SHOWDOWN or ENDED.
+     * Safe to call after every action; each hand is only archived once.
+     */
+    public void recordCompletedHand(GameRoom room) {
+        GameRoom.GameState state = room.getGameState();
+        if (state == GameRoom.GameState.SHOWDOWN || state == GameRoom.GameState.ENDED) {
+            recordHand(room, true);
+        }
+    }
+
+    @Override
+    public void archive(GameRoom room) {
+        // Called before an idle room is evicted: keep whatever was played of the last hand
+        recordHand(room, false);
+    }
+
+    /**
+     * Visits every archived hand. Hands still queued for writing are not included.
+     *
+     * @return the number of hands visited
+     */
+    public long scan(HandVisitor visitor) throws IOException {
+        return new HandArchiveReader().scan(directory, visitor);
+    }
+
+    // As scan(visitor), stopping after limit hands; 0 visits them all
+    public long scan(HandVisitor visitor, long limit) throws IOException {
+        return new HandArchiveReader().scan(directory, visitor, limit);
+    }
+
+    public long getDroppedHands() {
+        return droppedHands.get();
+    }
+
+    private void recordHand(GameRoom room, boolean complete) {
+        if (!enabled || room.getHandNumber() == 0 || room.getArchivedHandNumber() == room.getHandNumber()) {
+            return;
+        }
+        room.setArchivedHandNumber(room.getHandNumber());
+
+        HandRecord record = toRecord(room, complete);
+        if (!queue.offer(record)) {
+            droppedHands.incrementAndGet();
+        }
+    }
+
+    private HandRecord toRecord(GameRoom room, boolean complete) {
+        List<Player> players = room.getPlayers();
+        int seatCount = players.size();
+        int[] startChips = room.getHandStartChips();
+        // A busted player is topped up in the same action that ends the hand
+        int[] endChips = complete ? room.getHandEndChips() : null;
+
+        HandRecord record = new HandRecord();
+        record.reset(room.getId(), room.getHandNumber(), room.getHandStartedAt(), complete,
+                room.getSmallBlindPosition(), seatCount);
+
+        int winnerMask = 0;
+        for (int seat = 0; seat < seatCount; seat++) {
+            Player player = players.get(seat);
+            int starting = startChips != null && startChips.length == seatCount ? startChips[seat] : player.getChips();
+            int ending = endChips != null && endChips.length == seatCount ? endChips[seat] : player.getChips();
+            record.setChips(seat, starting, ending);
+            if (room.getWinnerIds() != null && room.getWinnerIds().contains(player.getId())) {
+                winnerMask |= 1 << seat;
+            }
+        }
+        record.setWinnerMask(winnerMask);
+
+        for (GameAction action : room.getActions()) {
+            if (!isArchived(action.getType())) {
+                continue;
+            }
+
+            int seat = seatOf(players, action.getPlayerId());
+            int card = action.getCard() != null ? action.getCard().toId() : HandRecord.NO_CARD;
+            long offset = action.getTime() - room.getHandStartedAt();
+            record.addAction(seat, action.getType().ordinal(), action.getAmount(), card, (int) Math.max(0, offset));
+        }
+
+        return record;
+    }
+
+    private static boolean isArchived(GameAction.ActionType type) {
+        switch (type) {
+            case SMALL_BLIND:
+            case BIG_BLIND:
+            case SCAN_CARD:
+            case CHECK:
+            case BET:
+            case CALL:
+            case RAISE:
+            case FOLD:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int seatOf(List<Player> players, String playerId) {
+        if (playerId == null) {
+            return HandRecord.NO_SEAT;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (playerId.equals(players.get(i).getId())) {
+                return i;
+            }
+        }
+        return HandRecord.NO_SEAT;
+    }
+
+    private void runWriter() {
+        HandSegmentWriter writer = new HandSegmentWriter();
+        long lastFlush = System.nanoTime();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                HandRecord record = queue.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    writer.append(record);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            boolean due = System.nanoTime() - lastFlush >= flushNanos;
+            if (writer.getHandCount() >= segmentHands || (writer.getHandCount() > 0 && (due || !running))) {
+                flush(writer);
+                lastFlush = System.nanoTime();
+            }
+        }
+    }
+
+    private void flush(HandSegmentWriter writer) {
+        try {
+            Files.createDirectories(directory);
+            String name = String.format("hands-%013d-%06d%s", System.currentTimeMillis(),
+                    segmentSequence.incrementAndGet(), HandArchiveReader.SEGMENT_SUFFIX);
+            writer.writeTo(directory.resolve(name));
+        } catch (IOException e) {
+            System.err.println("Failed to write hand archive segment: " + e.getMessage());
+            writer.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // No interrupt: it would close the segment file channel mid-write
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+// backend/src/main/java/com/edwn/unihack/service/HandListener.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameRoom;
+
+/**
+ * Hooks into the hand lifecycle of every room. Both methods are called with the room locked,
+ * on whichever thread is driving the room, so they should only touch that room and hand any
+ * heavier work off elsewhere.
+ */
+public interface HandListener {
+
+    // Before blinds are posted; players may still be added or removed here
+    default void beforeHandStart(GameRoom room) {
+    }
+
+    // Once per hand, when it reaches SHOWDOWN or ENDED
+    default void onHandComplete(GameRoom room) {
+    }
+}
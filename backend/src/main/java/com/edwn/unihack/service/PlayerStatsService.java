@@ -0,0 +1,117 @@
+// backend/src/main/java/com/edwn/unihack/service/PlayerStatsService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameAction;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.PlayerStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps running poker statistics per player. Every update is a handful of counter
+ * increments, nothing is ever recomputed from the action history.
+ */
+@Service
+public class PlayerStatsService {
+    private final Map<String, PlayerStats> statsByPlayer = new ConcurrentHashMap<>();
+    private final boolean includeInBroadcasts;
+
+    public PlayerStatsService(@Value("${unihack.stats.broadcast:false}") boolean includeInBroadcasts) {
+        this.includeInBroadcasts = includeInBroadcasts;
+    }
+
+    public PlayerStats statsFor(Player player) {
+        PlayerStats stats = statsByPlayer.computeIfAbsent(player.getId(), id -> new PlayerStats());
+        if (includeInBroadcasts && player.getStats() != stats) {
+            player.setStats(stats);
+        }
+        return stats;
+    }
+
+    public PlayerStats findStats(String playerId) {
+        return statsByPlayer.get(playerId);
+    }
+
+    public Map<String, PlayerStats> statsForRoom(GameRoom room) {
+        Map<String, PlayerStats> result = new LinkedHashMap<>();
+        for (Player player : room.getPlayers()) {
+            result.put(player.getId(), statsFor(player));
+        }
+        return result;
+    }
+
+    public void onHandStart(GameRoom room) {
+        room.setPreflopRaiseCount(0);
+        for (Player player : room.getPlayers()) {
+            PlayerStats stats = statsFor(player);
+            stats.setHandFlags(0);
+            stats.setHandsDealt(stats.getHandsDealt() + 1);
+        }
+    }
+
+    /**
+     * Records a betting action that the betting service has accepted. Must be called before
+     * the action can move the hand on to the next street.
+     */
+    public void recordAction(GameRoom room, Player player, GameAction.ActionType type) {
+        PlayerStats stats = statsFor(player);
+        boolean aggressive = type == GameAction.ActionType.BET || type == GameAction.ActionType.RAISE;
+
+        if (room.getGameState() == GameRoom.GameState.PREFLOP) {
+            int raises = room.getPreflopRaiseCount();
+
+            // Facing exactly one raise is a chance to 3-bet, whatever the player does with it
+            if (raises == 1 && stats.markHand(PlayerStats.FLAG_THREE_BET_CHANCE)) {
+                stats.setThreeBetOpportunities(stats.getThreeBetOpportunities() + 1);
+            }
+
+            if ((aggressive || type == GameAction.ActionType.CALL) && stats.markHand(PlayerStats.FLAG_VPIP)) {
+                stats.setVpipHands(stats.getVpipHands() + 1);
+            }
+
+            if (aggressive) {
+                if (stats.markHand(PlayerStats.FLAG_PFR)) {
+                    stats.setPfrHands(stats.getPfrHands() + 1);
+                }
+                if (raises == 1 && stats.markHand(PlayerStats.FLAG_THREE_BET)) {
+                    stats.setThreeBets(stats.getThreeBets() + 1);
+                }
+                room.setPreflopRaiseCount(raises + 1);
+            }
+        }
+
+        if (aggressive) {
+            stats.setAggressiveActions(stats.getAggressiveActions() + 1);
+        } else if (type == GameAction.ActionType.CALL) {
+            stats.setCalls(stats.getCalls() + 1);
+        }
+    }
+
+    public void onShowdown(Collection<Player> showdownPlayers, Collection<Player> winners) {
+        for (Player player : showdownPlayers) {
+            PlayerStats stats = statsFor(player);
+            stats.setShowdowns(stats.getShowdowns() + 1);
+        }
+        for (Player winner : winners) {
+            PlayerStats stats = statsFor(winner);
+            stats.setShowdownWins(stats.getShowdownWins() + 1);
+        }
+    }
+
+    public void forget(GameRoom room) {
+        for (Player player : room.getPlayers()) {
+            statsByPlayer.remove(player.getId());
+        }
+    }
+
+    // For a player who has left their room for good
+    public void forget(String playerId) {
+        statsByPlayer.remove(playerId);
+    }
+}
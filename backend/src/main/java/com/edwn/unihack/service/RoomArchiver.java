@@ -0,0 +1,12 @@
+// backend/src/main/java/com/edwn/unihack/service/RoomArchiver.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameRoom;
+
+/**
+ * Persists whatever is left of a room before it is dropped from memory.
+ */
+public interface RoomArchiver {
+
+    void archive(GameRoom room);
+}
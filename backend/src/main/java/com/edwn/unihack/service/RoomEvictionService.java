@@ -0,0 +1,119 @@
+// backend/src/main/java/com/edwn/unihack/service/RoomEvictionService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import com.edwn.unihack.util.timer.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Expires rooms that have seen no activity for longer than their TTL.
+ * <p>
+ * Each tracked room has exactly one timeout on the shared timing wheel. Activity only
+ * bumps {@link GameRoom#getLastActivityAt()}; when the timeout fires it checks how long the
+ * room has really been idle and either evicts it or re-arms itself for the remainder.
+ */
+@Service
+public class RoomEvictionService {
+    private final HashedTimingWheel timingWheel;
+    private final ObjectProvider<RoomArchiver> roomArchivers;
+    private final long waitingTtlMillis;
+    private final long inHandTtlMillis;
+    private final boolean archiveOnEvict;
+    private final Map<String, Timeout> timeouts = new ConcurrentHashMap<>();
+
+    public RoomEvictionService(HashedTimingWheel timingWheel,
+                               ObjectProvider<RoomArchiver> roomArchivers,
+                               @Value("${unihack.rooms.idle-ttl-waiting-seconds:1800}") long waitingTtlSeconds,
+                               @Value("${unihack.rooms.idle-ttl-in-hand-seconds:7200}") long inHandTtlSeconds,
+                               @Value("${unihack.rooms.archive-on-evict:true}") boolean archiveOnEvict) {
+        this.timingWheel = timingWheel;
+        this.roomArchivers = roomArchivers;
+        this.waitingTtlMillis = TimeUnit.SECONDS.toMillis(waitingTtlSeconds);
+        this.inHandTtlMillis = TimeUnit.SECONDS.toMillis(inHandTtlSeconds);
+        this.archiveOnEvict = archiveOnEvict;
+    }
+
+    /**
+     * Starts tracking a room. {@code evictor} is called once the room has been idle for its TTL
+     * and should return true if it actually removed the room.
+     */
+    public void track(GameRoom room, Predicate<GameRoom> evictor) {
+        room.touch();
+        arm(room, evictor, ttlFor(room));
+    }
+
+    public void untrack(GameRoom room) {
+        Timeout timeout = timeouts.remove(room.getId());
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public int trackedRooms() {
+        return timeouts.size();
+    }
+
+    private void arm(GameRoom room, Predicate<GameRoom> evictor, long delayMillis) {
+        Timeout timeout = timingWheel.schedule(() -> onTimeout(room, evictor), delayMillis, TimeUnit.MILLISECONDS);
+        Timeout previous = timeouts.put(room.getId(), timeout);
+        if (previous != null && previous != timeout) {
+            previous.cancel();
+        }
+    }
+
+    private void onTimeout(GameRoom room, Predicate<GameRoom> evictor) {
+        if (!timeouts.containsKey(room.getId())) {
+            return; // Untracked (e.g. disbanded) after this timeout fired
+        }
+
+        long idleFor = System.currentTimeMillis() - room.getLastActivityAt();
+        long ttl = ttlFor(room);
+
+        if (idleFor < ttl) {
+            // The room was touched since this timeout was armed
+            arm(room, evictor, ttl - idleFor);
+            return;
+        }
+
+        timeouts.remove(room.getId());
+
+        if (archiveOnEvict) {
+            roomArchivers.orderedStream().forEach(archiver -> {
+                try {
+                    archiver.archive(room);
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to archive room " + room.getId() + ": " + e.getMessage());
+                }
+            });
+        }
+
+        if (evictor.test(room)) {
+            System.out.println("Evicted room " + room.getId() + " after " + (idleFor / 1000) + "s idle in state " + room.getGameState());
+        }
+    }
+
+    private long ttlFor(GameRoom room) {
+        GameRoom.GameState state = room.getGameState();
+        if (state == null) {
+            return waitingTtlMillis;
+        }
+
+        switch (state) {
+            case PREFLOP:
+            case FLOP:
+            case TURN:
+            case RIVER:
+                return inHandTtlMillis;
+            default:
+                return waitingTtlMillis;
+        }
+    }
+}
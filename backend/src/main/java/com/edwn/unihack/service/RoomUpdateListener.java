@@ -0,0 +1,17 @@
+// backend/src/main/java/com/edwn/unihack/service/RoomUpdateListener.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.model.GameRoom;
+
+/**
+ * Told about every committed change to a room, right after it is broadcast over STOMP. Called
+ * with the room locked, on whichever thread changed it, so implementations must be quick.
+ */
+public interface RoomUpdateListener {
+
+    void onRoomUpdated(GameRoom room);
+
+    // After a room is disbanded or evicted, once its last update has gone out
+    default void onRoomRemoved(String gameCode) {
+    }
+}
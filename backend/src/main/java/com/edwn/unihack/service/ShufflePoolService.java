@@ -0,0 +1,97 @@
+// backend/src/main/java/com/edwn/unihack/service/ShufflePoolService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.util.shuffle.ShuffledDeck;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps a bounded pool of deck orders shuffled from {@link SecureRandom} by one background
+ * thread, so dealing a hand never waits on the entropy source or its lock. The producer sleeps
+ * while the pool is full and is woken once hands have drained it to half. A hand that finds
+ * the pool empty shuffles inline and is counted as a stall.
+ */
+@Service
+public class ShufflePoolService {
+    private final int capacity;
+    private final Queue<byte[]> decks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger(); // ConcurrentLinkedQueue.size() walks the queue
+    private final SecureRandom random = new SecureRandom();
+    private final Counter decksShuffled;
+    private final Counter stalls;
+    private Thread producer;
+    private volatile boolean running;
+
+    public ShufflePoolService(MetricsRegistry metricsRegistry,
+                              @Value("${unihack.shuffle.pool-size:1024}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.decksShuffled = metricsRegistry.counter("unihack_shuffle_pool_refills_total", "Decks shuffled into the pool in the background");
+        this.stalls = metricsRegistry.counter("unihack_shuffle_pool_stalls_total", "Hands that found the pool empty and shuffled inline");
+        metricsRegistry.gauge("unihack_shuffle_pool_decks", "Shuffled decks ready in the pool", size::get);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        producer = new Thread(this::refillLoop, "Shuffle-Pool");
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(producer);
+        producer.join(1000);
+    }
+
+    /**
+     * Takes a shuffled order of all {@link ShuffledDeck#SIZE} card ids. The array belongs to
+     * the caller.
+     */
+    public byte[] take() {
+        byte[] deck = decks.poll();
+        if (deck == null) {
+            stalls.increment();
+            deck = new byte[ShuffledDeck.SIZE];
+            ShuffledDeck.shuffle(deck, random);
+            return deck;
+        }
+
+        if (size.decrementAndGet() == capacity / 2) {
+            LockSupport.unpark(producer);
+        }
+        return deck;
+    }
+
+    public int available() {
+        return size.get();
+    }
+
+    private void refillLoop() {
+        while (running) {
+            if (size.get() >= capacity) {
+                // The timeout covers a wakeup lost between the check and the park
+                LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+                continue;
+            }
+
+            byte[] deck = new byte[ShuffledDeck.SIZE];
+            ShuffledDeck.shuffle(deck, random);
+            decks.offer(deck);
+            size.incrementAndGet();
+            decksShuffled.increment();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+// backend/src/main/java/com/edwn/unihack/service/VirtualDealerService.java
+package com.edwn.unihack.service;
+
+import com.edwn.unihack.metrics.Counter;
+import com.edwn.unihack.metrics.MetricsRegistry;
+import com.edwn.unihack.model.Card;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.util.shuffle.ShuffledDeck;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deals for tables with nobody to scan cards: each hand the room takes a deck from the
+ * {@link ShufflePoolService} and the cards it waits for are dealt from the top. Rooms deal
+ * this way when switched to it, or, with {@code unihack.dealing.virtual-when-online}, for
+ * each hand that starts with every human player online and no scanner joined. A non-zero
+ * {@code unihack.dealing.seed} makes each room's deals repeatable instead, shuffling with a
+ * seeded generator.
+ */
+@Service
+public class VirtualDealerService {
+    private final ShufflePoolService shufflePool;
+    private final boolean dealWhenOnline;
+    private final long seed;
+    private final Counter cardsDealt;
+
+    public VirtualDealerService(ShufflePoolService shufflePool,
+                                MetricsRegistry metricsRegistry,
+                                @Value("${unihack.dealing.virtual-when-online:false}") boolean dealWhenOnline,
+                                @Value("${unihack.dealing.seed:0}") long seed) {
+        this.shufflePool = shufflePool;
+        this.dealWhenOnline = dealWhenOnline;
+        this.seed = seed;
+        this.cardsDealt = metricsRegistry.counter("unihack_cards_dealt_virtual_total", "Cards dealt by the server from a shuffled deck");
+    }
+
+    // Caller holds the room lock
+    public boolean dealsVirtually(GameRoom room) {
+        return room.isVirtualDealing() || room.isAutoDealtHand();
+    }
+
+    // Settles whether the hand just started is dealt by the server when the room isn't switched over. Caller holds the room lock
+    public void onHandStart(GameRoom room) {
+        room.setAutoDealtHand(dealWhenOnline && room.getScannerId() == null && allHumansOnline(room));
+    }
+
+    private static boolean allHumansOnline(GameRoom room) {
+        boolean anyHuman = false;
+        for (Player player : room.getPlayers()) {
+            if (player.isFake()) {
+                continue;
+            }
+            if (!player.isOnline()) {
+                return false;
+            }
+            anyHuman = true;
+        }
+        return anyHuman;
+    }
+
+    /**
+     * Takes the next card off the room's deck, replacing the order first at the start of a hand.
+     * Caller holds the room lock.
+     *
+     * @return the card, or null if the room isn't waiting for one or its cards are scanned
+     */
+    public Card nextCard(GameRoom room) {
+        if (!room.isWaitingForCards() || !room.isHandInProgress() || !dealsVirtually(room)) {
+            return null;
+        }
+
+        ShuffledDeck deck = room.getDeck();
+        if (deck == null) {
+            deck = new ShuffledDeck(seed != 0 ? new SplittableRandom(seed * 31 + room.getId().hashCode()) : null);
+            room.setDeck(deck);
+        }
+        if (room.getDeckHandNumber() != room.getHandNumber()) {
+            if (seed != 0) {
+                deck.shuffle();
+            } else {
+                deck.load(shufflePool.take());
+            }
+            room.setDeckHandNumber(room.getHandNumber());
+        }
+
+        // Skips anything scanned before the room switched over mid-hand
+        int card;
+        do {
+            card = deck.next();
+        } while (card != ShuffledDeck.EMPTY && room.isDealt(card));
+        if (card == ShuffledDeck.EMPTY) {
+            return null;
+        }
+
+        cardsDealt.increment();
+        return Card.fromId(card);
+    }
+}
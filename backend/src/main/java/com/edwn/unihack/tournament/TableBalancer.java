@@ -0,0 +1,141 @@
+// backend/src/main/java/com/edwn/unihack/tournament/TableBalancer.java
+package com.edwn.unihack.tournament;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decides which tables give up players as a tournament shrinks. Works on seat counts only,
+ * so it is cheap enough to run after every elimination even with hundreds of tables.
+ * <p>
+ * A table is broken whenever the remaining players fit on one table fewer, reserving seats for
+ * its players at the shortest tables. Otherwise the longest table owes one player to the
+ * shortest until no two tables differ by more than one seat. Players are only handed over
+ * later, at their table's next break, and take whichever reserved seat is free by then.
+ */
+final class TableBalancer {
+
+    private TableBalancer() {
+    }
+
+    /**
+     * Updates seat counts, owed players and breaking flags; returns the tables that now have
+     * to give up players.
+     */
+    static List<TournamentTable> rebalance(Collection<TournamentTable> allTables, int tableSize) {
+        List<TournamentTable> sources = new ArrayList<>();
+        List<TournamentTable> tables = new ArrayList<>();
+        int players = 0;
+        for (TournamentTable table : allTables) {
+            if (!table.breaking) {
+                tables.add(table);
+                players += table.expectedPlayers;
+            }
+        }
+
+        int neededTables = Math.max(1, (players + tableSize - 1) / tableSize);
+        while (tables.size() > neededTables) {
+            TournamentTable broken = shortest(tables, null);
+            broken.breaking = true;
+            tables.remove(broken);
+            sources.add(broken);
+
+            // Its own reservations move along with its players
+            for (int i = 0; i < broken.expectedPlayers; i++) {
+                reserve(shortest(tables, null));
+            }
+            broken.expectedPlayers = 0;
+            broken.reservedSeats = 0;
+        }
+
+        while (tables.size() > 1) {
+            TournamentTable longest = longest(tables);
+            TournamentTable shortest = shortest(tables, longest);
+            if (longest.expectedPlayers - shortest.expectedPlayers <= 1) {
+                break;
+            }
+            if (longest.reservedSeats > 0) {
+                // Someone is still on their way there; send them to the shorter table instead
+                longest.reservedSeats--;
+                longest.expectedPlayers--;
+            } else {
+                longest.expectedPlayers--;
+                longest.owedPlayers.incrementAndGet();
+                if (!sources.contains(longest)) {
+                    sources.add(longest);
+                }
+            }
+            reserve(shortest);
+        }
+        return sources;
+    }
+
+    /**
+     * Picks the seat for a player who just left their table: a reserved seat if there is one,
+     * otherwise a new seat at the shortest table.
+     */
+    static TournamentTable seatFor(Collection<TournamentTable> tables) {
+        TournamentTable reserved = null;
+        TournamentTable shortest = null;
+        for (TournamentTable table : tables) {
+            if (table.breaking) continue;
+            if (table.reservedSeats > 0 && (reserved == null || table.expectedPlayers < reserved.expectedPlayers)) {
+                reserved = table;
+            }
+            if (shortest == null || table.expectedPlayers < shortest.expectedPlayers) {
+                shortest = table;
+            }
+        }
+
+        if (reserved != null) {
+            reserved.reservedSeats--;
+            return reserved;
+        }
+        if (shortest != null) {
+            shortest.expectedPlayers++;
+        }
+        return shortest;
+    }
+
+    /**
+     * Gives back one reserved seat after a table could not hand over a player it owed.
+     */
+    static void releaseReservation(Collection<TournamentTable> tables) {
+        TournamentTable longest = null;
+        for (TournamentTable table : tables) {
+            if (table.reservedSeats > 0 && (longest == null || table.expectedPlayers > longest.expectedPlayers)) {
+                longest = table;
+            }
+        }
+        if (longest != null) {
+            longest.reservedSeats--;
+            longest.expectedPlayers--;
+        }
+    }
+
+    private static void reserve(TournamentTable table) {
+        table.expectedPlayers++;
+        table.reservedSeats++;
+    }
+
+    private static TournamentTable shortest(List<TournamentTable> tables, TournamentTable excluded) {
+        TournamentTable best = null;
+        for (TournamentTable table : tables) {
+            if (table != excluded && (best == null || table.expectedPlayers < best.expectedPlayers)) {
+                best = table;
+            }
+        }
+        return best;
+    }
+
+    private static TournamentTable longest(List<TournamentTable> tables) {
+        TournamentTable best = null;
+        for (TournamentTable table : tables) {
+            if (best == null || table.expectedPlayers > best.expectedPlayers) {
+                best = table;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,501 @@
+// backend/src/main/java/com/edwn/unihack/tournament/TournamentService.java
+package com.edwn.unihack.tournament;
+
+import com.edwn.unihack.model.BlindLevel;
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.Tournament;
+import com.edwn.unihack.model.TournamentEntrant;
+import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.service.HandListener;
+import com.edwn.unihack.service.PlayerStatsService;
+import com.edwn.unihack.util.concurrent.SerialExecutor;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import com.edwn.unihack.util.timer.Timeout;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs multi-table tournaments on top of ordinary tournament-flagged rooms.
+ * <p>
+ * Each tournament's bookkeeping (registration, eliminations, blind levels, balancing) runs on
+ * its own {@link SerialExecutor}, so tournaments never contend with each other and nothing
+ * here takes a global lock. Tables only touch their own room, with the room locked, at hand
+ * boundaries: they report results when a hand completes and apply queued seat changes right
+ * before the next hand starts.
+ */
+@Service
+public class TournamentService implements HandListener {
+    private static final List<BlindLevel> DEFAULT_BLIND_LEVELS = List.of(
+            new BlindLevel(5, 10), new BlindLevel(10, 20), new BlindLevel(15, 30),
+            new BlindLevel(25, 50), new BlindLevel(50, 100), new BlindLevel(75, 150),
+            new BlindLevel(100, 200), new BlindLevel(150, 300), new BlindLevel(200, 400),
+            new BlindLevel(300, 600), new BlindLevel(400, 800), new BlindLevel(500, 1000),
+            new BlindLevel(750, 1500), new BlindLevel(1000, 2000), new BlindLevel(1500, 3000),
+            new BlindLevel(2000, 4000), new BlindLevel(3000, 6000), new BlindLevel(5000, 10000));
+
+    private final GameRoomService gameRoomService;
+    private final PlayerStatsService playerStatsService;
+    private final HashedTimingWheel timingWheel;
+    private final ExecutorService executor;
+    private final long nextHandDelayMillis;
+    private final Map<String, RunningTournament> tournaments = new ConcurrentHashMap<>();
+    private final Map<String, TournamentTable> tablesByCode = new ConcurrentHashMap<>();
+
+    public TournamentService(GameRoomService gameRoomService,
+                             PlayerStatsService playerStatsService,
+                             HashedTimingWheel timingWheel,
+                             @Value("${unihack.tournament.threads:2}") int threads,
+                             @Value("${unihack.tournament.next-hand-delay-ms:5000}") long nextHandDelayMillis) {
+        this.gameRoomService = gameRoomService;
+        this.playerStatsService = playerStatsService;
+        this.timingWheel = timingWheel;
+        this.nextHandDelayMillis = nextHandDelayMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "Tournament-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Tournament createTournament(String name, int startingChips, int tableSize, long levelSeconds) {
+        Tournament tournament = Tournament.builder()
+                .id("T" + UUID.randomUUID().toString().substring(0, 6).toUpperCase())
+                .name(name)
+                .state(Tournament.TournamentState.REGISTERING)
+                .startingChips(startingChips)
+                .tableSize(tableSize)
+                .levelSeconds(levelSeconds)
+                .blindLevels(DEFAULT_BLIND_LEVELS)
+                .build();
+
+        tournaments.put(tournament.getId(), new RunningTournament(tournament, new SerialExecutor(executor)));
+        return tournament;
+    }
+
+    public Collection<Tournament> getTournaments() {
+        List<Tournament> result = new ArrayList<>();
+        tournaments.values().forEach(running -> result.add(running.tournament));
+        return result;
+    }
+
+    public Optional<Tournament> findTournament(String tournamentId) {
+        return Optional.ofNullable(tournaments.get(tournamentId)).map(running -> running.tournament);
+    }
+
+    public Optional<TournamentEntrant> findEntrant(String tournamentId, String entrantId) {
+        return findTournament(tournamentId).map(tournament -> tournament.getEntrants().get(entrantId));
+    }
+
+    /**
+     * Players still in, biggest stack first, followed by eliminated players in finishing order.
+     */
+    public List<TournamentEntrant> getStandings(String tournamentId) {
+        List<TournamentEntrant> standings = findTournament(tournamentId)
+                .map(tournament -> new ArrayList<>(tournament.getEntrants().values()))
+                .orElseGet(ArrayList::new);
+
+        standings.sort(Comparator
+                .comparing((TournamentEntrant entrant) -> entrant.getFinishPosition() == null ? 0 : 1)
+                .thenComparing(entrant -> entrant.getFinishPosition() == null ? -entrant.getChips() : entrant.getFinishPosition()));
+        return standings;
+    }
+
+    /**
+     * Completes with the new entrant, or with null if registration is closed or the name is
+     * taken. Runs on the tournament's serial executor, so callers shouldn't block on it.
+     */
+    public CompletableFuture<TournamentEntrant> register(String tournamentId, String name, boolean online,
+                                                         boolean visuallyImpaired, boolean fake, String botStrategy) {
+        RunningTournament running = tournaments.get(tournamentId);
+        if (running == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Tournament tournament = running.tournament;
+            if (tournament.getState() != Tournament.TournamentState.REGISTERING
+                    || !running.names.add(name.toLowerCase(Locale.ROOT))) {
+                return null;
+            }
+
+            TournamentEntrant entrant = TournamentEntrant.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name(name)
+                    .online(online)
+                    .visuallyImpaired(visuallyImpaired)
+                    .fake(fake)
+                    .botStrategy(botStrategy)
+                    .chips(tournament.getStartingChips())
+                    .build();
+            tournament.getEntrants().put(entrant.getId(), entrant);
+            return entrant;
+        }, running.actor);
+    }
+
+    // Completes with false if there is no such tournament, it has started or has too few entrants
+    public CompletableFuture<Boolean> startTournament(String tournamentId) {
+        RunningTournament running = tournaments.get(tournamentId);
+        if (running == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.supplyAsync(() -> seatEntrants(running), running.actor);
+    }
+
+    // The seat counts belong to the tournament's serial executor; tests read them between its tasks
+    TournamentTable findTable(String code) {
+        return tablesByCode.get(code);
+    }
+
+    @Override
+    public void beforeHandStart(GameRoom room) {
+        TournamentTable table = tablesByCode.get(room.getId());
+        if (table != null) {
+            applySeatChanges(table, room);
+        }
+    }
+
+    @Override
+    public void onHandComplete(GameRoom room) {
+        TournamentTable table = tablesByCode.get(room.getId());
+        if (table == null) {
+            return;
+        }
+
+        // Copy what the tournament needs while the room is locked
+        int[] startChips = room.getHandStartChips();
+        Map<String, Integer> chips = new HashMap<>();
+        List<Elimination> eliminations = new ArrayList<>();
+        for (int seat = 0; seat < room.getPlayers().size(); seat++) {
+            Player player = room.getPlayers().get(seat);
+            chips.put(player.getId(), player.getChips());
+            if (player.getChips() <= 0) {
+                int startedWith = startChips != null && seat < startChips.length ? startChips[seat] : 0;
+                eliminations.add(new Elimination(player.getId(), startedWith));
+            }
+        }
+
+        RunningTournament running = tournaments.get(table.tournament.getId());
+        running.actor.execute(() -> handCompleted(running, table, chips, eliminations));
+        scheduleHand(table, nextHandDelayMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tournaments.values().forEach(running -> {
+            if (running.levelTimeout != null) {
+                running.levelTimeout.cancel();
+            }
+        });
+        tablesByCode.values().forEach(TournamentTable::cancelNextHand);
+        executor.shutdownNow();
+    }
+
+    // Runs on the tournament's serial executor
+    private boolean seatEntrants(RunningTournament running) {
+        Tournament tournament = running.tournament;
+        List<TournamentEntrant> entrants = new ArrayList<>(tournament.getEntrants().values());
+        if (tournament.getState() != Tournament.TournamentState.REGISTERING || entrants.size() < 2) {
+            return false;
+        }
+
+        // Random seat draw, dealt round-robin so table sizes differ by at most one
+        Collections.shuffle(entrants);
+        int tableCount = (entrants.size() + tournament.getTableSize() - 1) / tournament.getTableSize();
+        BlindLevel level = tournament.getCurrentLevel();
+        List<TournamentTable> tables = new ArrayList<>();
+        for (int i = 0; i < tableCount; i++) {
+            GameRoom room = gameRoomService.createTournamentTable(tournament.getId(), tournament.getTableSize(),
+                    level.getSmallBlind(), level.getBigBlind());
+            TournamentTable table = new TournamentTable(room, tournament);
+            tables.add(table);
+            running.tables.put(table.code, table);
+            tablesByCode.put(table.code, table);
+        }
+
+        for (int i = 0; i < entrants.size(); i++) {
+            TournamentEntrant entrant = entrants.get(i);
+            TournamentTable table = tables.get(i % tableCount);
+            synchronized (table.room) {
+                table.room.getPlayers().add(toPlayer(entrant, tournament.getStartingChips()));
+            }
+            table.expectedPlayers++;
+            entrant.setTableCode(table.code);
+        }
+
+        long now = System.currentTimeMillis();
+        tournament.setRemainingPlayers(entrants.size());
+        tournament.setStartedAt(now);
+        tournament.setLevelStartedAt(now);
+        tournament.setTableCodes(new ArrayList<>(running.tables.keySet()));
+        tournament.setState(Tournament.TournamentState.RUNNING);
+        scheduleLevelUp(running);
+
+        tables.forEach(table -> scheduleHand(table, 0));
+        System.out.println("Tournament " + tournament.getId() + " started with " + entrants.size() + " players on " + tableCount + " tables");
+        return true;
+    }
+
+    // Runs on the tournament's serial executor
+    private void handCompleted(RunningTournament running, TournamentTable table, Map<String, Integer> chips,
+                               List<Elimination> eliminations) {
+        Tournament tournament = running.tournament;
+        if (tournament.getState() != Tournament.TournamentState.RUNNING) {
+            return;
+        }
+
+        chips.forEach((id, stack) -> {
+            TournamentEntrant entrant = tournament.getEntrants().get(id);
+            if (entrant != null) entrant.setChips(stack);
+        });
+
+        // Players knocked out in the same hand are ranked by the stack they started it with
+        eliminations.sort(Comparator.comparingInt(elimination -> elimination.startChips));
+        for (Elimination elimination : eliminations) {
+            TournamentEntrant entrant = tournament.getEntrants().get(elimination.playerId);
+            if (entrant == null || entrant.getFinishPosition() != null) {
+                continue;
+            }
+            entrant.setFinishPosition(tournament.getRemainingPlayers());
+            entrant.setTableCode(null);
+            tournament.setRemainingPlayers(tournament.getRemainingPlayers() - 1);
+            if (table.breaking) {
+                // Their seat elsewhere was already reserved
+                TableBalancer.releaseReservation(running.tables.values());
+            } else {
+                table.expectedPlayers--;
+            }
+        }
+
+        // Players it owed who were knocked out instead will never move; give back their seats
+        if (!table.breaking) {
+            int stillSeated = chips.size() - eliminations.size();
+            int owed = table.owedPlayers.getAndUpdate(count -> Math.min(count, stillSeated));
+            for (int i = stillSeated; i < owed; i++) {
+                table.expectedPlayers++;
+                TableBalancer.releaseReservation(running.tables.values());
+            }
+        }
+
+        if (tournament.getRemainingPlayers() <= 1) {
+            finish(running);
+            return;
+        }
+
+        if (!eliminations.isEmpty()) {
+            rebalance(running);
+        }
+    }
+
+    // Runs on the tournament's serial executor
+    private void rebalance(RunningTournament running) {
+        List<TournamentTable> sources = TableBalancer.rebalance(running.tables.values(), running.tournament.getTableSize());
+
+        // Tables between hands hand their players over when the next hand starts; only stalled ones need a nudge
+        for (TournamentTable source : sources) {
+            if (source.stalled) {
+                scheduleHand(source, 0);
+            }
+        }
+    }
+
+    // Runs on the tournament's serial executor
+    private void finish(RunningTournament running) {
+        Tournament tournament = running.tournament;
+        tournament.getEntrants().values().stream()
+                .filter(entrant -> entrant.getFinishPosition() == null)
+                .findFirst()
+                .ifPresent(winner -> {
+                    winner.setFinishPosition(1);
+                    tournament.setWinnerId(winner.getId());
+                });
+
+        tournament.setRemainingPlayers(Math.min(tournament.getRemainingPlayers(), 1));
+        tournament.setFinishedAt(System.currentTimeMillis());
+        tournament.setState(Tournament.TournamentState.FINISHED);
+        if (running.levelTimeout != null) {
+            running.levelTimeout.cancel();
+        }
+        running.tables.values().forEach(TournamentTable::cancelNextHand);
+        System.out.println("Tournament " + tournament.getId() + " finished");
+    }
+
+    private void scheduleLevelUp(RunningTournament running) {
+        running.levelTimeout = timingWheel.schedule(() -> running.actor.execute(() -> {
+            Tournament tournament = running.tournament;
+            if (tournament.getState() != Tournament.TournamentState.RUNNING) {
+                return;
+            }
+            if (tournament.getLevelIndex() < tournament.getBlindLevels().size() - 1) {
+                tournament.setLevelIndex(tournament.getLevelIndex() + 1);
+                tournament.setLevelStartedAt(System.currentTimeMillis());
+            }
+            scheduleLevelUp(running);
+        }), running.tournament.getLevelSeconds(), TimeUnit.SECONDS);
+    }
+
+    // Replaces any start already pending for the table
+    private void scheduleHand(TournamentTable table, long delayMillis) {
+        table.cancelNextHand();
+        table.nextHand = timingWheel.schedule(() -> startHandIfReady(table), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void startHandIfReady(TournamentTable table) {
+        GameRoom room = table.room;
+        synchronized (room) {
+            if (table.tournament.getState() != Tournament.TournamentState.RUNNING || room.isHandInProgress()) {
+                return;
+            }
+
+            applySeatChanges(table, room);
+            table.stalled = room.getPlayers().size() < 2;
+            if (!table.stalled) {
+                gameRoomService.startNewHand(room);
+            }
+        }
+    }
+
+    // Called with the room locked, between hands
+    private void applySeatChanges(TournamentTable table, GameRoom room) {
+        List<Player> players = room.getPlayers();
+        RunningTournament running = tournaments.get(table.tournament.getId());
+
+        // Eliminated players were reported when their last hand completed, and are out for good
+        players.removeIf(player -> {
+            if (player.getChips() > 0) {
+                return false;
+            }
+            playerStatsService.forget(player.getId());
+            return true;
+        });
+
+        Player arriving;
+        while ((arriving = table.arrivals.poll()) != null) {
+            players.add(arriving);
+        }
+
+        // A breaking table gives up everyone, otherwise just the players it owes
+        int owed = table.owedPlayers.getAndSet(0);
+        int leaving = table.breaking ? players.size() : Math.min(owed, players.size());
+        for (int i = 0; i < leaving; i++) {
+            // Move whoever would be big blind next, so nobody skips or repeats the blinds
+            Player moving = players.remove((room.getSmallBlindPosition() + 2) % players.size());
+            moving.newHand();
+            running.actor.execute(() -> seatMovedPlayer(running, moving));
+        }
+
+        if (!table.breaking && owed > leaving) {
+            int missing = owed - leaving;
+            running.actor.execute(() -> movesCancelled(running, table, missing));
+        }
+
+        if (players.isEmpty()) {
+            running.actor.execute(() -> tableEmptied(running, table));
+        }
+
+        BlindLevel level = table.tournament.getCurrentLevel();
+        room.setSmallBlind(level.getSmallBlind());
+        room.setBigBlind(level.getBigBlind());
+    }
+
+    // Runs on the tournament's serial executor
+    private void seatMovedPlayer(RunningTournament running, Player player) {
+        TournamentTable destination = TableBalancer.seatFor(running.tables.values());
+        if (destination == null) {
+            System.err.println("Tournament " + running.tournament.getId() + " has no table left for " + player.getName());
+            return;
+        }
+
+        destination.arrivals.add(player);
+        TournamentEntrant entrant = running.tournament.getEntrants().get(player.getId());
+        if (entrant != null) {
+            entrant.setTableCode(destination.code);
+        }
+        if (destination.stalled) {
+            scheduleHand(destination, 0);
+        }
+    }
+
+    // Runs on the tournament's serial executor
+    private void movesCancelled(RunningTournament running, TournamentTable table, int count) {
+        // The owed players were eliminated in a hand whose result hadn't been applied yet; undo
+        // their reserved seats
+        table.expectedPlayers += count;
+        for (int i = 0; i < count; i++) {
+            TableBalancer.releaseReservation(running.tables.values());
+        }
+        rebalance(running);
+    }
+
+    // Runs on the tournament's serial executor
+    private void tableEmptied(RunningTournament running, TournamentTable table) {
+        if (!table.breaking || !table.arrivals.isEmpty() || running.tables.remove(table.code) == null) {
+            return;
+        }
+
+        tablesByCode.remove(table.code);
+        table.cancelNextHand();
+        running.tournament.setTableCodes(new ArrayList<>(running.tables.keySet()));
+        gameRoomService.disbandRoom(table.code);
+    }
+
+    private static Player toPlayer(TournamentEntrant entrant, int chips) {
+        return Player.builder()
+                .id(entrant.getId())
+                .name(entrant.getName())
+                .online(entrant.isOnline())
+                .visuallyImpaired(entrant.isVisuallyImpaired())
+                .chips(chips)
+                .active(true)
+                .folded(false)
+                .fake(entrant.isFake())
+                .botStrategy(entrant.getBotStrategy())
+                .build();
+    }
+
+    private static class RunningTournament {
+        final Tournament tournament;
+        final SerialExecutor actor;
+        final Map<String, TournamentTable> tables = new LinkedHashMap<>(); // Serial executor only
+        final Set<String> names = new HashSet<>(); // Lower-cased, serial executor only
+        volatile Timeout levelTimeout;
+
+        RunningTournament(Tournament tournament, SerialExecutor actor) {
+            this.tournament = tournament;
+            this.actor = actor;
+        }
+    }
+
+    private static class Elimination {
+        final String playerId;
+        final int startChips;
+
+        Elimination(String playerId, int startChips) {
+            this.playerId = playerId;
+            this.startChips = startChips;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+// backend/src/main/java/com/edwn/unihack/tournament/TournamentTable.java
+package com.edwn.unihack.tournament;
+
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.Tournament;
+import com.edwn.unihack.util.timer.Timeout;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One table of a running tournament. The seat counts belong to the tournament's serial
+ * executor; the table itself only sees {@link #breaking}, {@link #owedPlayers} and
+ * {@link #arrivals}, which it applies between hands with its room locked.
+ */
+class TournamentTable {
+    final String code;
+    final GameRoom room;
+    final Tournament tournament;
+    // Players moved here from other tables, seated at this table's next break
+    final Queue<Player> arrivals = new ConcurrentLinkedQueue<>();
+    // Players this table has to give up at its next break, for balancing
+    final AtomicInteger owedPlayers = new AtomicInteger();
+
+    volatile boolean breaking; // Every player leaves at the next break
+    volatile boolean stalled; // Too few players to deal the next hand
+    volatile Timeout nextHand; // Pending start of the next hand
+
+    int expectedPlayers; // Seated once queued moves are applied, including reserved seats
+    int reservedSeats; // Seats held for players who are still to leave another table
+
+    TournamentTable(GameRoom room, Tournament tournament) {
+        this.code = room.getId();
+        this.room = room;
+        this.tournament = tournament;
+    }
+
+    void cancelNextHand() {
+        Timeout pending = nextHand;
+        if (pending != null) {
+            pending.cancel();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.edwn.unihack.util.archive;
+
+/**
+ * Columns of a hand segment, in file order. Per-hand columns come first, followed by the
+ * per-seat and per-action columns, each of which is laid out hand after hand.
+ */
+enum Column {
+    ROOM_CODE,      // varint length + ASCII bytes
+    HAND_NUMBER,    // zigzag delta from the previous hand
+    STARTED_AT,     // zigzag delta from the previous hand, epoch millis
+    FLAGS,          // bit 0: hand completed
+    SEATING,        // seat count byte, small blind position byte
+    CHIPS_START,    // varint per seat
+    CHIPS_DELTA,    // zigzag (final - start) per seat
+    WINNERS,        // varint seat bitmask
+    ACTION_COUNT,   // varint per hand
+    ACTION_SEAT,    // byte per action
+    ACTION_CODE,    // byte per action
+    ACTION_AMOUNT,  // varint per action
+    ACTION_CARD,    // byte per action
+    ACTION_TIME     // varint delta from the previous action in the same hand
+}
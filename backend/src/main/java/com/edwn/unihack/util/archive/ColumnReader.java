@@ -0,0 +1,53 @@
+package com.edwn.unihack.util.archive;
+
+/**
+ * Sequential cursor over a decoded column.
+ */
+final class ColumnReader {
+    private byte[] data;
+    private int position;
+    private int limit;
+
+    void reset(byte[] data, int limit) {
+        this.data = data;
+        this.limit = limit;
+        this.position = 0;
+    }
+
+    int readByte() {
+        if (position >= limit) {
+            throw new IllegalStateException("Column exhausted");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    void readBytes(byte[] target, int offset, int length) {
+        if (position + length > limit) {
+            throw new IllegalStateException("Column exhausted");
+        }
+        System.arraycopy(data, position, target, offset, length);
+        position += length;
+    }
+
+    long readVarLong() {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+
+    int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    long readZigZag() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,195 @@
+package com.edwn.unihack.util.archive;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Scans hand segments written by {@link HandSegmentWriter}.
+ * <p>
+ * Columns are inflated into buffers that are reused across segments, and every hand is
+ * decoded into the same {@link HandRecord}, so a scan allocates almost nothing per hand.
+ * Not thread-safe; use one reader per scanning thread.
+ */
+public class HandArchiveReader {
+    public static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Inflater inflater = new Inflater();
+    private final byte[][] buffers = new byte[Column.values().length][];
+    private final ColumnReader[] readers = new ColumnReader[Column.values().length];
+    private final HandRecord record = new HandRecord();
+    private byte[] compressed = new byte[64 * 1024];
+    private byte[] codeBytes = new byte[16];
+    private String lastCode = "";
+    private byte[] lastCodeBytes = new byte[0];
+
+    public HandArchiveReader() {
+        for (int i = 0; i < readers.length; i++) {
+            buffers[i] = new byte[4096];
+            readers[i] = new ColumnReader();
+        }
+    }
+
+    /**
+     * Lists the segment files of an archive directory in write order.
+     */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Visits every hand in every segment of the directory.
+     *
+     * @return the number of hands visited
+     */
+    public long scan(Path directory, HandVisitor visitor) throws IOException {
+        return scan(directory, visitor, 0);
+    }
+
+    /**
+     * Visits hands in write order until {@code limit} have been visited, or all of them if
+     * the limit is 0. Segments past the limit are not opened.
+     *
+     * @return the number of hands visited
+     */
+    public long scan(Path directory, HandVisitor visitor, long limit) throws IOException {
+        long hands = 0;
+        for (Path segment : listSegments(directory)) {
+            if (limit > 0 && hands >= limit) {
+                break;
+            }
+            hands += scanSegment(segment, visitor, limit > 0 ? limit - hands : 0);
+        }
+        return hands;
+    }
+
+    public int scanSegment(Path segment, HandVisitor visitor) throws IOException {
+        return scanSegment(segment, visitor, 0);
+    }
+
+    // Visits at most limit hands of the segment, all of them if it is 0
+    private int scanSegment(Path segment, HandVisitor visitor, long limit) throws IOException {
+        int handCount;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment), 64 * 1024))) {
+            if (in.readInt() != HandSegmentWriter.MAGIC) {
+                throw new IOException("Not a hand segment: " + segment);
+            }
+            handCount = in.readInt();
+            if (limit > 0 && limit < handCount) {
+                handCount = (int) limit; // The columns still have to be read whole
+            }
+            in.readInt(); // action count, only needed by tools that size buffers up front
+            int columnCount = in.readUnsignedByte();
+
+            for (int i = 0; i < columnCount; i++) {
+                readColumn(in);
+            }
+        }
+
+        long handNumber = 0;
+        long startedAt = 0;
+        for (int i = 0; i < handCount; i++) {
+            String roomCode = readRoomCode(reader(Column.ROOM_CODE));
+            handNumber += reader(Column.HAND_NUMBER).readZigZag();
+            startedAt += reader(Column.STARTED_AT).readZigZag();
+            boolean complete = (reader(Column.FLAGS).readByte() & 1) != 0;
+            int seatCount = reader(Column.SEATING).readByte();
+            int smallBlind = reader(Column.SEATING).readByte();
+
+            record.reset(roomCode, (int) handNumber, startedAt, complete, smallBlind, seatCount);
+            for (int seat = 0; seat < seatCount; seat++) {
+                int starting = reader(Column.CHIPS_START).readVarInt();
+                int delta = (int) reader(Column.CHIPS_DELTA).readZigZag();
+                record.setChips(seat, starting, starting + delta);
+            }
+            record.setWinnerMask(reader(Column.WINNERS).readVarInt());
+
+            int actions = reader(Column.ACTION_COUNT).readVarInt();
+            int offset = 0;
+            for (int a = 0; a < actions; a++) {
+                int seat = reader(Column.ACTION_SEAT).readByte();
+                int actionCode = reader(Column.ACTION_CODE).readByte();
+                int amount = reader(Column.ACTION_AMOUNT).readVarInt();
+                int card = reader(Column.ACTION_CARD).readByte();
+                offset += (int) reader(Column.ACTION_TIME).readZigZag();
+                record.addAction(seat, actionCode, amount, card, offset);
+            }
+
+            visitor.visit(record);
+        }
+
+        return handCount;
+    }
+
+    private void readColumn(DataInputStream in) throws IOException {
+        int id = in.readUnsignedByte();
+        int rawLength = in.readInt();
+        int compressedLength = in.readInt();
+
+        if (compressed.length < compressedLength) {
+            compressed = new byte[compressedLength];
+        }
+        in.readFully(compressed, 0, compressedLength);
+
+        if (id >= buffers.length) {
+            return; // Column from a newer format version, ignore
+        }
+        if (buffers[id].length < rawLength) {
+            buffers[id] = new byte[rawLength];
+        }
+
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(buffers[id], read, rawLength - read);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column " + id, e);
+        }
+
+        readers[id].reset(buffers[id], rawLength);
+    }
+
+    private String readRoomCode(ColumnReader reader) {
+        int length = reader.readVarInt();
+        if (codeBytes.length < length) {
+            codeBytes = new byte[length];
+        }
+        reader.readBytes(codeBytes, 0, length);
+
+        // Consecutive hands usually come from the same room, reuse the decoded string
+        if (length != lastCodeBytes.length || !Arrays.equals(codeBytes, 0, length, lastCodeBytes, 0, length)) {
+            lastCodeBytes = Arrays.copyOf(codeBytes, length);
+            lastCode = new String(lastCodeBytes, StandardCharsets.US_ASCII);
+        }
+        return lastCode;
+    }
+
+    private ColumnReader reader(Column column) {
+        return readers[column.ordinal()];
+    }
+}
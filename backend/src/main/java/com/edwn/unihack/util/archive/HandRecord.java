@@ -0,0 +1,163 @@
+package com.edwn.unihack.util.archive;
+
+import java.util.Arrays;
+
+/**
+ * One completed hand in the archive's primitive form.
+ * <p>
+ * The reader reuses a single instance for every hand it visits, so visitors must copy
+ * anything they want to keep. Seats are indices into the room's player list at the time
+ * the hand was played, actions are encoded as {@code GameAction.ActionType} ordinals and
+ * cards as {@code Card#toId()} values.
+ */
+public final class HandRecord {
+    public static final int NO_SEAT = 0xFF;
+    public static final int NO_CARD = 0xFF;
+
+    private String roomCode;
+    private int handNumber;
+    private long startedAt;
+    private boolean complete;
+    private int smallBlindPosition;
+    private int seatCount;
+    private int[] startingChips = new int[8];
+    private int[] finalChips = new int[8];
+    private int winnerMask;
+    private int actionCount;
+    private byte[] actionSeats = new byte[64];
+    private byte[] actionCodes = new byte[64];
+    private int[] actionAmounts = new int[64];
+    private byte[] actionCards = new byte[64];
+    private int[] actionOffsets = new int[64];
+
+    public void reset(String roomCode, int handNumber, long startedAt, boolean complete,
+                      int smallBlindPosition, int seatCount) {
+        this.roomCode = roomCode;
+        this.handNumber = handNumber;
+        this.startedAt = startedAt;
+        this.complete = complete;
+        this.smallBlindPosition = smallBlindPosition;
+        this.seatCount = seatCount;
+        this.winnerMask = 0;
+        this.actionCount = 0;
+        if (startingChips.length < seatCount) {
+            startingChips = new int[seatCount];
+            finalChips = new int[seatCount];
+        }
+    }
+
+    public void setChips(int seat, int starting, int ending) {
+        startingChips[seat] = starting;
+        finalChips[seat] = ending;
+    }
+
+    public void setWinnerMask(int winnerMask) {
+        this.winnerMask = winnerMask;
+    }
+
+    /**
+     * Appends an action.
+     *
+     * @param seat         seat index or {@link #NO_SEAT}
+     * @param code         action type ordinal
+     * @param amount       chips involved, 0 if none
+     * @param card         card id or {@link #NO_CARD}
+     * @param offsetMillis time since the start of the hand
+     */
+    public void addAction(int seat, int code, int amount, int card, int offsetMillis) {
+        if (actionCount == actionCodes.length) {
+            int capacity = actionCount * 2;
+            actionSeats = Arrays.copyOf(actionSeats, capacity);
+            actionCodes = Arrays.copyOf(actionCodes, capacity);
+            actionAmounts = Arrays.copyOf(actionAmounts, capacity);
+            actionCards = Arrays.copyOf(actionCards, capacity);
+            actionOffsets = Arrays.copyOf(actionOffsets, capacity);
+        }
+        actionSeats[actionCount] = (byte) seat;
+        actionCodes[actionCount] = (byte) code;
+        actionAmounts[actionCount] = amount;
+        actionCards[actionCount] = (byte) card;
+        actionOffsets[actionCount] = offsetMillis;
+        actionCount++;
+    }
+
+    /**
+     * Deep copy, for callers that hand records to another thread.
+     */
+    public HandRecord copy() {
+        HandRecord copy = new HandRecord();
+        copy.reset(roomCode, handNumber, startedAt, complete, smallBlindPosition, seatCount);
+        for (int seat = 0; seat < seatCount; seat++) {
+            copy.setChips(seat, startingChips[seat], finalChips[seat]);
+        }
+        copy.winnerMask = winnerMask;
+        for (int i = 0; i < actionCount; i++) {
+            copy.addAction(getActionSeat(i), getActionCode(i), actionAmounts[i], getActionCard(i), actionOffsets[i]);
+        }
+        return copy;
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    public int getHandNumber() {
+        return handNumber;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getSmallBlindPosition() {
+        return smallBlindPosition;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public int getStartingChips(int seat) {
+        return startingChips[seat];
+    }
+
+    public int getFinalChips(int seat) {
+        return finalChips[seat];
+    }
+
+    public int getWinnerMask() {
+        return winnerMask;
+    }
+
+    public boolean isWinner(int seat) {
+        return (winnerMask & (1 << seat)) != 0;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    public int getActionSeat(int index) {
+        return actionSeats[index] & 0xFF;
+    }
+
+    public int getActionCode(int index) {
+        return actionCodes[index] & 0xFF;
+    }
+
+    public int getActionAmount(int index) {
+        return actionAmounts[index];
+    }
+
+    public int getActionCard(int index) {
+        return actionCards[index] & 0xFF;
+    }
+
+    public int getActionOffset(int index) {
+        return actionOffsets[index];
+    }
+}
@@ -0,0 +1,132 @@
+package com.edwn.unihack.util.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+
+/**
+ * Accumulates hands column by column and writes them out as one compressed segment file.
+ * <p>
+ * Segment layout: {@code int magic, int handCount, int actionCount, byte columnCount}, then for
+ * every {@link Column} in order {@code byte id, int rawLength, int compressedLength, bytes},
+ * each column deflated on its own. Not thread-safe.
+ */
+public class HandSegmentWriter {
+    static final int MAGIC = 0x55485331; // "UHS1"
+
+    private final ColumnBuffer[] columns = new ColumnBuffer[Column.values().length];
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private byte[] compressed = new byte[64 * 1024];
+    private int handCount;
+    private int actionCount;
+    private long previousHandNumber;
+    private long previousStartedAt;
+
+    public HandSegmentWriter() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new ColumnBuffer(4096);
+        }
+    }
+
+    public void append(HandRecord hand) {
+        byte[] code = hand.getRoomCode().getBytes(StandardCharsets.US_ASCII);
+        column(Column.ROOM_CODE).writeVarLong(code.length);
+        column(Column.ROOM_CODE).writeBytes(code, 0, code.length);
+
+        column(Column.HAND_NUMBER).writeZigZag(hand.getHandNumber() - previousHandNumber);
+        column(Column.STARTED_AT).writeZigZag(hand.getStartedAt() - previousStartedAt);
+        previousHandNumber = hand.getHandNumber();
+        previousStartedAt = hand.getStartedAt();
+
+        column(Column.FLAGS).writeByte(hand.isComplete() ? 1 : 0);
+        column(Column.SEATING).writeByte(hand.getSeatCount());
+        column(Column.SEATING).writeByte(hand.getSmallBlindPosition());
+
+        for (int seat = 0; seat < hand.getSeatCount(); seat++) {
+            column(Column.CHIPS_START).writeVarLong(hand.getStartingChips(seat));
+            column(Column.CHIPS_DELTA).writeZigZag((long) hand.getFinalChips(seat) - hand.getStartingChips(seat));
+        }
+        column(Column.WINNERS).writeVarLong(hand.getWinnerMask());
+
+        column(Column.ACTION_COUNT).writeVarLong(hand.getActionCount());
+        int previousOffset = 0;
+        for (int i = 0; i < hand.getActionCount(); i++) {
+            column(Column.ACTION_SEAT).writeByte(hand.getActionSeat(i));
+            column(Column.ACTION_CODE).writeByte(hand.getActionCode(i));
+            column(Column.ACTION_AMOUNT).writeVarLong(hand.getActionAmount(i));
+            column(Column.ACTION_CARD).writeByte(hand.getActionCard(i));
+            column(Column.ACTION_TIME).writeZigZag(hand.getActionOffset(i) - previousOffset);
+            previousOffset = hand.getActionOffset(i);
+        }
+
+        handCount++;
+        actionCount += hand.getActionCount();
+    }
+
+    public int getHandCount() {
+        return handCount;
+    }
+
+    /**
+     * Writes the buffered hands to {@code target} (via a temporary file, so readers never see a
+     * partial segment) and resets the writer.
+     */
+    public void writeTo(Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(handCount);
+            out.writeInt(actionCount);
+            out.writeByte(columns.length);
+
+            for (Column column : Column.values()) {
+                writeColumn(out, column.ordinal(), columns[column.ordinal()]);
+            }
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        clear();
+    }
+
+    public void clear() {
+        for (ColumnBuffer column : columns) {
+            column.clear();
+        }
+        handCount = 0;
+        actionCount = 0;
+        previousHandNumber = 0;
+        previousStartedAt = 0;
+    }
+
+    private void writeColumn(DataOutputStream out, int id, ColumnBuffer column) throws IOException {
+        deflater.reset();
+        deflater.setInput(column.array(), 0, column.size());
+        deflater.finish();
+
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                byte[] grown = new byte[compressed.length * 2];
+                System.arraycopy(compressed, 0, grown, 0, length);
+                compressed = grown;
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+
+        out.writeByte(id);
+        out.writeInt(column.size());
+        out.writeInt(length);
+        ((OutputStream) out).write(compressed, 0, length);
+    }
+
+    private ColumnBuffer column(Column column) {
+        return columns[column.ordinal()];
+    }
+}
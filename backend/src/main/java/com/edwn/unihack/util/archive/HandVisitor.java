@@ -0,0 +1,10 @@
+package com.edwn.unihack.util.archive;
+
+/**
+ * Callback for archive scans. The record is reused between calls.
+ */
+@FunctionalInterface
+public interface HandVisitor {
+
+    void visit(HandRecord hand);
+}
@@ -0,0 +1,54 @@
+// backend/src/main/java/com/edwn/unihack/util/concurrent/SerialExecutor.java
+package com.edwn.unihack.util.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one at a time, in submission order, on a shared executor. Many serial executors
+ * can share a small pool, which gives each of them actor-style single-threaded state without a
+ * thread or a lock of its own.
+ */
+public class SerialExecutor implements Executor {
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Serial task failed: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            // A task may have been added after the last poll but before the flag was cleared
+            if (!tasks.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
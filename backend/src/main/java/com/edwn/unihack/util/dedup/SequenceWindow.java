@@ -0,0 +1,56 @@
+// backend/src/main/java/com/edwn/unihack/util/dedup/SequenceWindow.java
+package com.edwn.unihack.util.dedup;
+
+/**
+ * Remembers which of a sender's last {@link #SIZE} sequence numbers have been handled, and a
+ * small result code for each, in a bitmap anchored at the highest number seen. Numbers may
+ * arrive out of order inside the window; anything a little older than the window is refused.
+ * A number more than {@link #RESTART_GAP} below the highest means the sender started counting
+ * again, e.g. a scanner restarted with the same id, so the window starts over from it.
+ * Not thread-safe.
+ */
+public final class SequenceWindow {
+    public static final int SIZE = 64;
+    public static final int NEW = -1; // Not seen yet, handle it and record the result
+    public static final int TOO_OLD = -2; // Fell out of the window, can't tell if it was seen
+    public static final long RESTART_GAP = 16 * SIZE; // No retry comes this late
+
+    private long highest = -1;
+    private long seen; // Bit i set: highest - i was handled
+    private final byte[] results = new byte[SIZE]; // By sequence number mod SIZE
+
+    /**
+     * @return the result recorded for this sequence number, {@link #NEW} or {@link #TOO_OLD}
+     */
+    public int lookup(long seq) {
+        if (seq > highest) {
+            return NEW;
+        }
+        long age = highest - seq;
+        if (age > RESTART_GAP) {
+            return NEW;
+        }
+        if (age >= SIZE) {
+            return TOO_OLD;
+        }
+        return (seen & (1L << age)) != 0 ? results[(int) (seq & (SIZE - 1))] : NEW;
+    }
+
+    // Marks a sequence number as handled; result must fit in a byte
+    public void record(long seq, int result) {
+        if (highest - seq > RESTART_GAP) {
+            highest = -1;
+            seen = 0;
+        }
+        if (seq > highest) {
+            long shift = highest < 0 ? SIZE : seq - highest;
+            seen = shift >= SIZE ? 0 : seen << shift;
+            highest = seq;
+        }
+        long age = highest - seq;
+        if (age < SIZE) {
+            seen |= 1L << age;
+            results[(int) (seq & (SIZE - 1))] = (byte) result;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+// backend/src/main/java/com/edwn/unihack/util/shuffle/ShuffledDeck.java
+package com.edwn.unihack.util.shuffle;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A 52-card deck of card ids, shuffled in place with Fisher-Yates or loaded with an order
+ * shuffled elsewhere. The same seed always deals the same sequence of hands. Not thread-safe.
+ */
+public final class ShuffledDeck {
+    public static final int SIZE = 52;
+    public static final int EMPTY = -1;
+
+    private final byte[] cards = new byte[SIZE];
+    private final SplittableRandom random;
+    private int position = SIZE;
+
+    // random may be null for a deck that is only ever loaded
+    public ShuffledDeck(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public void shuffle() {
+        shuffle(cards, random);
+        position = 0;
+    }
+
+    // Starts over with a shuffled order of all SIZE card ids
+    public void load(byte[] order) {
+        System.arraycopy(order, 0, cards, 0, SIZE);
+        position = 0;
+    }
+
+    // Fills cards with a uniformly random order of the SIZE card ids
+    public static void shuffle(byte[] cards, RandomGenerator random) {
+        for (int i = 0; i < SIZE; i++) {
+            cards[i] = (byte) i;
+        }
+        for (int i = SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    /**
+     * @return the next card id, or {@link #EMPTY} once the deck is used up
+     */
+    public int next() {
+        return position < SIZE ? cards[position++] : EMPTY;
+    }
+
+    // How many cards have been dealt from the current order
+    public int position() {
+        return position;
+    }
+
+    // Goes back to a position, so the same cards are dealt from there again
+    public void seek(int position) {
+        this.position = position;
+    }
+
+    public int remaining() {
+        return SIZE - position;
+    }
+}
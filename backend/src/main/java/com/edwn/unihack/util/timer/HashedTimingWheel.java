@@ -0,0 +1,229 @@
+package com.edwn.unihack.util.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hashed timing wheel (Varghese and Lauck) driven by a single worker thread.
+ * <p>
+ * Scheduling and cancelling are O(1): new timeouts are handed to the worker through a
+ * lock-free queue and linked into the bucket for their deadline, with a round counter
+ * for deadlines further away than one revolution. Each tick only visits one bucket.
+ * Expired tasks are dispatched to the supplied executor so slow tasks never hold up the wheel.
+ */
+public class HashedTimingWheel {
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final Executor executor;
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * Creates and starts a wheel.
+     *
+     * @param tickDuration granularity of the wheel
+     * @param unit         unit of {@code tickDuration}
+     * @param wheelSize    number of buckets, rounded up to a power of two
+     * @param executor     executor that runs expired tasks
+     * @param threadName   name of the worker thread
+     */
+    public HashedTimingWheel(long tickDuration, TimeUnit unit, int wheelSize, Executor executor, String threadName) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size == 0) size = 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - startTime;
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.add(timeout);
+        pendingCount.incrementAndGet();
+        return timeout;
+    }
+
+    /**
+     * Number of timeouts scheduled but not yet linked into a bucket.
+     */
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+
+            processCancelled();
+            transferPending();
+            expire(wheel[(int) (tick & mask)], now);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            long sleepMs = (deadline - now + 999_999) / 1_000_000;
+
+            if (sleepMs <= 0) {
+                return now;
+            }
+
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            timeout.unlink();
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                break;
+            }
+            pendingCount.decrementAndGet();
+
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // Deadlines already in the past go into the current bucket
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket, long now) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+
+            if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                if (timeout.deadline <= now && timeout.expire()) {
+                    dispatch(timeout);
+                } else if (!timeout.isCancelled()) {
+                    // Not due yet within this tick, keep it for the next revolution
+                    wheel[(int) ((tick + 1) & mask)].add(timeout);
+                }
+            } else if (timeout.isCancelled()) {
+                bucket.remove(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+
+            timeout = next;
+        }
+    }
+
+    private void dispatch(Timeout timeout) {
+        try {
+            executor.execute(timeout.task);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to dispatch timer task: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked list of timeouts sharing a wheel slot.
+     */
+    static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.edwn.unihack.util.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Handle for a task scheduled on a {@link HashedTimingWheel}.
+ * Instances double as the intrusive list nodes of a wheel bucket, so scheduling
+ * and cancelling never allocate beyond the handle itself.
+ */
+public final class Timeout {
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    final HashedTimingWheel wheel;
+    final Runnable task;
+    final long deadline; // nanos relative to the wheel's start time
+    long remainingRounds;
+
+    // Bucket links, only touched by the wheel's worker thread
+    Timeout next;
+    Timeout prev;
+    HashedTimingWheel.Bucket bucket;
+
+    private volatile int state = ST_INIT;
+
+    Timeout(HashedTimingWheel wheel, Runnable task, long deadline) {
+        this.wheel = wheel;
+        this.task = task;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the task if it has not fired yet.
+     *
+     * @return true if this call cancelled the task
+     */
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+        wheel.cancelled.add(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == ST_EXPIRED;
+    }
+
+    boolean expire() {
+        return STATE.compareAndSet(this, ST_INIT, ST_EXPIRED);
+    }
+
+    void unlink() {
+        if (bucket != null) {
+            bucket.remove(this);
+        }
+    }
+}
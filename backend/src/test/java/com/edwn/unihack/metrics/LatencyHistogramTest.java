@@ -0,0 +1,94 @@
+// backend/src/test/java/com/edwn/unihack/metrics/LatencyHistogramTest.java
+package com.edwn.unihack.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    private static final int LAST_BUCKET = LatencyHistogram.bucketOf(Long.MAX_VALUE);
+
+    @Test
+    void smallValuesHaveTheirOwnBuckets() {
+        for (int value = 0; value < 32; value++) {
+            assertEquals(value, LatencyHistogram.bucketOf(value));
+            assertEquals(value, LatencyHistogram.upperBoundOf(value));
+        }
+    }
+
+    @Test
+    void bucketsCoverTheLongRangeWithoutGaps() {
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertTrue(LAST_BUCKET < LatencyHistogram.BUCKETS);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LAST_BUCKET));
+
+        for (int bucket = 0; bucket < LAST_BUCKET; bucket++) {
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(upper), "bucket " + bucket);
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(upper + 1), "bucket " + bucket);
+        }
+    }
+
+    @Test
+    void upperBoundIsWithinASixteenthOfTheValue() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertTrue(upper >= value, "value " + value);
+            assertTrue(upper - value <= value / 16, "value " + value);
+        }
+    }
+
+    @Test
+    void quantilesComeFromBucketBoundsCappedAtTheMax() {
+        LatencyHistogram histogram = new LatencyHistogram("test_seconds", "Test", 1e-9);
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5); // Recorded as 0
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(500_500, snapshot.getSum());
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtQuantile(0));
+
+        long median = snapshot.getValueAtQuantile(0.5);
+        assertTrue(median >= 500 && median <= 500 + 500 / 16, "median " + median);
+        assertEquals(1000, snapshot.getValueAtQuantile(1));
+    }
+
+    @Test
+    void emptySnapshotReadsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram("test_seconds", "Test", 1e-9).snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    void stripesAddUpAcrossThreads() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram("test_seconds", "Test", 1e-9);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(8L * (9_999L * 10_000 / 2), snapshot.getSum());
+        assertEquals(9_999, snapshot.getMax());
+    }
+}
@@ -0,0 +1,264 @@
+// backend/src/test/java/com/edwn/unihack/tournament/TableBalancerTest.java
+package com.edwn.unihack.tournament;
+
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableBalancerTest {
+    private final Tournament tournament = Tournament.builder().build();
+
+    @Test
+    void breaksTheShortestTableWhenPlayersFitOnFewer() {
+        List<TournamentTable> tables = tables(3, 3, 2);
+
+        List<TournamentTable> sources = TableBalancer.rebalance(tables, 4);
+
+        TournamentTable broken = tables.get(2);
+        assertEquals(List.of(broken), sources);
+        assertTrue(broken.breaking);
+        assertEquals(0, broken.expectedPlayers);
+        assertEquals(0, broken.reservedSeats);
+        // Its two players are expected at the other tables, one each
+        assertEquals(4, tables.get(0).expectedPlayers);
+        assertEquals(1, tables.get(0).reservedSeats);
+        assertEquals(4, tables.get(1).expectedPlayers);
+        assertEquals(1, tables.get(1).reservedSeats);
+    }
+
+    @Test
+    void longestTableOwesPlayersUntilBalanced() {
+        List<TournamentTable> tables = tables(6, 2);
+
+        List<TournamentTable> sources = TableBalancer.rebalance(tables, 6);
+
+        assertEquals(List.of(tables.get(0)), sources);
+        assertEquals(2, tables.get(0).owedPlayers.get());
+        assertEquals(4, tables.get(0).expectedPlayers);
+        assertEquals(4, tables.get(1).expectedPlayers);
+        assertEquals(2, tables.get(1).reservedSeats);
+    }
+
+    @Test
+    void balancedTablesAreLeftAlone() {
+        List<TournamentTable> tables = tables(4, 3, 3);
+
+        assertTrue(TableBalancer.rebalance(tables, 4).isEmpty());
+        for (TournamentTable table : tables) {
+            assertFalse(table.breaking);
+            assertEquals(0, table.owedPlayers.get());
+            assertEquals(0, table.reservedSeats);
+        }
+    }
+
+    @Test
+    void seatForTakesAReservedSeatFirst() {
+        List<TournamentTable> tables = tables(3, 4);
+        tables.get(1).reservedSeats = 1;
+
+        assertSame(tables.get(1), TableBalancer.seatFor(tables));
+        assertEquals(0, tables.get(1).reservedSeats);
+        assertEquals(4, tables.get(1).expectedPlayers);
+
+        // With nothing reserved, the shortest table gets a new seat
+        assertSame(tables.get(0), TableBalancer.seatFor(tables));
+        assertEquals(4, tables.get(0).expectedPlayers);
+    }
+
+    @Test
+    void seatForSkipsBreakingTables() {
+        List<TournamentTable> tables = tables(1, 5);
+        tables.get(0).breaking = true;
+
+        assertSame(tables.get(1), TableBalancer.seatFor(tables));
+
+        tables.get(1).breaking = true;
+        assertNull(TableBalancer.seatFor(tables));
+    }
+
+    @Test
+    void releaseReservationTakesFromTheLongestReservingTable() {
+        List<TournamentTable> tables = tables(4, 5, 6);
+        tables.get(0).reservedSeats = 1;
+        tables.get(1).reservedSeats = 2;
+
+        TableBalancer.releaseReservation(tables);
+
+        assertEquals(4, tables.get(1).expectedPlayers);
+        assertEquals(1, tables.get(1).reservedSeats);
+        assertEquals(6, tables.get(2).expectedPlayers);
+
+        TableBalancer.releaseReservation(tables);
+        TableBalancer.releaseReservation(tables);
+        TableBalancer.releaseReservation(tables); // Nothing left to release
+        assertEquals(3, tables.get(0).expectedPlayers);
+        assertEquals(3, tables.get(1).expectedPlayers);
+        assertEquals(0, tables.get(0).reservedSeats + tables.get(1).reservedSeats);
+    }
+
+    // Plays random bust-outs and table breaks through the balancer the way TournamentService
+    // does, and checks the seat counts against the players actually seated
+    @Test
+    void seatCountsAddUpThroughBustOuts() {
+        for (int seed = 0; seed < 2000; seed++) {
+            new BustOutRun(seed).play();
+        }
+    }
+
+    private List<TournamentTable> tables(int... expectedPlayers) {
+        List<TournamentTable> tables = new ArrayList<>();
+        for (int expected : expectedPlayers) {
+            TournamentTable table = new TournamentTable(GameRoom.createNew(), tournament);
+            table.expectedPlayers = expected;
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    private final class BustOutRun {
+        private final int seed;
+        private final Random random;
+        private final int tableSize;
+        private final List<TournamentTable> tables = new ArrayList<>();
+        private final Map<TournamentTable, Integer> seated = new HashMap<>();
+        private final Map<TournamentTable, Integer> arriving = new HashMap<>();
+        private int remaining;
+
+        BustOutRun(int seed) {
+            this.seed = seed;
+            this.random = new Random(seed);
+            this.tableSize = 2 + random.nextInt(8);
+            this.remaining = 2 + random.nextInt(60);
+
+            // Dealt round-robin, as TournamentService seats entrants
+            int tableCount = (remaining + tableSize - 1) / tableSize;
+            for (int i = 0; i < tableCount; i++) {
+                TournamentTable table = new TournamentTable(GameRoom.createNew(), tournament);
+                tables.add(table);
+                seated.put(table, 0);
+                arriving.put(table, 0);
+            }
+            for (int i = 0; i < remaining; i++) {
+                TournamentTable table = tables.get(i % tableCount);
+                seated.merge(table, 1, Integer::sum);
+                table.expectedPlayers++;
+            }
+        }
+
+        void play() {
+            for (int step = 0; remaining > 1 && step < 10_000; step++) {
+                TournamentTable table = tables.get(random.nextInt(tables.size()));
+                int players = seated.get(table);
+                if (random.nextInt(3) == 0) {
+                    nextHand(table);
+                } else if (players >= 2) {
+                    // Mostly single knockouts, sometimes most of the table at once
+                    int most = Math.min(players - 1, remaining - 1);
+                    handCompleted(table, random.nextInt(4) == 0 ? 1 + random.nextInt(most) : 1);
+                }
+                checkCounts(step);
+                if (random.nextInt(20) == 0) {
+                    settle(step);
+                }
+            }
+        }
+
+        // TournamentService.handCompleted
+        private void handCompleted(TournamentTable table, int knockedOut) {
+            int stillSeated = seated.get(table) - knockedOut;
+            seated.put(table, stillSeated);
+            remaining -= knockedOut;
+            for (int i = 0; i < knockedOut; i++) {
+                if (table.breaking) {
+                    TableBalancer.releaseReservation(tables);
+                } else {
+                    table.expectedPlayers--;
+                }
+            }
+            if (!table.breaking) {
+                int owed = table.owedPlayers.getAndUpdate(count -> Math.min(count, stillSeated));
+                for (int i = stillSeated; i < owed; i++) {
+                    table.expectedPlayers++;
+                    TableBalancer.releaseReservation(tables);
+                }
+            }
+            if (remaining > 1) {
+                TableBalancer.rebalance(tables, tableSize);
+            }
+        }
+
+        // TournamentService.applySeatChanges, then the moves it queues
+        private void nextHand(TournamentTable table) {
+            int players = seated.get(table) + arriving.put(table, 0);
+            int owed = table.owedPlayers.getAndSet(0);
+            int leaving = table.breaking ? players : Math.min(owed, players);
+            seated.put(table, players - leaving);
+            for (int i = 0; i < leaving; i++) {
+                TournamentTable destination = TableBalancer.seatFor(tables);
+                arriving.merge(destination, 1, Integer::sum);
+            }
+            if (!table.breaking && owed > leaving) {
+                table.expectedPlayers += owed - leaving;
+                for (int i = leaving; i < owed; i++) {
+                    TableBalancer.releaseReservation(tables);
+                }
+                TableBalancer.rebalance(tables, tableSize);
+            }
+            if (table.breaking && players == leaving && arriving.get(table) == 0) {
+                tables.remove(table);
+            }
+        }
+
+        private void checkCounts(int step) {
+            int expected = 0;
+            for (TournamentTable table : tables) {
+                if (table.breaking) {
+                    continue;
+                }
+                String where = "seed " + seed + " step " + step;
+                assertTrue(table.expectedPlayers >= 0, where);
+                assertTrue(table.reservedSeats >= 0, where);
+                assertTrue(table.reservedSeats <= table.expectedPlayers, where);
+                expected += table.expectedPlayers;
+            }
+            assertEquals(remaining, expected, "seed " + seed + " step " + step);
+        }
+
+        // Lets every table reach its next hand until nobody is left to move
+        private void settle(int step) {
+            for (int round = 0; round < 10; round++) {
+                for (TournamentTable table : new ArrayList<>(tables)) {
+                    nextHand(table);
+                }
+            }
+
+            String where = "seed " + seed + " step " + step;
+            int fewest = Integer.MAX_VALUE;
+            int most = 0;
+            for (TournamentTable table : tables) {
+                int players = seated.get(table);
+                assertFalse(table.breaking, where);
+                assertEquals(0, table.owedPlayers.get(), where);
+                assertEquals(0, table.reservedSeats, where);
+                assertEquals(0, (int) arriving.get(table), where);
+                assertEquals(players, table.expectedPlayers, where);
+                fewest = Math.min(fewest, players);
+                most = Math.max(most, players);
+            }
+            assertTrue(most - fewest <= 1, where);
+            assertTrue(most <= tableSize, where);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+// backend/src/test/java/com/edwn/unihack/tournament/TournamentServiceTest.java
+package com.edwn.unihack.tournament;
+
+import com.edwn.unihack.model.GameRoom;
+import com.edwn.unihack.model.Player;
+import com.edwn.unihack.model.Tournament;
+import com.edwn.unihack.service.GameRoomService;
+import com.edwn.unihack.service.PlayerStatsService;
+import com.edwn.unihack.util.timer.HashedTimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TournamentServiceTest {
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private HashedTimingWheel timingWheel;
+    private GameRoomService gameRoomService;
+    private TournamentService tournamentService;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        // Scheduled hands and level-ups are dropped; each test plays its hands itself
+        timingWheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 64, task -> {
+        }, "Test-Timer");
+        gameRoomService = mock(GameRoomService.class);
+        when(gameRoomService.createTournamentTable(anyString(), anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            GameRoom room = GameRoom.createNew();
+            room.setTournamentId(invocation.getArgument(0));
+            rooms.put(room.getId(), room);
+            return room;
+        });
+        tournamentService = new TournamentService(gameRoomService, mock(PlayerStatsService.class), timingWheel, 2, 3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tournamentService.shutdown();
+        timingWheel.stop();
+    }
+
+    @Test
+    void knockoutAtABreakingTableGivesBackAReservedSeat() throws Exception {
+        List<GameRoom> tables = start(9, 3);
+        knockOut(tables.get(0), 1);
+        knockOut(tables.get(1), 1);
+        knockOut(tables.get(2), 1);
+
+        // Six players fit on two tables, so the first of the shortest breaks
+        TournamentTable breaking = tournamentService.findTable(tables.get(0).getId());
+        assertTrue(breaking.breaking);
+        assertSeatCountsAddUp();
+
+        // One of its two players goes out before they can move
+        knockOut(tables.get(0), 1);
+        assertEquals(5, tournament.getRemainingPlayers());
+        assertSeatCountsAddUp();
+
+        nextHand(tables.get(0));
+        verify(gameRoomService).disbandRoom(tables.get(0).getId());
+        assertNull(tournamentService.findTable(tables.get(0).getId()));
+        assertEquals(List.of(tables.get(1).getId(), tables.get(2).getId()), tournament.getTableCodes());
+
+        nextHand(tables.get(1));
+        nextHand(tables.get(2));
+        assertEveryoneSeated();
+    }
+
+    @Test
+    void knockedOutOwedPlayersCancelTheirMoves() throws Exception {
+        List<GameRoom> tables = start(12, 6);
+        knockOut(tables.get(1), 4);
+
+        // Eight players left on tables of six and two, so the first owes the second two
+        TournamentTable first = tournamentService.findTable(tables.get(0).getId());
+        assertEquals(2, first.owedPlayers.get());
+        assertSeatCountsAddUp();
+
+        // Five of its six go out before it hands anyone over, leaving one to move
+        knockOut(tables.get(0), 5);
+        assertEquals(3, tournament.getRemainingPlayers());
+        assertEquals(1, first.owedPlayers.get());
+        assertSeatCountsAddUp();
+
+        nextHand(tables.get(0));
+        nextHand(tables.get(1));
+        assertEveryoneSeated();
+    }
+
+    private List<GameRoom> start(int entrants, int tableSize) throws Exception {
+        tournament = tournamentService.createTournament("Test", 1000, tableSize, 3600);
+        for (int i = 0; i < entrants; i++) {
+            assertNotNull(tournamentService.register(tournament.getId(), "Player " + i, true, false, false, null).get());
+        }
+        assertTrue(tournamentService.startTournament(tournament.getId()).get());
+
+        List<GameRoom> tables = new ArrayList<>();
+        for (String code : tournament.getTableCodes()) {
+            tables.add(rooms.get(code));
+        }
+        return tables;
+    }
+
+    // Ends a hand at the table in which the first count players still in lost everything
+    private void knockOut(GameRoom room, int count) throws Exception {
+        synchronized (room) {
+            int busted = 0;
+            for (Player player : room.getPlayers()) {
+                if (busted < count && player.getChips() > 0) {
+                    player.setChips(0);
+                    busted++;
+                }
+            }
+            assertEquals(count, busted);
+            tournamentService.onHandComplete(room);
+        }
+        awaitTournament();
+    }
+
+    private void nextHand(GameRoom room) throws Exception {
+        synchronized (room) {
+            tournamentService.beforeHandStart(room);
+        }
+        awaitTournament();
+    }
+
+    // Registration is closed, so this only waits for the tournament's earlier tasks
+    private void awaitTournament() throws Exception {
+        assertNull(tournamentService.register(tournament.getId(), "Late", true, false, false, null).get());
+    }
+
+    private void assertSeatCountsAddUp() {
+        int expected = 0;
+        for (String code : tournament.getTableCodes()) {
+            TournamentTable table = tournamentService.findTable(code);
+            if (table.breaking) {
+                continue;
+            }
+            assertTrue(table.expectedPlayers >= 0);
+            assertTrue(table.reservedSeats >= 0);
+            expected += table.expectedPlayers;
+        }
+        assertEquals(tournament.getRemainingPlayers(), expected);
+    }
+
+    private void assertEveryoneSeated() {
+        int seated = 0;
+        for (String code : tournament.getTableCodes()) {
+            TournamentTable table = tournamentService.findTable(code);
+            assertEquals(table.expectedPlayers, rooms.get(code).getPlayers().size());
+            assertEquals(0, table.reservedSeats);
+            assertEquals(0, table.owedPlayers.get());
+            seated += rooms.get(code).getPlayers().size();
+        }
+        assertEquals(tournament.getRemainingPlayers(), seated);
+    }
+}
@@ -0,0 +1,93 @@
+// backend/src/test/java/com/edwn/unihack/util/archive/ColumnBufferTest.java
+package com.edwn.unihack.util.archive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnBufferTest {
+    private static final long[] VALUES = {
+            0, 1, 127, 128, 255, 16_383, 16_384, Integer.MAX_VALUE, 1L << 35, Long.MAX_VALUE,
+            -1, -64, -65, Integer.MIN_VALUE, Long.MIN_VALUE
+    };
+
+    private final ColumnBuffer buffer = new ColumnBuffer(0);
+    private final ColumnReader reader = new ColumnReader();
+
+    @Test
+    void varLongsRoundTrip() {
+        for (long value : VALUES) {
+            buffer.writeVarLong(value);
+        }
+        reader.reset(buffer.array(), buffer.size());
+        for (long value : VALUES) {
+            assertEquals(value, reader.readVarLong());
+        }
+    }
+
+    @Test
+    void varLongsTakeSevenBitsAByte() {
+        buffer.writeVarLong(127);
+        assertEquals(1, buffer.size());
+        buffer.writeVarLong(128);
+        assertEquals(3, buffer.size());
+        buffer.writeVarLong(-1);
+        assertEquals(13, buffer.size());
+    }
+
+    @Test
+    void zigZagKeepsSmallNegativesShort() {
+        for (long value : VALUES) {
+            buffer.writeZigZag(value);
+        }
+        reader.reset(buffer.array(), buffer.size());
+        for (long value : VALUES) {
+            assertEquals(value, reader.readZigZag());
+        }
+
+        buffer.clear();
+        buffer.writeZigZag(-64);
+        buffer.writeZigZag(63);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        buffer.writeByte(0xAB);
+        buffer.writeBytes(bytes, 0, bytes.length);
+        assertEquals(1001, buffer.size());
+
+        reader.reset(buffer.array(), buffer.size());
+        assertEquals(0xAB, reader.readByte());
+        byte[] read = new byte[bytes.length];
+        reader.readBytes(read, 0, read.length);
+        assertArrayEquals(bytes, read);
+    }
+
+    @Test
+    void readerStopsAtTheLimit() {
+        buffer.writeByte(1);
+        buffer.writeByte(2);
+        // The array behind the buffer is larger than what was written
+        reader.reset(buffer.array(), buffer.size());
+
+        assertEquals(1, reader.readByte());
+        assertThrows(IllegalStateException.class, () -> reader.readBytes(new byte[2], 0, 2));
+        assertEquals(2, reader.readByte());
+        assertThrows(IllegalStateException.class, reader::readByte);
+    }
+
+    @Test
+    void truncatedVarLongIsExhausted() {
+        buffer.writeVarLong(1 << 20);
+        reader.reset(buffer.array(), buffer.size() - 1);
+
+        assertThrows(IllegalStateException.class, reader::readVarLong);
+    }
+}
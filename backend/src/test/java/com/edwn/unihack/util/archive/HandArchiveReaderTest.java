@@ -0,0 +1,169 @@
+// backend/src/test/java/com/edwn/unihack/util/archive/HandArchiveReaderTest.java
+package com.edwn.unihack.util.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandArchiveReaderTest {
+    @TempDir
+    Path directory;
+
+    private final HandSegmentWriter writer = new HandSegmentWriter();
+    private final HandArchiveReader reader = new HandArchiveReader();
+
+    @Test
+    void handsRoundTripThroughASegment() throws IOException {
+        List<HandRecord> hands = randomHands(new Random(42), 500);
+        for (HandRecord hand : hands) {
+            writer.append(hand);
+        }
+        assertEquals(500, writer.getHandCount());
+        writer.writeTo(directory.resolve("0001" + HandArchiveReader.SEGMENT_SUFFIX));
+        assertEquals(0, writer.getHandCount());
+
+        List<HandRecord> read = new ArrayList<>();
+        assertEquals(500, reader.scan(directory, hand -> read.add(hand.copy())));
+        assertHandsEqual(hands, read);
+    }
+
+    @Test
+    void scanVisitsSegmentsInWriteOrder() throws IOException {
+        List<HandRecord> hands = randomHands(new Random(7), 30);
+        writeSegment("0002", hands.subList(10, 30));
+        writeSegment("0001", hands.subList(0, 10));
+        Files.writeString(directory.resolve("notes.txt"), "not a segment");
+        Files.writeString(directory.resolve("0003" + HandArchiveReader.SEGMENT_SUFFIX + ".tmp"), "partial");
+
+        assertEquals(List.of(directory.resolve("0001.seg"), directory.resolve("0002.seg")),
+                HandArchiveReader.listSegments(directory));
+
+        List<HandRecord> read = new ArrayList<>();
+        assertEquals(30, reader.scan(directory, hand -> read.add(hand.copy())));
+        assertHandsEqual(hands, read);
+    }
+
+    @Test
+    void scanStopsAtTheLimit() throws IOException {
+        List<HandRecord> hands = randomHands(new Random(3), 30);
+        writeSegment("0001", hands.subList(0, 10));
+        writeSegment("0002", hands.subList(10, 20));
+        writeSegment("0003", hands.subList(20, 30));
+
+        List<HandRecord> read = new ArrayList<>();
+        assertEquals(15, reader.scan(directory, hand -> read.add(hand.copy()), 15));
+        assertHandsEqual(hands.subList(0, 15), read);
+
+        assertEquals(30, reader.scan(directory, hand -> {
+        }, 0));
+    }
+
+    @Test
+    void missingDirectoryHasNoHands() throws IOException {
+        Path missing = directory.resolve("missing");
+
+        assertTrue(HandArchiveReader.listSegments(missing).isEmpty());
+        assertEquals(0, reader.scan(missing, hand -> {
+        }));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSegments() throws IOException {
+        Path segment = directory.resolve("0001" + HandArchiveReader.SEGMENT_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(segment))) {
+            out.writeInt(0x12345678);
+            out.writeInt(0);
+        }
+
+        assertThrows(IOException.class, () -> reader.scanSegment(segment, hand -> {
+        }));
+    }
+
+    private void writeSegment(String name, List<HandRecord> hands) throws IOException {
+        for (HandRecord hand : hands) {
+            writer.append(hand);
+        }
+        writer.writeTo(directory.resolve(name + HandArchiveReader.SEGMENT_SUFFIX));
+    }
+
+    // Hands from a few rooms interleaved, so hand numbers and start times also go backwards
+    private static List<HandRecord> randomHands(Random random, int count) {
+        String[] rooms = {"ABCD", "WXYZ", "Q7K2P"};
+        int[] handNumbers = new int[rooms.length];
+        long startedAt = 1_700_000_000_000L;
+        List<HandRecord> hands = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int room = random.nextInt(rooms.length);
+            int seats = 2 + random.nextInt(9);
+            HandRecord hand = new HandRecord();
+            hand.reset(rooms[room], ++handNumbers[room], startedAt - random.nextInt(60_000),
+                    random.nextInt(10) != 0, random.nextInt(seats), seats);
+            startedAt += random.nextInt(120_000);
+
+            int winners = 0;
+            for (int seat = 0; seat < seats; seat++) {
+                int starting = random.nextInt(100_000);
+                int ending = random.nextInt(3) == 0 ? 0 : starting + random.nextInt(20_000) - 10_000;
+                hand.setChips(seat, starting, Math.max(ending, 0));
+                if (random.nextInt(seats) == 0) {
+                    winners |= 1 << seat;
+                }
+            }
+            hand.setWinnerMask(winners);
+
+            int offset = 0;
+            int actions = random.nextInt(90);
+            for (int a = 0; a < actions; a++) {
+                boolean dealer = random.nextInt(5) == 0;
+                // Offsets can step back a little, which the time column stores as a negative delta
+                offset = Math.max(0, offset + random.nextInt(30_000) - 1_000);
+                hand.addAction(dealer ? HandRecord.NO_SEAT : random.nextInt(seats), random.nextInt(12),
+                        dealer ? 0 : random.nextInt(50_000), dealer ? random.nextInt(52) : HandRecord.NO_CARD, offset);
+            }
+            hands.add(hand);
+        }
+        return hands;
+    }
+
+    private static void assertHandsEqual(List<HandRecord> expected, List<HandRecord> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            HandRecord want = expected.get(i);
+            HandRecord got = actual.get(i);
+            String where = "hand " + i;
+
+            assertEquals(want.getRoomCode(), got.getRoomCode(), where);
+            assertEquals(want.getHandNumber(), got.getHandNumber(), where);
+            assertEquals(want.getStartedAt(), got.getStartedAt(), where);
+            assertEquals(want.isComplete(), got.isComplete(), where);
+            assertEquals(want.getSmallBlindPosition(), got.getSmallBlindPosition(), where);
+            assertEquals(want.getSeatCount(), got.getSeatCount(), where);
+            for (int seat = 0; seat < want.getSeatCount(); seat++) {
+                assertEquals(want.getStartingChips(seat), got.getStartingChips(seat), where);
+                assertEquals(want.getFinalChips(seat), got.getFinalChips(seat), where);
+            }
+            assertEquals(want.getWinnerMask(), got.getWinnerMask(), where);
+
+            assertEquals(want.getActionCount(), got.getActionCount(), where);
+            for (int a = 0; a < want.getActionCount(); a++) {
+                assertEquals(want.getActionSeat(a), got.getActionSeat(a), where);
+                assertEquals(want.getActionCode(a), got.getActionCode(a), where);
+                assertEquals(want.getActionAmount(a), got.getActionAmount(a), where);
+                assertEquals(want.getActionCard(a), got.getActionCard(a), where);
+                assertEquals(want.getActionOffset(a), got.getActionOffset(a), where);
+            }
+        }
+    }
+}
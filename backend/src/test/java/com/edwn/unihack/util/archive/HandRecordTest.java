@@ -0,0 +1,93 @@
+// backend/src/test/java/com/edwn/unihack/util/archive/HandRecordTest.java
+package com.edwn.unihack.util.archive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandRecordTest {
+
+    @Test
+    void growsForLargeTablesAndLongHands() {
+        HandRecord hand = new HandRecord();
+        hand.reset("ROOM", 1, 1000, true, 0, 12);
+        for (int seat = 0; seat < 12; seat++) {
+            hand.setChips(seat, 100 * seat, 100 * seat + 5);
+        }
+        for (int i = 0; i < 200; i++) {
+            hand.addAction(i % 12, i % 9, i, i % 52, 10 * i);
+        }
+
+        assertEquals(1100, hand.getStartingChips(11));
+        assertEquals(1105, hand.getFinalChips(11));
+        assertEquals(200, hand.getActionCount());
+        assertEquals(199 % 12, hand.getActionSeat(199));
+        assertEquals(199 % 52, hand.getActionCard(199));
+        assertEquals(1990, hand.getActionOffset(199));
+    }
+
+    @Test
+    void byteFieldsReadBackUnsigned() {
+        HandRecord hand = new HandRecord();
+        hand.reset("ROOM", 1, 1000, true, 0, 2);
+        hand.addAction(HandRecord.NO_SEAT, 200, 0, HandRecord.NO_CARD, 0);
+
+        assertEquals(HandRecord.NO_SEAT, hand.getActionSeat(0));
+        assertEquals(200, hand.getActionCode(0));
+        assertEquals(HandRecord.NO_CARD, hand.getActionCard(0));
+    }
+
+    @Test
+    void resetStartsAnEmptyHand() {
+        HandRecord hand = new HandRecord();
+        hand.reset("ROOM", 1, 1000, true, 0, 2);
+        hand.setWinnerMask(0b10);
+        hand.addAction(0, 1, 20, HandRecord.NO_CARD, 5);
+
+        hand.reset("NEXT", 2, 2000, false, 1, 3);
+        assertEquals("NEXT", hand.getRoomCode());
+        assertEquals(2, hand.getHandNumber());
+        assertEquals(2000, hand.getStartedAt());
+        assertFalse(hand.isComplete());
+        assertEquals(1, hand.getSmallBlindPosition());
+        assertEquals(3, hand.getSeatCount());
+        assertEquals(0, hand.getWinnerMask());
+        assertEquals(0, hand.getActionCount());
+    }
+
+    @Test
+    void copyIsUnaffectedByReuse() {
+        HandRecord hand = new HandRecord();
+        hand.reset("ROOM", 7, 1000, true, 1, 3);
+        hand.setChips(0, 500, 0);
+        hand.setChips(1, 500, 1000);
+        hand.setChips(2, 300, 300);
+        hand.setWinnerMask(0b010);
+        hand.addAction(0, 3, 500, HandRecord.NO_CARD, 12);
+        hand.addAction(HandRecord.NO_SEAT, 8, 0, 51, 40);
+
+        HandRecord copy = hand.copy();
+        hand.reset("NEXT", 8, 2000, false, 0, 2);
+        hand.setChips(0, 1, 1);
+        hand.addAction(1, 1, 1, 1, 1);
+
+        assertEquals("ROOM", copy.getRoomCode());
+        assertEquals(7, copy.getHandNumber());
+        assertEquals(1000, copy.getStartedAt());
+        assertTrue(copy.isComplete());
+        assertEquals(1, copy.getSmallBlindPosition());
+        assertEquals(3, copy.getSeatCount());
+        assertEquals(500, copy.getStartingChips(0));
+        assertEquals(0, copy.getFinalChips(0));
+        assertEquals(1000, copy.getFinalChips(1));
+        assertTrue(copy.isWinner(1));
+        assertFalse(copy.isWinner(0));
+        assertEquals(2, copy.getActionCount());
+        assertEquals(500, copy.getActionAmount(0));
+        assertEquals(HandRecord.NO_SEAT, copy.getActionSeat(1));
+        assertEquals(51, copy.getActionCard(1));
+        assertEquals(40, copy.getActionOffset(1));
+    }
+}
@@ -0,0 +1,113 @@
+// backend/src/test/java/com/edwn/unihack/util/dedup/SequenceWindowTest.java
+package com.edwn.unihack.util.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SequenceWindowTest {
+    private final SequenceWindow window = new SequenceWindow();
+
+    @Test
+    void firstRecordAnchorsTheWindow() {
+        assertEquals(SequenceWindow.NEW, window.lookup(0));
+
+        window.record(0, 3);
+        assertEquals(3, window.lookup(0));
+        assertEquals(SequenceWindow.NEW, window.lookup(1));
+    }
+
+    @Test
+    void firstRecordLeavesLowerNumbersUnseen() {
+        window.record(5, 1);
+        for (int seq = 0; seq < 5; seq++) {
+            assertEquals(SequenceWindow.NEW, window.lookup(seq));
+        }
+        assertEquals(1, window.lookup(5));
+
+        // A sender that starts high has nothing older in the window to refuse
+        SequenceWindow late = new SequenceWindow();
+        late.record(1000, 2);
+        assertEquals(2, late.lookup(1000));
+        assertEquals(SequenceWindow.NEW, late.lookup(999));
+        assertEquals(SequenceWindow.TOO_OLD, late.lookup(1000 - SequenceWindow.SIZE));
+    }
+
+    @Test
+    void numbersMayArriveOutOfOrderInsideTheWindow() {
+        window.record(10, 1);
+        window.record(8, 2);
+        window.record(12, 3);
+        window.record(9, 4);
+
+        assertEquals(2, window.lookup(8));
+        assertEquals(4, window.lookup(9));
+        assertEquals(1, window.lookup(10));
+        assertEquals(SequenceWindow.NEW, window.lookup(11));
+        assertEquals(3, window.lookup(12));
+
+        window.record(11, 5);
+        assertEquals(5, window.lookup(11));
+    }
+
+    @Test
+    void oldestNumberStaysUntilTheWindowMovesPastIt() {
+        for (int seq = 0; seq < SequenceWindow.SIZE; seq++) {
+            window.record(seq, seq % 7);
+        }
+        assertEquals(0, window.lookup(0));
+
+        window.record(SequenceWindow.SIZE, 6);
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(0));
+        assertEquals(1, window.lookup(1));
+        assertEquals(6, window.lookup(SequenceWindow.SIZE));
+
+        // Recording it again changes nothing, its slot now belongs to a newer number
+        window.record(0, 2);
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(0));
+        assertEquals(6, window.lookup(SequenceWindow.SIZE));
+    }
+
+    @Test
+    void largeJumpForgetsTheWholeWindow() {
+        window.record(1, 1);
+        window.record(2, 2);
+        window.record(2 + SequenceWindow.SIZE + 5, 3);
+
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(1));
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(2));
+        assertEquals(SequenceWindow.NEW, window.lookup(3 + SequenceWindow.SIZE + 5));
+        assertEquals(SequenceWindow.NEW, window.lookup(1 + SequenceWindow.SIZE + 5));
+    }
+
+    @Test
+    void numbersFarBelowTheHighestAreARestart() {
+        long highest = 5000;
+        window.record(highest, 4);
+
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(highest - SequenceWindow.RESTART_GAP));
+        assertEquals(SequenceWindow.NEW, window.lookup(highest - SequenceWindow.RESTART_GAP - 1));
+        assertEquals(SequenceWindow.NEW, window.lookup(1));
+
+        // The sender counts from the start again, so the window follows it down
+        window.record(1, 7);
+        assertEquals(7, window.lookup(1));
+        assertEquals(SequenceWindow.NEW, window.lookup(0));
+        assertEquals(SequenceWindow.NEW, window.lookup(2));
+        assertEquals(SequenceWindow.NEW, window.lookup(highest));
+
+        window.record(2, 8);
+        assertEquals(7, window.lookup(1));
+        assertEquals(8, window.lookup(2));
+    }
+
+    @Test
+    void recordAtTheRestartGapKeepsTheWindow() {
+        long highest = 5000;
+        window.record(highest, 4);
+
+        window.record(highest - SequenceWindow.RESTART_GAP, 1);
+        assertEquals(4, window.lookup(highest));
+        assertEquals(SequenceWindow.TOO_OLD, window.lookup(highest - SequenceWindow.RESTART_GAP));
+    }
+}
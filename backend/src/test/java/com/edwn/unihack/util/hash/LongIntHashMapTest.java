@@ -0,0 +1,108 @@
+// backend/src/test/java/com/edwn/unihack/util/hash/LongIntHashMapTest.java
+package com.edwn.unihack.util.hash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntHashMapTest {
+
+    @Test
+    void missingKeysReadTheDefault() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertEquals(-1, map.get(42, -1));
+        assertEquals(-1, map.get(0, -1));
+        assertFalse(map.containsKey(42));
+        assertFalse(map.containsKey(0));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void zeroIsAnOrdinaryKey() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        map.put(0, 7);
+        assertTrue(map.containsKey(0));
+        assertEquals(7, map.get(0, -1));
+        assertEquals(1, map.size());
+
+        map.put(0, 8);
+        assertEquals(8, map.get(0, -1));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    void putReplacesAnExistingValue() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        map.put(Long.MIN_VALUE, 1);
+        map.put(Long.MAX_VALUE, 2);
+        map.put(-1, 3);
+        map.put(Long.MIN_VALUE, 4);
+
+        assertEquals(3, map.size());
+        assertEquals(4, map.get(Long.MIN_VALUE, -1));
+        assertEquals(2, map.get(Long.MAX_VALUE, -1));
+        assertEquals(3, map.get(-1, -1));
+    }
+
+    @Test
+    void growsFromATinyTable() {
+        LongIntHashMap map = new LongIntHashMap(0);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i * 3);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i * 3, map.get(i, -1));
+        }
+        assertFalse(map.containsKey(10_000));
+    }
+
+    @Test
+    void keysDifferingOnlyInHighBitsStayApart() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        for (int i = 1; i <= 1000; i++) {
+            map.put((long) i << 40, i);
+        }
+
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i, map.get((long) i << 40, -1));
+        }
+        assertFalse(map.containsKey(1001L << 40));
+    }
+
+    @Test
+    void matchesAHashMap() {
+        Random random = new Random(5);
+        LongIntHashMap map = new LongIntHashMap(8);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            // Mostly a narrow key range, so keys repeat and get replaced
+            long key = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(20_000) - 10_000;
+            if (random.nextBoolean()) {
+                int value = random.nextInt();
+                map.put(key, value);
+                expected.put(key, value);
+            } else {
+                assertEquals((int) expected.getOrDefault(key, Integer.MIN_VALUE), map.get(key, Integer.MIN_VALUE), "key " + key);
+                assertEquals(expected.containsKey(key), map.containsKey(key), "key " + key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals((int) entry.getValue(), map.get(entry.getKey(), Integer.MIN_VALUE), "key " + entry.getKey());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// backend/src/test/java/com/edwn/unihack/util/timer/HashedTimingWheelTest.java
+package com.edwn.unihack.util.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+    private HashedTimingWheel timingWheel;
+
+    @AfterEach
+    void tearDown() {
+        if (timingWheel != null) {
+            timingWheel.stop();
+        }
+    }
+
+    @Test
+    void rejectsBadSizes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel(0, TimeUnit.MILLISECONDS, 8, Runnable::run, "Test-Timer"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel(1, TimeUnit.MILLISECONDS, 0, Runnable::run, "Test-Timer"));
+    }
+
+    @Test
+    void runsTaskNoSoonerThanItsDelay() throws Exception {
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run, "Test-Timer");
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] firedAt = new long[1];
+
+        Timeout timeout = timingWheel.schedule(() -> {
+            firedAt[0] = System.nanoTime();
+            fired.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(firedAt[0] - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void runsTasksInDeadlineOrderAcrossRevolutions() throws Exception {
+        // Four buckets of 5ms go round every 20ms, so most of these wait several rounds
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 4, Runnable::run, "Test-Timer");
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        int[] delays = {120, 15, 75, 45, 150, 0, 90};
+        CountDownLatch fired = new CountDownLatch(delays.length);
+
+        for (int delay : delays) {
+            timingWheel.schedule(() -> {
+                order.add(delay);
+                fired.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 15, 45, 75, 90, 120, 150), order);
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws Exception {
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run, "Test-Timer");
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        Timeout timeout = timingWheel.schedule(() -> ran.set(true), 30, TimeUnit.MILLISECONDS);
+        Timeout linked = timingWheel.schedule(() -> ran.set(true), 60, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+
+        // Give the second one time to be linked into its bucket before cancelling it
+        Thread.sleep(20);
+        assertTrue(linked.cancel());
+        timingWheel.schedule(later::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    void pastDeadlinesRunOnTheNextTick() throws Exception {
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run, "Test-Timer");
+        CountDownLatch fired = new CountDownLatch(2);
+
+        timingWheel.schedule(fired::countDown, 0, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(fired::countDown, -10, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+        assertEquals(0, timingWheel.pendingTimeouts());
+    }
+
+    @Test
+    void failedDispatchDoesNotStopTheWheel() throws Exception {
+        AtomicInteger dispatched = new AtomicInteger();
+        Executor executor = task -> {
+            if (dispatched.getAndIncrement() == 0) {
+                throw new IllegalStateException("rejected");
+            }
+            task.run();
+        };
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, executor, "Test-Timer");
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timingWheel.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(fired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void refusesTasksOnceStopped() {
+        timingWheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run, "Test-Timer");
+        timingWheel.stop();
+
+        assertThrows(IllegalStateException.class,
+                () -> timingWheel.schedule(() -> {
+                }, 10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -521,7 +521,11 @@ export default function DealerView({ gameId }: DealerViewProps) {
         </CardContent>
       </Card>
 
-      <GameActions actions={gameRoom.actions || []} />
+      <GameActions
+        actions={gameRoom.actions || []}
+        events={gameRoom.events || []}
+        players={gameRoom.players}
+      />
     </div>
   );
 }
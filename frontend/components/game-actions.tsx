@@ -2,14 +2,21 @@
 "use client";
 
 import { Card, CardHeader, CardTitle, CardContent } from "@/components/ui/card";
-import { GameActionType } from "@/lib/types";
+import { renderGameEvent } from "@/lib/game-events";
+import { GameActionType, GameEventType, PlayerType } from "@/lib/types";
 import { useEffect, useRef } from "react";
 
 interface GameActionsProps {
   actions: GameActionType[];
+  events?: GameEventType[];
+  players?: PlayerType[];
 }
 
-export default function GameActions({ actions = [] }: GameActionsProps) {
+export default function GameActions({
+  actions = [],
+  events = [],
+  players = [],
+}: GameActionsProps) {
   // Reference to the content div for scrolling
   const contentRef = useRef<HTMLDivElement>(null);
 
@@ -18,15 +25,20 @@ export default function GameActions({ actions = [] }: GameActionsProps) {
     if (contentRef.current) {
       contentRef.current.scrollTop = contentRef.current.scrollHeight;
     }
-  }, [actions]);
+  }, [actions, events]);
 
-  // Sort actions chronologically
-  const sortedActions = [...actions].sort((a, b) => {
-    if (!a.timestamp && !b.timestamp) return 0;
-    if (!a.timestamp) return -1;
-    if (!b.timestamp) return 1;
-    return new Date(a.timestamp).getTime() - new Date(b.timestamp).getTime();
-  });
+  // Log events arrive compact; render them as LOG entries alongside the actions
+  const logActions: GameActionType[] = events.map((event) => ({
+    type: "LOG",
+    time: event[3],
+    seq: event[4],
+    message: renderGameEvent(event, players),
+  }));
+
+  // Actions and events share one per-room sequence, which gives their exact order
+  const sortedActions = [...actions, ...logActions].sort(
+    (a, b) => (a.seq ?? 0) - (b.seq ?? 0),
+  );
 
   const formatAction = (action: GameActionType) => {
     switch (action.type) {
@@ -61,9 +73,8 @@ export default function GameActions({ actions = [] }: GameActionsProps) {
     }
   };
 
-  const formatTime = (timestamp: string) => {
-    if (!timestamp) return "";
-    const date = new Date(timestamp);
+  const formatTime = (time: number) => {
+    const date = new Date(time);
     return date.toLocaleTimeString([], {
       hour: "2-digit",
       minute: "2-digit",
@@ -95,7 +106,7 @@ export default function GameActions({ actions = [] }: GameActionsProps) {
                 className={`pb-1 ${action.type === "LOG" ? "text-muted-foreground text-xs" : ""}`}
               >
                 <span className="text-xs text-muted-foreground mr-2 inline-block w-20">
-                  {action.timestamp ? formatTime(action.timestamp) : ""}
+                  {action.time ? formatTime(action.time) : ""}
                 </span>
                 {formatAction(action)}
               </li>
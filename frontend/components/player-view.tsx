@@ -176,9 +176,9 @@ export default function PlayerView({ gameId }: PlayerViewProps) {
     if (!gameRoom || !screenReaderEnabled) return;
     const actions = (gameRoom.actions ?? []) as GameActionType[];
     const newActions = actions.filter((action) => {
-      if (action.timestamp === undefined || action.playerId === undefined)
+      if (action.seq === undefined || action.playerId === undefined)
         return false;
-      const actionId = `${action.type}-${action.playerId}-${action.timestamp}`;
+      const actionId = `${action.type}-${action.playerId}-${action.seq}`;
       return (
         !announcedActionIds.has(actionId) &&
         action.type !== "LOG" &&
@@ -226,7 +226,7 @@ export default function PlayerView({ gameId }: PlayerViewProps) {
               actionText = action.type.toLowerCase();
           }
           speak(`${playerPrefix} ${actionText}`);
-          const actionId = `${action.type}-${action.playerId}-${action.timestamp}`;
+          const actionId = `${action.type}-${action.playerId}-${action.seq}`;
           updatedAnnouncedActions.add(actionId);
         }
       });
@@ -0,0 +1,146 @@
+// frontend/lib/game-events.ts
+// Renders the compact game log events sent by the backend (model/GameEventType.java)
+import { GameEventType, PlayerType } from "@/lib/types";
+
+const SUITS = ["HEARTS", "DIAMONDS", "CLUBS", "SPADES"];
+const RANKS = [
+  "TWO",
+  "THREE",
+  "FOUR",
+  "FIVE",
+  "SIX",
+  "SEVEN",
+  "EIGHT",
+  "NINE",
+  "TEN",
+  "JACK",
+  "QUEEN",
+  "KING",
+  "ACE",
+];
+const STATES = [
+  "WAITING",
+  "STARTED",
+  "PREFLOP",
+  "FLOP",
+  "TURN",
+  "RIVER",
+  "SHOWDOWN",
+  "ENDED",
+];
+const ACTIONS = [
+  "JOIN",
+  "LEAVE",
+  "CHECK",
+  "BET",
+  "CALL",
+  "RAISE",
+  "FOLD",
+  "SCAN_CARD",
+  "DEAL_CARDS",
+  "START_HAND",
+  "SMALL_BLIND",
+  "BIG_BLIND",
+  "LOG",
+];
+
+// Keep in sync with GameEventType.java
+const TEMPLATES: Record<string, string> = {
+  HAND_STARTED:
+    "New hand started. Button: {seat}, SB: {seat:0}, BB: {seat:1}. Waiting for cards to be dealt.",
+  CARD_SCANNED:
+    "Card scanned: {card:0} in state: {state:1}, waiting for cards: {bool:2}",
+  SCAN_NOT_WAITING:
+    "ERROR: Card scanned while not waiting for cards. Current state: {state:0}",
+  CARD_DEALT: "Card dealt to {seat}: {card:0}",
+  PREFLOP_BETTING:
+    "All players have cards. Pre-flop betting begins. UTG to act first.",
+  FLOP_CARD: "Flop card {0}/3: {card:1}",
+  ALL_IN_TO_TURN: "All players are all-in. Proceeding directly to turn.",
+  FLOP_BETTING: "Flop complete. Flop betting begins.",
+  TURN_CARD: "Turn card: {card:0}",
+  TURN_CARD_ALL_IN:
+    "Turn card: {card:0}. All players are all-in. Proceeding directly to river.",
+  TURN_BETTING: "Turn betting begins.",
+  RIVER_CARD: "River card: {card:0}",
+  ALL_IN_TO_SHOWDOWN:
+    "All players are all-in. Proceeding directly to showdown.",
+  RIVER_BETTING: "River betting begins.",
+  ROUND_COMPLETE: "Betting round complete in state: {state:0}",
+  ALL_IN_FAST_FORWARD:
+    "All players are all-in. Fast-forwarding to showdown after dealing community cards.",
+  MOVING_TO_FLOP: "Moving to FLOP stage. Waiting for flop cards.",
+  MOVING_TO_TURN: "Moving to TURN stage. Waiting for turn card.",
+  MOVING_TO_RIVER: "Moving to RIVER stage. Waiting for river card.",
+  MOVING_TO_SHOWDOWN: "Moving to SHOWDOWN stage. Determining winner.",
+  HAND_COMPLETE: "Hand complete. Waiting for dealer to start new hand.",
+  SHOWDOWN_NO_PLAYERS: "Error: No active players at showdown!",
+  SHOWDOWN_HAND: "SHOWDOWN: {seat} shows {card:0}, {card:1} - {hand:2}",
+  SHOWDOWN_WIN: "SHOWDOWN: {seat} wins {0} chips with {hand:1}.",
+  LAST_PLAYER_STANDING: "{seat} wins {0} chips as the last player standing.",
+  TOPPED_UP: "{seat} ran out of chips and has been topped up to {0} chips.",
+  ACTION_WHILE_WAITING:
+    "ERROR: Player action '{action:0}' attempted while waiting for cards. Action ignored.",
+  FAKE_PLAYER_ADDED: "Fake player '{seat}' added to the game",
+  DISBANDED: "Dealer has disbanded the game. All players removed.",
+  IDLE_CLOSED: "Room closed after being idle for too long.",
+  REWOUND: "Dealer undid the last {0} action(s).",
+};
+
+// Mirrors PokerHandEvaluator.getRankCategoryString
+const handCategory = (value: number) => {
+  if (value <= 0) return "Unknown";
+  if (value > 6185) return "High Card";
+  if (value > 3325) return "One Pair";
+  if (value > 2467) return "Two Pair";
+  if (value > 1609) return "Three of a Kind";
+  if (value > 1599) return "Straight";
+  if (value > 322) return "Flush";
+  if (value > 166) return "Full House";
+  if (value > 10) return "Four of a Kind";
+  if (value > 3) return "Straight Flush";
+  return "Royal Flush";
+};
+
+// Names logged with the event (names[0] for the seat, names[1 + i] for args[i]) stay
+// right after players leave; older events fall back to the current seating
+const seatName = (
+  players: PlayerType[],
+  names: (string | null)[] | null | undefined,
+  nameIndex: number,
+  seat: number,
+) => names?.[nameIndex] ?? players[seat]?.name ?? `Seat ${seat + 1}`;
+
+export function renderGameEvent(
+  event: GameEventType,
+  players: PlayerType[],
+): string {
+  const [type, seat, args, , , names] = event;
+  const template = TEMPLATES[type];
+  if (!template) return type;
+
+  return template.replace(/\{(\w+)(?::(\d+))?\}/g, (_, kind, index) => {
+    if (kind === "seat" && index === undefined)
+      return seatName(players, names, 0, seat);
+
+    const value = args[Number(index ?? kind)];
+    if (value === undefined) return "?";
+
+    switch (kind) {
+      case "seat":
+        return seatName(players, names, 1 + Number(index), value);
+      case "card":
+        return `${RANKS[value % 13]} of ${SUITS[Math.floor(value / 13)]}`;
+      case "state":
+        return STATES[value] ?? String(value);
+      case "action":
+        return ACTIONS[value] ?? String(value);
+      case "hand":
+        return handCategory(value);
+      case "bool":
+        return String(value !== 0);
+      default:
+        return String(value);
+    }
+  });
+}
@@ -28,11 +28,22 @@ export type GameActionType = {
   playerName?: string;
   type: string;
   amount?: number;
-  timestamp?: string;
+  seq?: number; // Order within the room's history
+  time?: number; // Epoch millis
   card?: CardType;
   message?: string;
 };
 
+// Compact game log entry: [type, seat, args, epochMillis, seq, names]; see lib/game-events.ts
+export type GameEventType = [
+  string,
+  number,
+  number[],
+  number,
+  number,
+  (string | null)[] | null,
+];
+
 export type GameRoomType = {
   id: string;
   players: PlayerType[];
@@ -51,6 +62,7 @@ export type GameRoomType = {
   currentPlayerIndex: number;
   pot: number;
   actions?: GameActionType[];
+  events?: GameEventType[];
   bets?: Record<string, number>;
   currentBet?: number;
   smallBlindPosition: number;
@@ -18,15 +18,21 @@ export const connectWebSocket = (
 
   // Determine if we need to use wss:// or ws:// based on the current protocol
   const wsProtocol = window.location.protocol === "https:" ? "wss://" : "ws://";
-  const baseUrl = backendUrl.replace(/^https?:\/\//, "");
 
-  stompClient = new Client({
-    brokerURL: `${wsProtocol}${baseUrl}/ws-poker`,
+  const client = new Client({
     connectHeaders: {},
     reconnectDelay: 5000,
     heartbeatIncoming: 4000,
     heartbeatOutgoing: 4000,
   });
+  stompClient = client;
+
+  // Room updates are only broadcast by the node that owns the room, so look it up on every
+  // (re)connect; a reconnect after that node goes away lands on the new owner
+  client.beforeConnect = async () => {
+    const ownerUrl = await resolveOwnerUrl(backendUrl, gameId);
+    client.brokerURL = `${wsProtocol}${ownerUrl.replace(/^https?:\/\//, "")}/ws-poker`;
+  };
 
   stompClient.onConnect = () => {
     console.log("Connected to WebSocket");
@@ -60,6 +66,22 @@ export const connectWebSocket = (
   stompClient.activate();
 };
 
+const resolveOwnerUrl = async (backendUrl: string, gameId: string) => {
+  try {
+    const response = await fetch(`${backendUrl}/api/cluster/owner/${gameId}`);
+    // 204 means the backend isn't clustered
+    if (response.status === 200) {
+      const owner = (await response.json()) as { httpUrl?: string };
+      if (owner.httpUrl) {
+        return owner.httpUrl;
+      }
+    }
+  } catch (err) {
+    console.error("Error resolving room owner", err);
+  }
+  return backendUrl;
+};
+
 export const disconnectWebSocket = () => {
   if (stompClient) {
     if (stompClient.connected) {